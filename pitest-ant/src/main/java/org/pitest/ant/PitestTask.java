@@ -269,4 +269,28 @@ public class PitestTask extends Task { // NO_UCD (test only)
   public void setUseClasspathJar(String value) {
     this.setOption(ConfigOption.USE_CLASSPATH_JAR, value);
   }
+
+  public void setMinionReuseLimit(String value) {
+    this.setOption(ConfigOption.MINION_REUSE_LIMIT, value);
+  }
+
+  public void setParallelCoverage(String value) {
+    this.setOption(ConfigOption.PARALLEL_COVERAGE, value);
+  }
+
+  public void setTestPrioritiser(String value) {
+    this.setOption(ConfigOption.TEST_PRIORITISER, value);
+  }
+
+  public void setDynamicDispatch(String value) {
+    this.setOption(ConfigOption.DYNAMIC_DISPATCH, value);
+  }
+
+  public void setWorkerAgents(String value) {
+    this.setOption(ConfigOption.WORKER_AGENTS, value);
+  }
+
+  public void setWorkerAgentSecret(String value) {
+    this.setOption(ConfigOption.WORKER_AGENT_SECRET, value);
+  }
 }
\ No newline at end of file
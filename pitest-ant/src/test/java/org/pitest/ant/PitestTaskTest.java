@@ -482,6 +482,48 @@ public class PitestTaskTest {
     verify(this.arg).setValue("--useClasspathJar=true");
   }
 
+  @Test
+  public void shouldPassMinionReuseLimitToJavaTask() {
+    this.pitestTask.setMinionReuseLimit("42");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--minionReuseLimit=42");
+  }
+
+  @Test
+  public void shouldPassParallelCoverageFlagToJavaTask() {
+    this.pitestTask.setParallelCoverage("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--parallelCoverage=true");
+  }
+
+  @Test
+  public void shouldPassDynamicDispatchFlagToJavaTask() {
+    this.pitestTask.setDynamicDispatch("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--dynamicDispatch=true");
+  }
+
+  @Test
+  public void shouldPassWorkerAgentsToJavaTask() {
+    this.pitestTask.setWorkerAgents("hosta:8765,hostb:8766");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--workerAgents=hosta:8765,hostb:8766");
+  }
+
+  @Test
+  public void shouldPassWorkerAgentSecretToJavaTask() {
+    this.pitestTask.setWorkerAgentSecret("s3cret");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--workerAgentSecret=s3cret");
+  }
+
+  @Test
+  public void shouldPassTestPrioritiserToJavaTask() {
+    this.pitestTask.setTestPrioritiser("killHistory");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--testPrioritiser=killHistory");
+  }
+
   @Test
   public void shouldPassMutationMatrixFlagToJavaTask() {
     this.pitestTask.setFullMutationMatrix("true");
@@ -0,0 +1,109 @@
+package org.pitest.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.util.PitError;
+
+/**
+ * A fixed set of classes for the benchmarks to work on.
+ *
+ * <p>
+ * The generated corpus gives large, uniform and reproducible input. The
+ * samples corpus is made of the classes of the maven verification sample
+ * projects, the com.example samples from pitest-entry's tests and some of
+ * pitest's own larger classes, to give input shaped like real compiler output.
+ */
+public final class ClassCorpus implements ClassByteArraySource {
+
+  public static final String        GENERATED = "generated";
+  public static final String        SAMPLES   = "samples";
+
+  private static final long         SEED      = 42;
+
+  private static final List<String> SAMPLE_CLASSES = Arrays.asList(
+      // compiled from pitest-maven-verification/src/test/resources
+      "com.example.Covered",
+      "com.example.CoveredByMultipleThreads",
+      "com.example.SomeCode",
+      "com.example.ValueHolder",
+      "org.example.SystemUnderTest",
+      "org.example1.SystemUnderTest",
+      "org.example2.SystemUnderTest",
+      "sample.SomeClass",
+      "sources.DiscoveredClass",
+      // from the pitest-entry test jar
+      "com.example.CoveredButOnlyPartiallyTested",
+      "com.example.FullyCoveredTestee",
+      "com.example.HasMutationsInFinallyBlock",
+      "com.example.MultiBlockCoverageTestee",
+      "com.example.MultipleMutations",
+      "com.example.MutationsInNestedClasses",
+      "com.example.mutatablecodeintest.Mutee",
+      // pitest's own classes
+      "org.pitest.classinfo.Repository",
+      "org.pitest.coverage.CoverageData",
+      "org.pitest.coverage.execute.Receive",
+      "org.pitest.mutationtest.build.MutationSource",
+      "org.pitest.mutationtest.engine.gregor.GregorMutater",
+      "org.pitest.mutationtest.engine.gregor.MethodMutationContext",
+      "org.pitest.mutationtest.tooling.MutationCoverage",
+      "org.pitest.util.Glob");
+
+  private final Map<String, byte[]> classes;
+
+  private ClassCorpus(Map<String, byte[]> classes) {
+    this.classes = classes;
+  }
+
+  public static ClassCorpus named(String name) {
+    if (GENERATED.equals(name)) {
+      return generated(100, 10, 8);
+    }
+    if (SAMPLES.equals(name)) {
+      return samples();
+    }
+    throw new PitError("Unknown corpus " + name);
+  }
+
+  public static ClassCorpus generated(int classes, int methodsPerClass,
+      int blocksPerMethod) {
+    return new ClassCorpus(new CorpusGenerator(SEED).generate(classes,
+        methodsPerClass, blocksPerMethod));
+  }
+
+  public static ClassCorpus samples() {
+    final ClassByteArraySource source = ClassloaderByteArraySource
+        .fromContext();
+    final Map<String, byte[]> classes = new LinkedHashMap<>();
+    for (final String each : SAMPLE_CLASSES) {
+      classes.put(each, source.getBytes(each)
+          .orElseThrow(() -> new PitError("Could not find " + each)));
+    }
+    return new ClassCorpus(classes);
+  }
+
+  /**
+   * @return names of the classes in the corpus in com.example.Foo format
+   */
+  public Collection<String> names() {
+    return Collections.unmodifiableSet(this.classes.keySet());
+  }
+
+  public byte[] bytesFor(String name) {
+    return this.classes.get(name);
+  }
+
+  @Override
+  public Optional<byte[]> getBytes(String clazz) {
+    return Optional.ofNullable(this.classes.get(clazz.replace('/', '.')));
+  }
+
+}
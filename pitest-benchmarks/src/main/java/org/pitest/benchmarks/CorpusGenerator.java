@@ -0,0 +1,125 @@
+package org.pitest.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Generates classes shaped like typical application code: many short
+ * methods, each a chain of arithmetic blocks separated by conditional
+ * branches, with a line number per block.
+ *
+ * <p>
+ * Output is fully determined by the seed so that runs are comparable.
+ */
+class CorpusGenerator {
+
+  private static final String PACKAGE    = "org/pitest/benchmarks/generated/";
+
+  private static final int[]  ARITHMETIC = { Opcodes.IADD, Opcodes.ISUB,
+      Opcodes.IMUL, Opcodes.IDIV, Opcodes.IREM, Opcodes.IAND, Opcodes.IOR,
+      Opcodes.IXOR                      };
+
+  private static final int[]  BRANCHES   = { Opcodes.IF_ICMPEQ,
+      Opcodes.IF_ICMPNE, Opcodes.IF_ICMPLT, Opcodes.IF_ICMPGE,
+      Opcodes.IF_ICMPGT, Opcodes.IF_ICMPLE };
+
+  private final Random        random;
+
+  CorpusGenerator(long seed) {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * @return bytes of each generated class keyed by name in com.example.Foo
+   *         format
+   */
+  Map<String, byte[]> generate(int classes, int methodsPerClass,
+      int blocksPerMethod) {
+    final Map<String, byte[]> corpus = new LinkedHashMap<>();
+    for (int i = 0; i != classes; i++) {
+      final String name = PACKAGE + "Generated" + i;
+      corpus.put(name.replace('/', '.'),
+          generateClass(name, methodsPerClass, blocksPerMethod));
+    }
+    return corpus;
+  }
+
+  private byte[] generateClass(String name, int methods, int blocks) {
+    // only int locals are used, so frames can be computed without loading
+    // any types
+    final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+    cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null,
+        "java/lang/Object", null);
+    cw.visitSource(name.substring(name.lastIndexOf('/') + 1) + ".java", null);
+
+    final MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+        "()V", null, null);
+    init.visitCode();
+    init.visitVarInsn(Opcodes.ALOAD, 0);
+    init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>",
+        "()V", false);
+    init.visitInsn(Opcodes.RETURN);
+    init.visitMaxs(0, 0);
+    init.visitEnd();
+
+    int line = 1;
+    for (int i = 0; i != methods; i++) {
+      generateMethod(cw, name, "method" + i, line, blocks);
+      line = line + blocks + 2;
+    }
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private void generateMethod(ClassWriter cw, String owner, String name,
+      int firstLine, int blocks) {
+    final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, name, "(II)I",
+        null, null);
+    mv.visitCode();
+    int line = firstLine;
+    for (int i = 0; i != blocks; i++) {
+      final Label start = new Label();
+      mv.visitLabel(start);
+      mv.visitLineNumber(line++, start);
+      mv.visitVarInsn(Opcodes.ILOAD, 1);
+      mv.visitVarInsn(Opcodes.ILOAD, 2);
+      mv.visitInsn(pick(ARITHMETIC));
+      mv.visitVarInsn(Opcodes.ISTORE, 1);
+
+      final Label skip = new Label();
+      mv.visitVarInsn(Opcodes.ILOAD, 1);
+      mv.visitIntInsn(Opcodes.BIPUSH, this.random.nextInt(100));
+      mv.visitJumpInsn(pick(BRANCHES), skip);
+      mv.visitIincInsn(2, 1 + this.random.nextInt(5));
+      if (this.random.nextBoolean()) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ILOAD, 2);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, name, "(II)I", false);
+        mv.visitVarInsn(Opcodes.ISTORE, 2);
+      }
+      mv.visitLabel(skip);
+    }
+    final Label end = new Label();
+    mv.visitLabel(end);
+    mv.visitLineNumber(line, end);
+    mv.visitVarInsn(Opcodes.ILOAD, 1);
+    mv.visitVarInsn(Opcodes.ILOAD, 2);
+    mv.visitInsn(Opcodes.IADD);
+    mv.visitInsn(Opcodes.IRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  private int pick(int[] opcodes) {
+    return opcodes[this.random.nextInt(opcodes.length)];
+  }
+
+}
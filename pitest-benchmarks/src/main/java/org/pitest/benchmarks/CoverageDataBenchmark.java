@@ -0,0 +1,128 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassFilter;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
+import org.pitest.classpath.PathFilter;
+import org.pitest.classpath.ProjectClassPaths;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.InstructionLocation;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+
+/**
+ * Cost of the coverage lookups made when assigning tests to mutants, against
+ * coverage shaped like that recorded for the generated corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CoverageDataBenchmark {
+
+  private static final int          CLASSES                = 100;
+  private static final int          METHODS                = 10;
+  private static final int          BLOCKS                 = 8;
+  private static final int          INSTRUCTIONS_PER_BLOCK = 6;
+
+  @Param({ "50", "1000" })
+  private int                       tests;
+
+  @Param({ "5" })
+  private int                       testsPerBlock;
+
+  private CoverageData              coverage;
+  private List<ClassName>           classes;
+  private List<InstructionLocation> instructions;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    final List<TestInfo> allTests = new ArrayList<>();
+    for (int i = 0; i != this.tests; i++) {
+      allTests.add(new TestInfo("com.example.Test" + (i / 10),
+          "com.example.Test" + (i / 10) + ".test" + i, random.nextInt(100),
+          Optional.empty(), 1 + random.nextInt(200)));
+    }
+
+    this.classes = new ArrayList<>();
+    this.instructions = new ArrayList<>();
+    final Map<InstructionLocation, Set<TestInfo>> recorded = new HashMap<>();
+    for (int c = 0; c != CLASSES; c++) {
+      final ClassName clazz = ClassName
+          .fromString("org.pitest.benchmarks.generated.Generated" + c);
+      this.classes.add(clazz);
+      for (int m = 0; m != METHODS; m++) {
+        final Location location = new Location(clazz,
+            MethodName.fromString("method" + m), "(II)I");
+        for (int b = 0; b != BLOCKS; b++) {
+          final int first = b * INSTRUCTIONS_PER_BLOCK;
+          final BlockLocation block = new BlockLocation(location, b, first,
+              first + INSTRUCTIONS_PER_BLOCK - 1);
+          final Set<TestInfo> coveringTests = new HashSet<>();
+          for (int t = 0; t != this.testsPerBlock; t++) {
+            coveringTests.add(allTests.get(random.nextInt(this.tests)));
+          }
+          for (int i = first; i != first + INSTRUCTIONS_PER_BLOCK; i++) {
+            final InstructionLocation instruction = new InstructionLocation(
+                block, i);
+            recorded.put(instruction, coveringTests);
+            this.instructions.add(instruction);
+          }
+        }
+      }
+    }
+
+    this.coverage = new CoverageData(emptyCodeSource(),
+        clazz -> Collections.emptyMap(), recorded);
+  }
+
+  @Benchmark
+  public void testsForEachInstruction(Blackhole bh) {
+    for (final InstructionLocation each : this.instructions) {
+      bh.consume(this.coverage.getTestsForInstructionLocation(each));
+    }
+  }
+
+  @Benchmark
+  public void testsForEachClass(Blackhole bh) {
+    for (final ClassName each : this.classes) {
+      bh.consume(this.coverage.getTestsForClass(each));
+    }
+  }
+
+  private static CodeSource emptyCodeSource() {
+    return new CodeSource(new ProjectClassPaths(new ClassPath(),
+        new ClassFilter(s -> false, s -> false),
+        new PathFilter(r -> false, r -> false)));
+  }
+
+}
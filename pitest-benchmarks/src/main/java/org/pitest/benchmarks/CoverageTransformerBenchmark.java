@@ -0,0 +1,69 @@
+package org.pitest.benchmarks;
+
+import java.lang.instrument.IllegalClassFormatException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.coverage.CoverageTransformer;
+import org.pitest.coverage.analysis.Block;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+/**
+ * Cost of adding coverage probes to every class in the corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CoverageTransformerBenchmark {
+
+  @Param({ ClassCorpus.GENERATED, ClassCorpus.SAMPLES })
+  private String              corpusName;
+
+  private ClassCorpus         corpus;
+  private CoverageTransformer transformer;
+  private ClassLoader         loader;
+
+  @Setup
+  public void setUp() {
+    // registrations are normally sent to the coordinator
+    CodeCoverageStore.init(new InvokeReceiver() {
+      @Override
+      public void registerClass(int id, String className) {
+      }
+
+      @Override
+      public void registerProbes(int classId, String methodName,
+          String methodDesc, int firstProbe, int lastProbe,
+          Iterable<Block> blocks) {
+      }
+    });
+    this.corpus = ClassCorpus.named(this.corpusName);
+    this.transformer = new CoverageTransformer(s -> true);
+    this.loader = getClass().getClassLoader();
+  }
+
+  @Benchmark
+  public void transform(Blackhole bh) throws IllegalClassFormatException {
+    for (final String each : this.corpus.names()) {
+      bh.consume(this.transformer.transform(this.loader,
+          each.replace('.', '/'), null, null, this.corpus.bytesFor(each)));
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+/**
+ * Cost of finding every mutant in the corpus and of creating each one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MutaterBenchmark {
+
+  // each mutant requires its class to be read again, so only a spread of
+  // them are created
+  private static final int         MAX_MUTANTS = 1000;
+
+  @Param({ ClassCorpus.GENERATED, ClassCorpus.SAMPLES })
+  private String                   corpusName;
+
+  private ClassCorpus              corpus;
+  private GregorMutater            mutater;
+  private List<MutationIdentifier> mutants;
+
+  @Setup
+  public void setUp() {
+    this.corpus = ClassCorpus.named(this.corpusName);
+    this.mutater = new GregorMutater(this.corpus, m -> true,
+        Mutator.newDefaults());
+    final List<MutationIdentifier> all = new ArrayList<>();
+    for (final String each : this.corpus.names()) {
+      for (final MutationDetails details : this.mutater
+          .findMutations(ClassName.fromString(each))) {
+        all.add(details.getId());
+      }
+    }
+    final int step = 1 + (all.size() / MAX_MUTANTS);
+    this.mutants = new ArrayList<>();
+    for (int i = 0; i < all.size(); i = i + step) {
+      this.mutants.add(all.get(i));
+    }
+  }
+
+  @Benchmark
+  public void findMutations(Blackhole bh) {
+    for (final String each : this.corpus.names()) {
+      bh.consume(this.mutater.findMutations(ClassName.fromString(each)));
+    }
+  }
+
+  @Benchmark
+  public void getMutation(Blackhole bh) {
+    for (final MutationIdentifier each : this.mutants) {
+      bh.consume(this.mutater.getMutation(each));
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+package org.pitest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.Repository;
+
+/**
+ * Cost of fetching class information for every class in the corpus, both
+ * when it must be read from bytes and when it has already been seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class RepositoryBenchmark {
+
+  @Param({ ClassCorpus.GENERATED, ClassCorpus.SAMPLES })
+  private String          corpusName;
+
+  private ClassCorpus     corpus;
+  private List<ClassName> names;
+  private Repository      warm;
+
+  @Setup
+  public void setUp() {
+    this.corpus = ClassCorpus.named(this.corpusName);
+    this.names = new ArrayList<>();
+    for (final String each : this.corpus.names()) {
+      this.names.add(ClassName.fromString(each));
+    }
+    this.warm = new Repository(this.corpus);
+    for (final ClassName each : this.names) {
+      this.warm.fetchClass(each);
+    }
+  }
+
+  @Benchmark
+  public void fetchUnseenClasses(Blackhole bh) {
+    final Repository repository = new Repository(this.corpus);
+    for (final ClassName each : this.names) {
+      bh.consume(repository.fetchClass(each));
+    }
+  }
+
+  @Benchmark
+  public void fetchKnownClasses(Blackhole bh) {
+    for (final ClassName each : this.names) {
+      bh.consume(this.warm.fetchClass(each));
+    }
+  }
+
+}
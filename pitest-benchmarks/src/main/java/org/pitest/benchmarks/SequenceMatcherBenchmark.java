@@ -0,0 +1,95 @@
+package org.pitest.benchmarks;
+
+import static org.pitest.bytecode.analysis.InstructionMatchers.aConditionalJump;
+import static org.pitest.bytecode.analysis.InstructionMatchers.anyInstruction;
+import static org.pitest.bytecode.analysis.InstructionMatchers.methodCall;
+import static org.pitest.bytecode.analysis.InstructionMatchers.notAnInstruction;
+import static org.pitest.bytecode.analysis.InstructionMatchers.opCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.sequence.QueryParams;
+import org.pitest.sequence.QueryStart;
+import org.pitest.sequence.SequenceMatcher;
+
+/**
+ * Cost of running instruction sequence queries, of the kind used by the
+ * filtering interceptors, over every method in the corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class SequenceMatcherBenchmark {
+
+  // matches most methods part way through
+  private static final SequenceMatcher<AbstractInsnNode> BRANCH_THEN_CALL = QueryStart
+      .any(AbstractInsnNode.class)
+      .then(aConditionalJump())
+      .zeroOrMore(QueryStart.match(anyInstruction()))
+      .then(methodCall())
+      .zeroOrMore(QueryStart.match(anyInstruction()))
+      .compile(QueryParams.params(AbstractInsnNode.class)
+          .withIgnores(notAnInstruction()));
+
+  // never matches, so every instruction must be examined
+  private static final SequenceMatcher<AbstractInsnNode> NEVER = QueryStart
+      .any(AbstractInsnNode.class)
+      .then(opCode(Opcodes.MONITORENTER))
+      .then(opCode(Opcodes.MONITOREXIT))
+      .zeroOrMore(QueryStart.match(anyInstruction()))
+      .compile(QueryParams.params(AbstractInsnNode.class)
+          .withIgnores(notAnInstruction()));
+
+  @Param({ ClassCorpus.GENERATED, ClassCorpus.SAMPLES })
+  private String                        corpusName;
+
+  private List<List<AbstractInsnNode>>  methods;
+
+  @Setup
+  public void setUp() {
+    final ClassCorpus corpus = ClassCorpus.named(this.corpusName);
+    this.methods = new ArrayList<>();
+    for (final String each : corpus.names()) {
+      for (final MethodTree method : ClassTree.fromBytes(corpus.bytesFor(each))
+          .methods()) {
+        this.methods.add(method.instructions());
+      }
+    }
+  }
+
+  @Benchmark
+  public void matching(Blackhole bh) {
+    for (final List<AbstractInsnNode> each : this.methods) {
+      bh.consume(BRANCH_THEN_CALL.matches(each));
+    }
+  }
+
+  @Benchmark
+  public void nonMatching(Blackhole bh) {
+    for (final List<AbstractInsnNode> each : this.methods) {
+      bh.consume(NEVER.matches(each));
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.AnalysisDaemon;
+import org.pitest.mutationtest.tooling.AnalysisDaemonClient;
+import org.pitest.util.PitError;
+
+/**
+ * Entry point for running analyses within a long lived JVM.
+ *
+ * <pre>
+ * MutationCoverageDaemon --serve &lt;port&gt; [--retainHistory]
+ * MutationCoverageDaemon --run &lt;port&gt; [command line options]
+ * MutationCoverageDaemon --shutdown &lt;port&gt;
+ * </pre>
+ *
+ * The daemon listens on the loopback interface only. On start it writes a
+ * random token to a file in the user's home directory that only that user may
+ * read, and refuses requests that do not send it. Analyses are run from the
+ * directory the client was started in, and relative paths in the options are
+ * resolved against it.
+ *
+ * With --retainHistory, analyses that do not configure a history are given
+ * one that lasts for the life of the daemon, so unchanged mutants are not
+ * analysed again.
+ */
+public class MutationCoverageDaemon {
+
+  private static final String RETAIN_HISTORY = "--retainHistory";
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.out.println(
+          "Usage: MutationCoverageDaemon --serve|--run|--shutdown <port> [options]");
+      return;
+    }
+
+    final int port = Integer.parseInt(args[1]);
+    if ("--serve".equals(args[0])) {
+      serve(port, Arrays.asList(args).contains(RETAIN_HISTORY));
+      return;
+    }
+
+    final AnalysisDaemonClient client = new AnalysisDaemonClient(
+        InetAddress.getLoopbackAddress().getHostAddress(), port,
+        AnalysisDaemon.readToken(tokenFile(port)));
+    final AnalysisDaemonClient.Response response;
+    if ("--shutdown".equals(args[0])) {
+      response = client.shutdown();
+    } else {
+      response = client.run(new File(System.getProperty("user.dir")),
+          Arrays.copyOfRange(args, 2, args.length));
+    }
+    System.out.println(response.getMessage());
+    if (!response.isOk()) {
+      System.exit(1);
+    }
+  }
+
+  private static void serve(int port, boolean retainHistory)
+      throws IOException {
+    final PluginServices plugins = PluginServices.makeForContextLoader();
+    final OptionsParser parser = new OptionsParser(new PluginFilter(plugins));
+    final Function<String[], ReportOptions> options = a -> {
+      final ParseResult pr = parser.parse(a);
+      if (!pr.isOk()) {
+        throw new PitError(pr.getErrorMessage().get());
+      }
+      return pr.getOptions();
+    };
+
+    try (ServerSocket socket = new ServerSocket(port, 0,
+        InetAddress.getLoopbackAddress())) {
+      final File tokenFile = tokenFile(socket.getLocalPort());
+      final String token = AnalysisDaemon.writeToken(tokenFile);
+      try {
+        new AnalysisDaemon(socket, AnalysisDaemon.warmAnalysis(options,
+            plugins, retainHistory), token).serve();
+      } finally {
+        tokenFile.delete();
+      }
+    }
+  }
+
+  private static File tokenFile(int port) {
+    return new File(System.getProperty("user.home"),
+        ".pitest-daemon-" + port);
+  }
+
+}
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.pitest.functional.prelude.Prelude.printWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.pitest.functional.prelude.Prelude;
+import org.pitest.mutationtest.execute.WorkerAgent;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.ProcessArgs;
+
+/**
+ * Entry point for a worker agent that analyses mutations for a coordinator
+ * run with the workerAgents option.
+ *
+ * <pre>
+ * MutationTestWorkerAgent [bind address:]&lt;port&gt; &lt;classpath&gt; [child jvm args]
+ * </pre>
+ *
+ * The classpath must contain the same project classes and tests as the
+ * coordinator's. The agent listens on the loopback interface unless a bind
+ * address is given. It runs whatever a coordinator sends, so only serves
+ * coordinators that present the secret held in the
+ * {@value #SECRET_VARIABLE} environment variable, which must be set.
+ */
+public class MutationTestWorkerAgent {
+
+  static final String SECRET_VARIABLE = "PIT_WORKER_AGENT_SECRET";
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.out.println("Usage: MutationTestWorkerAgent [bind address:]<port>"
+          + " <classpath> [child jvm args]");
+      return;
+    }
+
+    final String secret = System.getenv(SECRET_VARIABLE);
+    if ((secret == null) || secret.isEmpty()) {
+      System.out.println(SECRET_VARIABLE
+          + " must be set to the secret coordinators will send");
+      return;
+    }
+
+    final String classPath = System.getProperty("java.class.path")
+        + File.pathSeparator + args[1];
+    final JavaAgent agent = new JarCreatingJarFinder();
+    final ProcessArgs processArgs = ProcessArgs.withClassPath(classPath)
+        .andLaunchOptions(new LaunchOptions(agent,
+            new DefaultJavaExecutableLocator(),
+            Arrays.asList(Arrays.copyOfRange(args, 2, args.length)),
+            new HashMap<String, String>()))
+        .andStdout(Prelude.noSideEffect(String.class))
+        .andStderr(printWith("stderr "));
+
+    final InetSocketAddress address = bindAddress(args[0]);
+    try (ServerSocket socket = new ServerSocket(address.getPort(), 0,
+        address.getAddress())) {
+      System.out.println("Worker agent listening on "
+          + socket.getLocalSocketAddress());
+      new WorkerAgent(socket, processArgs, secret).serve();
+    } finally {
+      agent.close();
+    }
+  }
+
+  static InetSocketAddress bindAddress(final String arg) {
+    if (arg.indexOf(':') == -1) {
+      return new InetSocketAddress(InetAddress.getLoopbackAddress(),
+          Integer.parseInt(arg.trim()));
+    }
+    return WorkerAgent.parseAddress(arg);
+  }
+
+}
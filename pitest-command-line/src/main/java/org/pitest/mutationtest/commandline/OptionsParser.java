@@ -48,6 +48,7 @@ import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
+import static org.pitest.mutationtest.config.ConfigOption.DYNAMIC_DISPATCH;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
@@ -64,11 +65,13 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPA
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_REUSE_LIMIT;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
+import static org.pitest.mutationtest.config.ConfigOption.PARALLEL_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
@@ -76,6 +79,7 @@ import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_PLUGIN;
+import static org.pitest.mutationtest.config.ConfigOption.TEST_PRIORITISER;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_STRENGTH_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
@@ -84,6 +88,8 @@ import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
+import static org.pitest.mutationtest.config.ConfigOption.WORKER_AGENTS;
+import static org.pitest.mutationtest.config.ConfigOption.WORKER_AGENT_SECRET;
 
 public class OptionsParser {
 
@@ -134,6 +140,12 @@ public class OptionsParser {
   private final OptionSpec<String>                   testPluginSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> useClasspathJarSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> minionReuseLimitSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> parallelCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> dynamicDispatchSpec;
+  private final OptionSpec<String>                   testPrioritiserSpec;
+  private final OptionSpec<String>                   workerAgentsSpec;
+  private final OptionSpec<String>                   workerAgentSecretSpec;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
 
@@ -259,6 +271,22 @@ public class OptionsParser {
     this.useClasspathJarSpec = parserAccepts(USE_CLASSPATH_JAR)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
         .describedAs("support large classpaths by creating a classpath jar");
+
+    this.parallelCoverageSpec = parserAccepts(PARALLEL_COVERAGE)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to split coverage collection between multiple threads");
+
+    this.dynamicDispatchSpec = parserAccepts(DYNAMIC_DISPATCH)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not threads should pull batches of mutations from a shared queue");
+
+    this.workerAgentsSpec = parserAccepts(WORKER_AGENTS).withRequiredArg()
+        .ofType(String.class).withValuesSeparatedBy(',')
+        .describedAs("comma separated list of host:port addresses of worker agents");
+
+    this.workerAgentSecretSpec = parserAccepts(WORKER_AGENT_SECRET)
+        .withRequiredArg().ofType(String.class)
+        .describedAs("shared secret the worker agents were started with");
     
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
@@ -326,7 +354,8 @@ public class OptionsParser {
 
     this.historyOutputSpec = parserAccepts(HISTORY_OUTPUT_LOCATION)
         .withRequiredArg().ofType(File.class)
-        .describedAs("File to write history to for incremental analysis");
+        .describedAs(
+            "File to write history to for incremental analysis. The binary format cannot be read by pitest before 1.5.3");
 
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
@@ -343,6 +372,11 @@ public class OptionsParser {
         .describedAs("Maximum number of surviving mutants to allow without throwing an error")
         .defaultsTo(MAX_SURVIVING.getDefault(Integer.class));
 
+    this.minionReuseLimitSpec = parserAccepts(MINION_REUSE_LIMIT)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("Number of mutations a minion may analyse before being replaced (0 to launch a new minion for each unit)")
+        .defaultsTo(MINION_REUSE_LIMIT.getDefault(Integer.class));
+
     this.coverageThreshHoldSpec = parserAccepts(COVERAGE_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Line coverage below which to throw an error")
@@ -352,6 +386,10 @@ public class OptionsParser {
         .ofType(String.class).describedAs("mutation engine to use")
         .defaultsTo(MUTATION_ENGINE.getDefault(String.class));
 
+    this.testPrioritiserSpec = parserAccepts(TEST_PRIORITISER)
+        .withRequiredArg().ofType(String.class)
+        .describedAs("test prioritiser to use (default or killHistory)");
+
     this.javaExecutable = parserAccepts(JVM_PATH).withRequiredArg()
         .ofType(String.class).describedAs("path to java executable");
 
@@ -408,6 +446,12 @@ public class OptionsParser {
         .valueOf(this.includeLaunchClasspathSpec));
 
     data.setUseClasspathJar(userArgs.valueOf(useClasspathJarSpec));
+    data.setParallelCoverage(userArgs.has(this.parallelCoverageSpec)
+        && userArgs.valueOf(this.parallelCoverageSpec));
+    data.setDynamicDispatch(userArgs.has(this.dynamicDispatchSpec)
+        && userArgs.valueOf(this.dynamicDispatchSpec));
+    data.setWorkerAgents(this.workerAgentsSpec.values(userArgs));
+    data.setWorkerAgentSecret(this.workerAgentSecretSpec.value(userArgs));
     
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
@@ -433,8 +477,10 @@ public class OptionsParser {
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setTestStrengthThreshold(this.testStrengthThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
+    data.setMinionReuseLimit(this.minionReuseLimitSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
+    data.setTestPrioritiser(this.testPrioritiserSpec.value(userArgs));
     data.setFreeFormProperties(listToProperties(this.pluginPropertiesSpec
         .values(userArgs)));
 
@@ -412,6 +412,77 @@ public class OptionsParserTest {
     assertEquals(42, actual.getMaximumAllowedSurvivors());
   }
 
+  @Test
+  public void shouldParseMinionReuseLimit() {
+    final ReportOptions actual = parseAddingRequiredArgs("--minionReuseLimit",
+        "42");
+    assertEquals(42, actual.getMinionReuseLimit());
+  }
+
+  @Test
+  public void shouldDefaultToNotReusingMinions() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(0, actual.getMinionReuseLimit());
+  }
+
+  @Test
+  public void shouldParallelizeCoverageWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--parallelCoverage");
+    assertTrue(actual.isParallelCoverage());
+  }
+
+  @Test
+  public void shouldNotParallelizeCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isParallelCoverage());
+  }
+
+  @Test
+  public void shouldDispatchMutationsDynamicallyWhenFlagSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--dynamicDispatch");
+    assertTrue(actual.isDynamicDispatch());
+  }
+
+  @Test
+  public void shouldNotDispatchMutationsDynamicallyByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isDynamicDispatch());
+  }
+
+  @Test
+  public void shouldParseCommaSeparatedListOfWorkerAgents() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workerAgents",
+        "hosta:8765,hostb:8766");
+    assertEquals(Arrays.asList("hosta:8765", "hostb:8766"),
+        actual.getWorkerAgents());
+  }
+
+  @Test
+  public void shouldAnalyseMutationsLocallyByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertTrue(actual.getWorkerAgents().isEmpty());
+  }
+
+  @Test
+  public void shouldParseWorkerAgentSecret() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workerAgentSecret",
+        "s3cret");
+    assertEquals("s3cret", actual.getWorkerAgentSecret());
+  }
+
+  @Test
+  public void shouldParseTestPrioritiser() {
+    final ReportOptions actual = parseAddingRequiredArgs("--testPrioritiser",
+        "killHistory");
+    assertEquals("killHistory", actual.getTestPrioritiser());
+  }
+
+  @Test
+  public void shouldNotSelectTestPrioritiserByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertNull(actual.getTestPrioritiser());
+  }
+
   @Test
   public void shouldParseCoverageThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--coverageThreshold",
@@ -8,11 +8,14 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.tree.AnnotationNode;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.util.Textifier;
 import org.objectweb.asm.util.TraceClassVisitor;
+import org.pitest.bytecode.ASMVersion;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.Location;
@@ -33,6 +36,38 @@ public class ClassTree {
     return new ClassTree(classNode);
   }
 
+  /**
+   * Parses only the method at the given location. The code of all other
+   * methods is skipped, so this is cheaper than building the whole tree when
+   * a single method is of interest.
+   *
+   * @param bytes
+   *          bytes of the class
+   * @param location
+   *          location of the method
+   * @return the method, or empty if the class has no method at the location
+   */
+  public static Optional<MethodTree> methodFromBytes(byte[] bytes,
+      Location location) {
+    final ClassReader cr = new ClassReader(bytes);
+    final ClassNode classNode = new ClassNode();
+    final ClassVisitor oneMethod = new ClassVisitor(ASMVersion.ASM_VERSION,
+        classNode) {
+      @Override
+      public MethodVisitor visitMethod(int access, String name,
+          String descriptor, String signature, String[] exceptions) {
+        if (location.getMethodName().name().equals(name)
+            && location.getMethodDesc().equals(descriptor)) {
+          return super.visitMethod(access, name, descriptor, signature,
+              exceptions);
+        }
+        return null;
+      }
+    };
+    cr.accept(oneMethod, ClassReader.EXPAND_FRAMES);
+    return new ClassTree(classNode).method(location);
+  }
+
 
   public List<MethodTree> methods() {
     if (this.lazyMethods != null) {
@@ -14,8 +14,11 @@
  */
 package org.pitest.classinfo;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -75,6 +78,40 @@ public class Repository implements ClassInfoSource {
     }
   }
 
+  /**
+   * Forgets the given classes, and any known classes that extend or are nested
+   * within them, so that they are read again from the source when next
+   * requested. Classes previously not found are also forgotten, as they may
+   * since have been added.
+   *
+   * @param changed
+   *          classes that have changed since they were read
+   */
+  public void invalidate(final Collection<ClassName> changed) {
+    this.unknownClasses.clear();
+    final Set<ClassName> stale = new HashSet<>(changed);
+    final List<ClassInfo> known = new ArrayList<>(this.knownClasses.values());
+    for (final ClassInfo each : known) {
+      if (dependsOn(each, stale)) {
+        stale.add(each.getName());
+      }
+    }
+    this.knownClasses.keySet().removeAll(stale);
+  }
+
+  private static boolean dependsOn(final ClassInfo info,
+      final Set<ClassName> changed) {
+    if (changed.contains(info.getName())) {
+      return true;
+    }
+    final Optional<ClassInfo> superClass = info.getSuperClass();
+    if (superClass.isPresent() && dependsOn(superClass.get(), changed)) {
+      return true;
+    }
+    final Optional<ClassInfo> outerClass = info.getOuterClass();
+    return outerClass.isPresent() && dependsOn(outerClass.get(), changed);
+  }
+
   public Optional<byte[]> querySource(final ClassName name) {
     if (this.unknownClasses.contains(name)) {
       return Optional.empty();
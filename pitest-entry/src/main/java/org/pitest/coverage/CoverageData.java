@@ -15,30 +15,32 @@
 
 package org.pitest.coverage;
 
-import static java.util.stream.Collectors.toCollection;
-
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
@@ -47,12 +49,17 @@ public class CoverageData implements CoverageDatabase {
   private static final Logger                                 LOG           = Log
       .getLogger();
 
+  private static final BitSet                                 NO_TESTS      = new BitSet();
+
   // We calculate block coverage, but everything currently runs on line
   // coverage. Ugly mess of maps below should go when
   // api changed to work via blocks
-  private final Map<InstructionLocation, Set<TestInfo>>       instructionCoverage;
-  private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
-  private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+  private final TestInfoIndex                                 testIndex     = new TestInfoIndex();
+  private final Map<ClassName, ClassCoverage>                 instructionCoverage = new LinkedHashMap<>();
+  // lazily populated caches, safe to read from several threads once coverage
+  // has been gathered
+  private final Map<BlockLocation, Set<Integer>>              blocksToLines = new ConcurrentHashMap<>();
+  private final Map<ClassName, Map<ClassLine, BitSet>>        lineCoverage  = new ConcurrentHashMap<>();
   private final Map<String, Collection<ClassInfo>>            classesForFile;
 
   private final CodeSource                                    code;
@@ -67,26 +74,50 @@ public class CoverageData implements CoverageDatabase {
 
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<InstructionLocation, Set<TestInfo>> instructionCoverage) {
-    this.instructionCoverage = instructionCoverage;
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
         keyFromClassInfo());
+    for (final Entry<InstructionLocation, Set<TestInfo>> each : instructionCoverage.entrySet()) {
+      for (final TestInfo ti : each.getValue()) {
+        final int id = this.testIndex.idFor(ti);
+        addTestToInstruction(id, each.getKey(), addingTest(id));
+      }
+    }
   }
 
   @Override
   public Collection<TestInfo> getTestsForInstructionLocation(InstructionLocation location) {
-    return this.instructionCoverage.getOrDefault(location, Collections.emptySet());
+    return this.testIndex.asSet(getTestIdsForInstruction(location));
+  }
+
+  @Override
+  public Collection<TestInfo> getTestsForInstructionLocations(
+      Collection<InstructionLocation> locations) {
+    final BitSet tests = new BitSet();
+    for (final InstructionLocation each : locations) {
+      tests.or(getTestIdsForInstruction(each));
+    }
+    return this.testIndex.asSet(tests);
+  }
+
+  private BitSet getTestIdsForInstruction(InstructionLocation location) {
+    final ClassCoverage coverage = this.instructionCoverage.get(location.getBlockLocation()
+        .getLocation().getClassName());
+    if (coverage == null) {
+      return NO_TESTS;
+    }
+    return coverage.getTestsForInstruction(location);
   }
 
   @Override
   public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
-    final Collection<TestInfo> result = getLineCoverageForClassName(
+    final BitSet result = getLineCoverageForClassName(
         classLine.getClassName()).get(classLine);
     if (result == null) {
       return Collections.emptyList();
     } else {
-      return result;
+      return this.testIndex.asSet(result);
     }
   }
 
@@ -117,10 +148,11 @@ public class CoverageData implements CoverageDatabase {
 
   @Override
   public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
-    return this.instructionCoverage.entrySet().stream()
-            .filter(isFor(clazz))
-            .flatMap(toTests())
-            .collect(toCollection(() -> new TreeSet<>(new TestInfoNameComparator())));
+    final ClassCoverage coverage = this.instructionCoverage.get(clazz);
+    if (coverage == null) {
+      return Collections.emptySet();
+    }
+    return this.testIndex.asSet(coverage.getTests());
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
@@ -128,26 +160,43 @@ public class CoverageData implements CoverageDatabase {
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+    final int id = this.testIndex.idFor(ti);
+    final UnaryOperator<BitSet> addTest = addingTest(id);
     for (final BlockLocation each : cr.getCoverage()) {
       for (int i = each.getFirstInsnInBlock();
            i <= each.getLastInsnInBlock(); i++) {
-        addTestsToBlockMap(ti, new InstructionLocation(each, i));
+        addTestToInstruction(id, new InstructionLocation(each, i), addTest);
       }
     }
   }
 
-  private void addTestsToBlockMap(final TestInfo ti, InstructionLocation each) {
-    Set<TestInfo> tests = this.instructionCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.instructionCoverage.put(each, tests);
-    }
-    tests.add(ti);
+  private void addTestToInstruction(final int id, InstructionLocation each,
+      UnaryOperator<BitSet> addTest) {
+    this.instructionCoverage.computeIfAbsent(each.getBlockLocation()
+        .getLocation().getClassName(), k -> new ClassCoverage())
+        .addTest(id, each, addTest);
+  }
+
+  /**
+   * Sets of tests are never modified once stored, so instructions covered by
+   * the same tests can share one set. Adding a test to a set always gives the
+   * same new set for the lifetime of the returned operator.
+   */
+  private static UnaryOperator<BitSet> addingTest(final int id) {
+    final Map<BitSet, BitSet> results = new IdentityHashMap<>();
+    return tests -> results.computeIfAbsent(tests, t -> {
+      if (t.get(id)) {
+        return t;
+      }
+      final BitSet withTest = (BitSet) t.clone();
+      withTest.set(id);
+      return withTest;
+    });
   }
 
   @Override
   public BigInteger getCoverageIdForClass(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> coverage = getLineCoverageForClassName(clazz);
+    final Map<ClassLine, BitSet> coverage = getLineCoverageForClassName(clazz);
     if (coverage.isEmpty()) {
       return BigInteger.ZERO;
     }
@@ -156,12 +205,13 @@ public class CoverageData implements CoverageDatabase {
   }
 
   public List<BlockCoverage> createCoverage() {
-    return FCollection.map(this.instructionCoverage.entrySet(), toBlockCoverage());
-  }
-
-  private static Function<Entry<InstructionLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey().getBlockLocation(), FCollection.map(a.getValue(),
-        TestInfo.toName()));
+    final List<BlockCoverage> coverage = new ArrayList<>();
+    for (final ClassCoverage each : this.instructionCoverage.values()) {
+      each.forEachInstruction((block, tests) -> coverage.add(
+          new BlockCoverage(block, FCollection.map(this.testIndex.asSet(tests),
+              TestInfo.toName()))));
+    }
+    return coverage;
   }
 
   @Override
@@ -186,10 +236,15 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private BigInteger generateCoverageNumber(
-      final Map<ClassLine, Set<TestInfo>> coverage) {
+      final Map<ClassLine, BitSet> coverage) {
     BigInteger coverageNumber = BigInteger.ZERO;
+    final BitSet tests = new BitSet();
+    for (final BitSet each : coverage.values()) {
+      tests.or(each);
+    }
     final Set<ClassName> testClasses = new HashSet<>();
-    FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
+    FCollection.mapTo(this.testIndex.asSet(tests),
+        TestInfo.toDefiningClassName(), testClasses);
 
     for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
       coverageNumber = coverageNumber.add(each.getDeepHash());
@@ -198,10 +253,6 @@ public class CoverageData implements CoverageDatabase {
     return coverageNumber;
   }
 
-  private Function<Set<TestInfo>, Iterable<ClassName>> testsToClassName() {
-    return a -> FCollection.map(a, TestInfo.toDefiningClassName());
-  }
-
   private static Function<ClassInfo, String> keyFromClassInfo() {
 
     return c -> keyFromSourceAndPackage(c.getSourceFileName(), c.getName()
@@ -247,11 +298,11 @@ public class CoverageData implements CoverageDatabase {
         description.getQualifiedName(), executionTime, testee, linesCovered);
   }
 
-  private Map<ClassLine, Set<TestInfo>> getLineCoverageForClassName(final ClassName clazz) {
+  private Map<ClassLine, BitSet> getLineCoverageForClassName(final ClassName clazz) {
     // Use any test that provided some coverage of the class
     // This fails to consider tests that only accessed a static variable
     // of the class in question as this does not register as coverage.
-    final Map<ClassLine, Set<TestInfo>> map = this.lineCoverage.get(clazz);
+    final Map<ClassLine, BitSet> map = this.lineCoverage.get(clazz);
     if (map != null) {
       return map;
     }
@@ -260,38 +311,30 @@ public class CoverageData implements CoverageDatabase {
 
   }
 
-  private Map<ClassLine, Set<TestInfo>> convertInstructionCoverageToLineCoverageForClass(
+  private Map<ClassLine, BitSet> convertInstructionCoverageToLineCoverageForClass(
       ClassName clazz) {
-    final List<Entry<InstructionLocation, Set<TestInfo>>> tests = FCollection.filter(
-        this.instructionCoverage.entrySet(), isFor(clazz));
-
-    final Map<ClassLine, Set<TestInfo>> linesToTests = new LinkedHashMap<>(
+    final Map<ClassLine, BitSet> linesToTests = new LinkedHashMap<>(
         0);
 
-    for (final Entry<InstructionLocation, Set<TestInfo>> each : tests) {
-      for (final int line : getLinesForBlock(each.getKey().getBlockLocation())) {
-        final Set<TestInfo> tis = getLineTestSet(clazz, linesToTests, each, line);
-        tis.addAll(each.getValue());
-      }
+    final ClassCoverage coverage = this.instructionCoverage.get(clazz);
+    if (coverage != null) {
+      coverage.forEachInstruction((block, tests) -> {
+        for (final int line : getLinesForBlock(block)) {
+          linesToTests.computeIfAbsent(new ClassLine(clazz, line),
+              k -> new BitSet()).or(tests);
+        }
+      });
     }
 
+    // share a single set between lines covered by the same tests
+    final Map<BitSet, BitSet> distinct = new HashMap<>();
+    linesToTests.replaceAll((line, tests) -> distinct.computeIfAbsent(tests,
+        t -> t));
+
     this.lineCoverage.put(clazz, linesToTests);
     return linesToTests;
   }
 
-  private static Set<TestInfo> getLineTestSet(ClassName clazz,
-      Map<ClassLine, Set<TestInfo>> linesToTests,
-      Entry<InstructionLocation, Set<TestInfo>> each, int line) {
-    final ClassLine cl = new ClassLine(clazz, line);
-    Set<TestInfo> tis = linesToTests.get(cl);
-    if (tis == null) {
-      tis = new TreeSet<>(new TestInfoNameComparator());
-      tis.addAll(each.getValue());
-      linesToTests.put(new ClassLine(clazz, line), tis);
-    }
-    return tis;
-  }
-
   private Set<Integer> getLinesForBlock(BlockLocation bl) {
     Set<Integer> lines = this.blocksToLines.get(bl);
     if (lines == null) {
@@ -314,13 +357,73 @@ public class CoverageData implements CoverageDatabase {
     this.failingTestDescriptions.add(testDescription);
   }
 
-  private Function<Entry<InstructionLocation, Set<TestInfo>>, Stream<TestInfo>> toTests() {
-    return a -> a.getValue().stream();
+  /**
+   * Coverage of the instructions of a single class, keyed by method and then
+   * by instruction number. Tests are held as sets of ids from the
+   * TestInfoIndex.
+   */
+  private static final class ClassCoverage {
+
+    private final BitSet                        tests   = new BitSet();
+    private final Map<Location, MethodCoverage> methods = new LinkedHashMap<>();
+
+    void addTest(final int id, final InstructionLocation instruction,
+        final UnaryOperator<BitSet> addTest) {
+      this.tests.set(id);
+      this.methods.computeIfAbsent(instruction.getBlockLocation().getLocation(),
+          k -> new MethodCoverage())
+          .addTest(instruction.getBlockLocation(),
+              instruction.getInstructionIndex(), addTest);
+    }
+
+    BitSet getTests() {
+      return this.tests;
+    }
+
+    BitSet getTestsForInstruction(final InstructionLocation instruction) {
+      final MethodCoverage method = this.methods.get(instruction
+          .getBlockLocation().getLocation());
+      if (method == null) {
+        return NO_TESTS;
+      }
+      return method.getTests(instruction.getInstructionIndex());
+    }
+
+    void forEachInstruction(
+        final BiConsumer<BlockLocation, BitSet> consumer) {
+      for (final MethodCoverage each : this.methods.values()) {
+        each.forEachInstruction(consumer);
+      }
+    }
   }
 
-  private Predicate<Entry<InstructionLocation, Set<TestInfo>>> isFor(
-      final ClassName clazz) {
-    return a -> a.getKey().isFor(clazz);
+  private static final class MethodCoverage {
+
+    // both keyed by instruction number
+    private final Map<Integer, BlockLocation> blocks = new LinkedHashMap<>();
+    private final Map<Integer, BitSet>        tests  = new LinkedHashMap<>();
+
+    void addTest(final BlockLocation block, final int instruction,
+        final UnaryOperator<BitSet> addTest) {
+      final BitSet previous = this.tests.get(instruction);
+      if (previous == null) {
+        this.blocks.put(instruction, block);
+        this.tests.put(instruction, addTest.apply(NO_TESTS));
+      } else {
+        this.tests.put(instruction, addTest.apply(previous));
+      }
+    }
+
+    BitSet getTests(final int instruction) {
+      return this.tests.getOrDefault(instruction, NO_TESTS);
+    }
+
+    void forEachInstruction(
+        final BiConsumer<BlockLocation, BitSet> consumer) {
+      for (final Entry<Integer, BitSet> each : this.tests.entrySet()) {
+        consumer.accept(this.blocks.get(each.getKey()), each.getValue());
+      }
+    }
   }
 
 }
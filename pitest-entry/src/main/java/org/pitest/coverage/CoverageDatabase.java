@@ -2,6 +2,8 @@ package org.pitest.coverage;
 
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
@@ -16,6 +18,22 @@ public interface CoverageDatabase {
 
   Collection<TestInfo> getTestsForInstructionLocation(InstructionLocation location);
 
+  /**
+   * Returns the tests that cover any of the given locations
+   *
+   * @param locations
+   *          instructions to find covering tests for
+   * @return tests covering at least one of the locations
+   */
+  default Collection<TestInfo> getTestsForInstructionLocations(
+      Collection<InstructionLocation> locations) {
+    final Set<TestInfo> tests = new HashSet<>();
+    for (final InstructionLocation each : locations) {
+      tests.addAll(getTestsForInstructionLocation(each));
+    }
+    return tests;
+  }
+
   Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
   BigInteger getCoverageIdForClass(ClassName clazz);
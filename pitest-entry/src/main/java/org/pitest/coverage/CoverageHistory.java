@@ -0,0 +1,30 @@
+package org.pitest.coverage;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Retains the coverage gathered for each test class between analyses, so that
+ * coverage need only be gathered again for tests affected by a change.
+ */
+public interface CoverageHistory {
+
+  void initialize();
+
+  Map<ClassName, TestClassCoverage> getHistoricCoverage();
+
+  void recordCoverage(Collection<TestClassCoverage> coverage);
+
+  /**
+   * False if recorded coverage is discarded, in which case what it depends on
+   * need not be worked out
+   *
+   * @return true if recorded coverage is kept
+   */
+  default boolean isRecording() {
+    return true;
+  }
+
+}
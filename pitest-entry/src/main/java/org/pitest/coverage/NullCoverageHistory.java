@@ -0,0 +1,31 @@
+package org.pitest.coverage;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+
+public class NullCoverageHistory implements CoverageHistory {
+
+  @Override
+  public void initialize() {
+
+  }
+
+  @Override
+  public Map<ClassName, TestClassCoverage> getHistoricCoverage() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public void recordCoverage(Collection<TestClassCoverage> coverage) {
+
+  }
+
+  @Override
+  public boolean isRecording() {
+    return false;
+  }
+
+}
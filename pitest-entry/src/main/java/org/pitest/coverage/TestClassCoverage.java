@@ -0,0 +1,117 @@
+package org.pitest.coverage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+
+/**
+ * The coverage results of the tests within a single test class, together with
+ * what they depended on at the time the coverage was gathered: the identities
+ * of the test class, of the test side classes it references and of every
+ * class its tests covered, plus an id for everything else on the classpath.
+ */
+public final class TestClassCoverage {
+
+  private final ClassName                       testClass;
+  private final String                          classPathId;
+  private final Collection<HierarchicalClassId> dependencies;
+  private final List<CoverageResult>            results;
+
+  public TestClassCoverage(ClassName testClass, String classPathId,
+      Collection<HierarchicalClassId> dependencies,
+      List<CoverageResult> results) {
+    this.testClass = testClass;
+    this.classPathId = classPathId;
+    this.dependencies = dependencies;
+    this.results = results;
+  }
+
+  /**
+   * Records the results of a test class along with the current identities of
+   * the classes they depend on.
+   *
+   * @param test
+   *          the test class
+   * @param results
+   *          results of the tests in the test class
+   * @param referenced
+   *          test side classes the test class references
+   * @param classes
+   *          source of the current class identities
+   * @param classPathId
+   *          id of the parts of the classpath not tracked by class
+   * @return coverage of the test class
+   */
+  public static TestClassCoverage gathered(ClassInfo test,
+      List<CoverageResult> results, Collection<ClassName> referenced,
+      ClassInfoSource classes, String classPathId) {
+    final Set<ClassName> covered = new LinkedHashSet<>();
+    for (final CoverageResult each : results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        covered.add(block.getLocation().getClassName());
+      }
+    }
+    covered.addAll(referenced);
+    covered.remove(test.getName());
+
+    final List<HierarchicalClassId> dependencies = new ArrayList<>();
+    dependencies.add(test.getHierarchicalId());
+    for (final ClassName each : covered) {
+      final Optional<ClassInfo> info = classes.fetchClass(each);
+      if (info.isPresent()) {
+        dependencies.add(info.get().getHierarchicalId());
+      }
+    }
+    return new TestClassCoverage(test.getName(), classPathId, dependencies,
+        results);
+  }
+
+  /**
+   * True if neither the classpath, the test class nor any class it depends on
+   * has changed, in which case the recorded results still hold.
+   *
+   * @param classes
+   *          source of the current class identities
+   * @param classPathId
+   *          id of the current parts of the classpath not tracked by class
+   * @return true if the recorded results still hold
+   */
+  public boolean isUnchangedIn(ClassInfoSource classes, String classPathId) {
+    if (!this.classPathId.equals(classPathId)) {
+      return false;
+    }
+    for (final HierarchicalClassId each : this.dependencies) {
+      final Optional<ClassInfo> current = classes.fetchClass(each.getName());
+      if (!current.isPresent() || !current.get().getHierarchicalId()
+          .equals(each)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public ClassName getTestClass() {
+    return this.testClass;
+  }
+
+  public String getClassPathId() {
+    return this.classPathId;
+  }
+
+  public Collection<HierarchicalClassId> getDependencies() {
+    return this.dependencies;
+  }
+
+  public List<CoverageResult> getResults() {
+    return this.results;
+  }
+
+}
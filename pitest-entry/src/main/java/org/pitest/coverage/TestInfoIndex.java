@@ -0,0 +1,90 @@
+package org.pitest.coverage;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Assigns each test a dense int id, so that sets of tests can be stored as
+ * bit sets. Tests are identified by name.
+ */
+final class TestInfoIndex {
+
+  private final List<TestInfo>       tests = new ArrayList<>();
+  private final Map<String, Integer> ids   = new HashMap<>();
+
+  int idFor(final TestInfo ti) {
+    final Integer id = this.ids.get(ti.getName());
+    if (id != null) {
+      return id;
+    }
+    this.tests.add(ti);
+    this.ids.put(ti.getName(), this.tests.size() - 1);
+    return this.tests.size() - 1;
+  }
+
+  /**
+   * Returns a read only view of the tests whose ids are set
+   */
+  Set<TestInfo> asSet(final BitSet testIds) {
+    if (testIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return new TestInfoSet(testIds);
+  }
+
+  private final class TestInfoSet extends AbstractSet<TestInfo> {
+
+    private final BitSet testIds;
+
+    TestInfoSet(final BitSet testIds) {
+      this.testIds = testIds;
+    }
+
+    @Override
+    public Iterator<TestInfo> iterator() {
+      return new Iterator<TestInfo>() {
+        private int next = TestInfoSet.this.testIds.nextSetBit(0);
+
+        @Override
+        public boolean hasNext() {
+          return this.next != -1;
+        }
+
+        @Override
+        public TestInfo next() {
+          if (this.next == -1) {
+            throw new NoSuchElementException();
+          }
+          final TestInfo ti = TestInfoIndex.this.tests.get(this.next);
+          this.next = TestInfoSet.this.testIds.nextSetBit(this.next + 1);
+          return ti;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return this.testIds.cardinality();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      if (!(o instanceof TestInfo)) {
+        return false;
+      }
+      final Integer id = TestInfoIndex.this.ids.get(((TestInfo) o).getName());
+      return (id != null) && this.testIds.get(id)
+          && TestInfoIndex.this.tests.get(id).equals(o);
+    }
+
+  }
+
+}
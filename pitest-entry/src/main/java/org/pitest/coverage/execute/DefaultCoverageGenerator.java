@@ -18,8 +18,13 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -27,11 +32,15 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageHistory;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.NullCoverageHistory;
+import org.pitest.coverage.TestClassCoverage;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -59,11 +68,72 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final int              numberOfShards;
+  private final CoverageHistory  history;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, 1);
+  }
+
+  /**
+   * @param workingDir
+   *          directory minions are run from
+   * @param coverageOptions
+   *          what to gather coverage for
+   * @param launchOptions
+   *          how minions are launched
+   * @param code
+   *          source of the code and test classes
+   * @param exporter
+   *          receives the gathered coverage
+   * @param timings
+   *          records how long each stage takes
+   * @param showProgress
+   *          if true, a spinner is shown as each test completes
+   * @param numberOfShards
+   *          maximum number of minions to split the test classes between.
+   *          Each minion gathers coverage for its share of the tests in
+   *          parallel with the others.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfShards) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, numberOfShards, new NullCoverageHistory());
+  }
+
+  /**
+   * @param workingDir
+   *          directory minions are run from
+   * @param coverageOptions
+   *          what to gather coverage for
+   * @param launchOptions
+   *          how minions are launched
+   * @param code
+   *          source of the code and test classes
+   * @param exporter
+   *          receives the gathered coverage
+   * @param timings
+   *          records how long each stage takes
+   * @param showProgress
+   *          if true, a spinner is shown as each test completes
+   * @param numberOfShards
+   *          maximum number of minions to split the test classes between
+   * @param history
+   *          coverage gathered by earlier analyses. Tests are run again only
+   *          if their class, or a class they covered, has changed since.
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfShards, final CoverageHistory history) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -71,6 +141,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.numberOfShards = Math.max(1, numberOfShards);
+    this.history = history;
   }
 
   @Override
@@ -119,23 +191,107 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       final CoverageData coverage) throws IOException, InterruptedException,
       ExecutionException {
 
-    final List<String> filteredTests = FCollection
-        .map(tests, classInfoToName());
+    this.history.initialize();
+    final Map<ClassName, TestClassCoverage> historic = this.history
+        .getHistoricCoverage();
 
     final Consumer<CoverageResult> handler = resultProcessor(coverage);
 
-    final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
+    final TestDependencies dependencies = new TestDependencies(this.code);
+    final String classPathId = historic.isEmpty() && !this.history.isRecording()
+        ? "" : dependencies.classPathId();
+
+    final List<TestClassCoverage> reused = new ArrayList<>();
+    final Map<ClassName, ClassInfo> toRun = new LinkedHashMap<>();
+    for (final ClassInfo each : tests) {
+      final TestClassCoverage previous = historic.get(each.getName());
+      if ((previous != null) && previous.isUnchangedIn(this.code,
+          classPathId)) {
+        reused.add(previous);
+        previous.getResults().forEach(handler);
+      } else {
+        toRun.put(each.getName(), each);
+      }
+    }
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
+    if (!reused.isEmpty()) {
+      LOG.info("Reusing coverage for " + reused.size()
+          + " unchanged test classes, gathering coverage for " + toRun.size());
+    }
 
-    process.start();
+    final Map<ClassName, List<CoverageResult>> gathered = new HashMap<>();
+    if (!toRun.isEmpty() || reused.isEmpty()) {
+      runTests(FCollection.map(toRun.values(), classInfoToName()),
+          handler.andThen(recordTo(gathered)));
+    }
 
-    final ExitCode exitCode = process.waitToDie();
+    if (this.history.isRecording()) {
+      this.history.recordCoverage(recordable(reused, toRun, gathered,
+          dependencies, classPathId));
+    }
+  }
+
+  private static Consumer<CoverageResult> recordTo(
+      final Map<ClassName, List<CoverageResult>> gathered) {
+    return cr -> {
+      final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+      synchronized (gathered) {
+        gathered.computeIfAbsent(testClass == null ? null
+            : ClassName.fromString(testClass), k -> new ArrayList<>()).add(cr);
+      }
+    };
+  }
+
+  /**
+   * Coverage for test classes that were reused, or that were run with no
+   * failing tests. Results are attributed to test classes by name, so classes
+   * without results are recorded only if every result could be attributed to
+   * a class that was run. Otherwise they may have been suites.
+   */
+  private List<TestClassCoverage> recordable(List<TestClassCoverage> reused,
+      Map<ClassName, ClassInfo> run,
+      Map<ClassName, List<CoverageResult>> gathered,
+      TestDependencies dependencies, String classPathId) {
+    final boolean allAttributed = run.keySet().containsAll(gathered.keySet());
+    final List<TestClassCoverage> recordable = new ArrayList<>(reused);
+    for (final ClassInfo each : run.values()) {
+      final List<CoverageResult> results = gathered.getOrDefault(
+          each.getName(), Collections.<CoverageResult> emptyList());
+      if ((!results.isEmpty() || allAttributed)
+          && results.stream().allMatch(CoverageResult::isGreenTest)) {
+        recordable.add(TestClassCoverage.gathered(each, results,
+            dependencies.referencedBy(each.getName()), this.code,
+            classPathId));
+      }
+    }
+    return recordable;
+  }
+
+  private void runTests(final List<String> filteredTests,
+      final Consumer<CoverageResult> handler) throws IOException,
+      InterruptedException, ExecutionException {
+
+    final SocketFinder sf = new SocketFinder();
+
+    final List<CoverageProcess> processes = new ArrayList<>();
+    for (final List<String> shard : shard(filteredTests)) {
+      final ServerSocket socket = sf.getNextAvailableServerSocket();
+      final CoverageProcess process = new CoverageProcess(ProcessArgs
+          .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+          .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+          .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
+          socket, shard, handler);
+      process.start();
+      processes.add(process);
+    }
+
+    ExitCode exitCode = ExitCode.OK;
+    for (final CoverageProcess each : processes) {
+      final ExitCode shardExitCode = each.waitToDie();
+      if (exitCode.isOk()) {
+        exitCode = shardExitCode;
+      }
+    }
 
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains modern JUnit 4 or PIT test plugin for other test tool "
@@ -151,6 +307,18 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private List<List<String>> shard(final List<String> tests) {
+    final int shards = Math.max(1, Math.min(this.numberOfShards, tests.size()));
+    final List<List<String>> shardedTests = new ArrayList<>(shards);
+    for (int i = 0; i != shards; i++) {
+      shardedTests.add(new ArrayList<>());
+    }
+    for (int i = 0; i != tests.size(); i++) {
+      shardedTests.get(i % shards).add(tests.get(i));
+    }
+    return shardedTests;
+  }
+
   private static Function<ClassInfo, String> classInfoToName() {
     return a -> a.getName().asInternalName();
   }
@@ -178,8 +346,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // results arrive on one thread per coverage minion
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
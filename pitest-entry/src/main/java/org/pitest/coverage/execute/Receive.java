@@ -1,5 +1,6 @@
 package org.pitest.coverage.execute;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -17,12 +18,12 @@ import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
-import sun.pitest.CodeCoverageStore;
-
 final class Receive implements ReceiveStrategy {
 
-  private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final Map<Integer, ClassName>  classIdToName = new ConcurrentHashMap<>();
+
+  // blocks indexed by class id then class wide probe id
+  private BlockLocation[][]              probeToBlock  = new BlockLocation[64][];
 
   private final Consumer<CoverageResult> handler;
 
@@ -57,36 +58,62 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         MethodName.fromString(methodName), methodSig);
+    final BlockLocation[] blocks = blocksFor(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first, is.readInt(), is.readInt()));
+      blocks[i] = new BlockLocation(loc, i - first, is.readInt(), is.readInt());
     }
   }
 
+  private BlockLocation[] blocksFor(final int classId, final int probeCount) {
+    if (classId >= this.probeToBlock.length) {
+      this.probeToBlock = Arrays.copyOf(this.probeToBlock,
+          Math.max(classId + 1, this.probeToBlock.length * 2));
+    }
+    BlockLocation[] blocks = this.probeToBlock[classId];
+    if (blocks == null) {
+      blocks = new BlockLocation[probeCount];
+    } else if (blocks.length < probeCount) {
+      blocks = Arrays.copyOf(blocks, probeCount);
+    }
+    this.probeToBlock[classId] = blocks;
+    return blocks;
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
     final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
-
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    final Set<BlockLocation> hits = new HashSet<>();
+    int classId = is.readInt();
+    while (classId != CoveragePipe.END_OF_HITS) {
+      readClassHits(is, classId, hits);
+      classId = is.readInt();
     }
 
     this.handler.accept(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
+  private void readClassHits(final SafeDataInputStream is, final int classId,
       final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
+    final int words = is.readInt();
+    for (int w = 0; w != words; w++) {
+      long word = is.readLong();
+      while (word != 0) {
+        final int probe = (w * 64) + Long.numberOfTrailingZeros(word) + 1;
+        hits.add(probeToBlock(classId, probe));
+        word &= word - 1;
+      }
+    }
   }
 
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private BlockLocation probeToBlock(final int classId, final int probe) {
+    if ((classId >= this.probeToBlock.length)
+        || (this.probeToBlock[classId] == null)
+        || (probe >= this.probeToBlock[classId].length)) {
+      return null;
+    }
+    return this.probeToBlock[classId][probe];
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
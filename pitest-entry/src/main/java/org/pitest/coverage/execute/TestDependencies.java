@@ -0,0 +1,167 @@
+package org.pitest.coverage.execute;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.util.Unchecked;
+
+/**
+ * Finds what the coverage of a test class depends on beyond the code it
+ * covers.
+ *
+ * <p>
+ * Classes held in directories on the classpath are tracked individually. The
+ * test side classes (helpers, fixtures, base classes) a test class references
+ * are found by following the class references in their constant pools, never
+ * following references into the code under test, whose changes are caught by
+ * coverage. Archives and resources are not tracked individually. Instead they
+ * contribute to a single id for the classpath.
+ */
+class TestDependencies {
+
+  private static final int                     CONSTANT_CLASS = 7;
+
+  private final CodeSource                     code;
+  private final Set<ClassName>                 codeUnderTest;
+  private final Map<ClassName, Set<ClassName>> references     = new HashMap<>();
+
+  TestDependencies(CodeSource code) {
+    this.code = code;
+    this.codeUnderTest = code.getCodeUnderTestNames();
+  }
+
+  /**
+   * Test side classes held in directories on the classpath that the given
+   * test class references, directly or through other such classes.
+   */
+  Collection<ClassName> referencedBy(ClassName testClass) {
+    final Set<ClassName> found = new LinkedHashSet<>();
+    final Deque<ClassName> toVisit = new ArrayDeque<>();
+    toVisit.add(testClass);
+    while (!toVisit.isEmpty()) {
+      for (final ClassName each : directReferences(toVisit.pop())) {
+        if (found.add(each)) {
+          toVisit.add(each);
+        }
+      }
+    }
+    found.remove(testClass);
+    return found;
+  }
+
+  /**
+   * An id for the archives on the classpath and the resources held in its
+   * directories. Changes when any of them is added, removed or modified.
+   */
+  String classPathId() {
+    final List<String> entries = new ArrayList<>();
+    for (final String each : this.code.getClassPath().getLocalClassPath()
+        .split(File.pathSeparator)) {
+      final File root = new File(each);
+      if (each.isEmpty()) {
+        continue;
+      }
+      if (root.isDirectory()) {
+        entries.addAll(resources(root.toPath()));
+      } else {
+        entries.add(entry(root.getAbsolutePath(), root.length(),
+            root.lastModified()));
+      }
+    }
+    final CRC32 crc = new CRC32();
+    for (final String each : entries) {
+      crc.update(each.getBytes(StandardCharsets.UTF_8));
+    }
+    return Long.toHexString(crc.getValue()) + "-" + entries.size();
+  }
+
+  private Set<ClassName> directReferences(ClassName clazz) {
+    return this.references.computeIfAbsent(clazz, c -> {
+      final Optional<byte[]> bytes = this.code.fetchClassBytes(c);
+      if (!bytes.isPresent()) {
+        return Collections.emptySet();
+      }
+      final Set<ClassName> tracked = new LinkedHashSet<>();
+      for (final ClassName each : classReferences(bytes.get())) {
+        if (isTrackedTestSideClass(each)) {
+          tracked.add(each);
+        }
+      }
+      return tracked;
+    });
+  }
+
+  private boolean isTrackedTestSideClass(ClassName clazz) {
+    if (this.codeUnderTest.contains(clazz)) {
+      return false;
+    }
+    final URL location = this.code.getClassPath()
+        .findResource(clazz.asInternalName() + ".class");
+    return (location != null) && "file".equals(location.getProtocol());
+  }
+
+  private static List<ClassName> classReferences(byte[] bytes) {
+    final ClassReader reader = new ClassReader(bytes);
+    final char[] buffer = new char[reader.getMaxStringLength()];
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 1; i < reader.getItemCount(); i++) {
+      final int offset = reader.getItem(i);
+      // long and double constants take two slots, the second has no offset
+      if ((offset != 0) && (reader.readByte(offset - 1) == CONSTANT_CLASS)) {
+        final String name = reader.readUTF8(offset, buffer);
+        if (!name.startsWith("[")) {
+          classes.add(ClassName.fromString(name));
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static List<String> resources(Path root) {
+    final List<String> resources = new ArrayList<>();
+    try {
+      Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+          if (!file.toString().endsWith(".class")) {
+            resources.add(entry(file.toAbsolutePath().toString(),
+                attrs.size(), attrs.lastModifiedTime().toMillis()));
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+    // walk order is not defined
+    Collections.sort(resources);
+    return resources;
+  }
+
+  private static String entry(String name, long size, long modified) {
+    return name + ":" + size + ":" + modified + "\n";
+  }
+
+}
@@ -2,6 +2,7 @@ package org.pitest.mutationtest;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
@@ -18,6 +19,22 @@ public interface HistoryStore {
 
   Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults();
 
+  /**
+   * Returns the previous results for mutations in a single class. Stores that
+   * hold their history in a form that can be read one class at a time should
+   * override this to avoid reading every result.
+   *
+   * @param clazz
+   *          the mutated class
+   * @return previous results for mutations in the class
+   */
+  default Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults(
+      ClassName clazz) {
+    return getHistoricResults().entrySet().stream()
+        .filter(e -> e.getKey().getClassName().equals(clazz))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
 }
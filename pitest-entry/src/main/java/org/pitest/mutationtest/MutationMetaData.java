@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
 
 public final class MutationMetaData {
 
@@ -34,12 +35,17 @@ public final class MutationMetaData {
     return this.mutations;
   }
 
+  /**
+   * Groups results by class. Mutations that were found to duplicate an
+   * analysed mutation are given its result.
+   */
   public Collection<ClassMutationResults> toClassResults() {
-    this.mutations.sort(comparator());
+    final List<MutationResult> all = withDuplicates(this.mutations);
+    all.sort(comparator());
     final List<ClassMutationResults> cmrs = new ArrayList<>();
     final List<MutationResult> buffer = new ArrayList<>();
     ClassName cn = null;
-    for (final MutationResult each : this.mutations) {
+    for (final MutationResult each : all) {
       if ((cn != null) && !each.getDetails().getClassName().equals(cn)) {
         cmrs.add(new ClassMutationResults(buffer));
         buffer.clear();
@@ -54,6 +60,18 @@ public final class MutationMetaData {
 
   }
 
+  private static List<MutationResult> withDuplicates(
+      final List<MutationResult> results) {
+    final List<MutationResult> all = new ArrayList<>(results);
+    for (final MutationResult each : results) {
+      for (final MutationDetails duplicate : each.getDetails()
+          .getDuplicates()) {
+        all.add(new MutationResult(duplicate, each.getStatusTestPair()));
+      }
+    }
+    return all;
+  }
+
   private static Comparator<MutationResult> comparator() {
     return Comparator.comparing(arg0 -> arg0.getDetails().getId());
   }
@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Remembers the mutants created while the interceptors examine a single
+ * class, so that a mutant inspected by more than one interceptor is only
+ * created once. Uncached mutants requested together are created in one call
+ * so that the mutater can share a single parse of the class between them.
+ *
+ * <p>
+ * One instance should be used per class, and discarded once interception of
+ * that class is complete.
+ */
+class CachingMutater implements Mutater {
+
+  private final Mutater                         child;
+  private final Map<MutationIdentifier, Mutant> mutants = new HashMap<>();
+
+  CachingMutater(Mutater child) {
+    this.child = child;
+  }
+
+  @Override
+  public Mutant getMutation(MutationIdentifier id) {
+    return this.mutants.computeIfAbsent(id, this.child::getMutation);
+  }
+
+  @Override
+  public List<Mutant> getMutations(Collection<MutationIdentifier> ids) {
+    final List<MutationIdentifier> missing = new ArrayList<>();
+    for (final MutationIdentifier each : ids) {
+      if (!this.mutants.containsKey(each)) {
+        missing.add(each);
+      }
+    }
+    if (!missing.isEmpty()) {
+      final List<Mutant> created = this.child.getMutations(missing);
+      for (int i = 0; i != missing.size(); i++) {
+        this.mutants.put(missing.get(i), created.get(i));
+      }
+    }
+
+    final List<Mutant> found = new ArrayList<>(ids.size());
+    for (final MutationIdentifier each : ids) {
+      found.add(this.mutants.get(each));
+    }
+    return found;
+  }
+
+  @Override
+  public List<MutationDetails> findMutations(ClassName classToMutate) {
+    return this.child.findMutations(classToMutate);
+  }
+
+}
@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutations as the {@link DefaultGrouper} does, except that a class
+ * whose estimated cost is well above one thread's share of the total is split
+ * into units of at most that share.
+ *
+ * <p>
+ * Units are run longest first by a pool that hands each to the first free
+ * thread. Splitting only the classes that are far too long for this to balance
+ * stops one thread working through an expensive class long after the others
+ * have finished, without splitting classes that only slightly exceed the
+ * share and adding the cost of another minion for little gain.
+ */
+public class CostBalancingGrouper implements MutationGrouper {
+
+  // classes costing more than this many shares are split
+  static final int             SPLIT_FACTOR = 2;
+
+  private final int            unitSize;
+  private final int            threads;
+  private final DefaultGrouper byClass;
+
+  public CostBalancingGrouper(final int unitSize, final int threads) {
+    this.unitSize = unitSize;
+    this.threads = threads;
+    this.byClass = new DefaultGrouper(unitSize);
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    if (this.threads <= 1) {
+      return this.byClass.groupMutations(codeClasses, mutations);
+    }
+
+    final long total = MutationCost.estimate(mutations);
+    final long share = (total + this.threads - 1) / this.threads;
+
+    final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
+        .bucket(mutations, MutationDetails::getClassName);
+    final List<MutationDetails> cheap = new ArrayList<>();
+    final List<List<MutationDetails>> chunked = new ArrayList<>();
+    for (final Collection<MutationDetails> each : bucketed.values()) {
+      if (MutationCost.estimate(each) > (share * SPLIT_FACTOR)) {
+        split(chunked, each, share);
+      } else {
+        cheap.addAll(each);
+      }
+    }
+    chunked.addAll(this.byClass.groupMutations(codeClasses, cheap));
+    return chunked;
+  }
+
+  private void split(final List<List<MutationDetails>> chunked,
+      final Collection<MutationDetails> mutations, final long maxCost) {
+    List<MutationDetails> current = new ArrayList<>();
+    long currentCost = 0;
+    for (final MutationDetails each : mutations) {
+      final long cost = MutationCost.estimate(each);
+      if (!current.isEmpty() && (isFull(current)
+          || ((currentCost + cost) > maxCost))) {
+        chunked.add(current);
+        current = new ArrayList<>();
+        currentCost = 0;
+      }
+      current.add(each);
+      currentCost = currentCost + cost;
+    }
+    if (!current.isEmpty()) {
+      chunked.add(current);
+    }
+  }
+
+  private boolean isFull(final List<MutationDetails> unit) {
+    return (this.unitSize > 0) && (unit.size() >= this.unitSize);
+  }
+
+}
@@ -14,7 +14,7 @@ public class DefaultMutationGrouperFactory implements MutationGrouperFactory {
   @Override
   public MutationGrouper makeFactory(final Properties props,
       final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
-    return new DefaultGrouper(unitSize);
+    return new CostBalancingGrouper(unitSize, numberOfThreads);
   }
 
 }
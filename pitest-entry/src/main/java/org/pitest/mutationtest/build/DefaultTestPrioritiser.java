@@ -2,7 +2,6 @@ package org.pitest.mutationtest.build;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -43,17 +42,13 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
   private Collection<TestInfo> pickTests(MutationDetails mutation) {
     if (!mutation.isInStaticInitializer()) {
       if (mutation.getId().getIndexes().size() > 1) {
-        HashSet<TestInfo> ret = new HashSet<>();
+        final List<InstructionLocation> locations = new ArrayList<>();
         for (int each : mutation.getId().getIndexes()) {
-          Collection<TestInfo> r = this.coverage.getTestsForInstructionLocation(
-              new InstructionLocation(
+          locations.add(new InstructionLocation(
                   new BlockLocation(mutation.getId().getLocation(),
                       mutation.getBlock(), -1, -1), each - 1));
-          if (r != null) {
-            ret.addAll(r);
-          }
         }
-        return ret;
+        return this.coverage.getTestsForInstructionLocations(locations);
       } else {
         return this.coverage
             .getTestsForInstructionLocation(new InstructionLocation(new BlockLocation(mutation.getId().getLocation(), mutation.getBlock(), -1, -1),
@@ -68,7 +63,10 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
   private List<TestInfo> prioritizeTests(ClassName clazz,
       Collection<TestInfo> testsForMutant) {
     final List<TestInfo> sortedTis = new ArrayList<>(testsForMutant);
-    sortedTis.sort(new TestInfoPriorisationComparator(clazz, TIME_WEIGHTING_FOR_DIRECT_UNIT_TESTS));
+    // break ties by name so the order does not depend on the order tests
+    // were recorded in
+    sortedTis.sort(new TestInfoPriorisationComparator(clazz, TIME_WEIGHTING_FOR_DIRECT_UNIT_TESTS)
+        .thenComparing(TestInfo::getName));
     return sortedTis;
   }
 
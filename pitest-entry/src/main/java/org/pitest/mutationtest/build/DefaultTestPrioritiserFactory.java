@@ -7,6 +7,11 @@ import org.pitest.coverage.CoverageDatabase;
 
 public class DefaultTestPrioritiserFactory implements TestPrioritiserFactory {
 
+  @Override
+  public String name() {
+    return "default";
+  }
+
   @Override
   public String description() {
     return "Default test prioritiser";
@@ -0,0 +1,62 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Analyses batches of mutations taken from a shared queue until the queue is
+ * empty. One is created per thread, so a thread that finishes its own classes
+ * early goes on to help with those still in progress on other threads.
+ *
+ * <p>
+ * When called with a consumer for partial results, the results of each batch
+ * are passed on as soon as it completes. Otherwise they are returned once the
+ * queue is exhausted.
+ */
+class DispatchingMutationTestUnit implements MutationAnalysisUnit {
+
+  private final MutationQueue                                              queue;
+  private final Function<Collection<MutationDetails>, MutationAnalysisUnit> batchToUnit;
+
+  DispatchingMutationTestUnit(final MutationQueue queue,
+      final Function<Collection<MutationDetails>, MutationAnalysisUnit> batchToUnit) {
+    this.queue = queue;
+    this.batchToUnit = batchToUnit;
+  }
+
+  @Override
+  public MutationMetaData call() throws Exception {
+    final List<MutationResult> results = new ArrayList<>();
+    call(r -> results.addAll(r.getMutations()));
+    return new MutationMetaData(results);
+  }
+
+  @Override
+  public MutationMetaData call(final Consumer<MutationMetaData> partialResults)
+      throws Exception {
+    ClassName last = null;
+    List<MutationDetails> batch = this.queue.poll(last);
+    while (!batch.isEmpty()) {
+      partialResults.accept(this.batchToUnit.apply(batch).call());
+      last = batch.get(0).getClassName();
+      batch = this.queue.poll(last);
+    }
+    return new MutationMetaData(Collections.<MutationResult> emptyList());
+  }
+
+  @Override
+  public int priority() {
+    // all dispatching units share the same work, so none should go first
+    return 0;
+  }
+
+}
@@ -0,0 +1,181 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Records how often each test has killed the mutants it was run against, both
+ * for each mutated method and for each mutated class.
+ *
+ * <p>
+ * Counts for a class are seeded from the results of earlier analyses the
+ * first time tests are ordered for one of its mutations, and are then updated
+ * as results arrive. Results taken from the history by incremental analysis
+ * are reported without running any tests, and are not recorded again. Nothing
+ * is recorded until tests are first ordered, so an unused history costs
+ * nothing, and only the history of classes that are analysed is read.
+ */
+public class KillHistory implements MutationResultListener {
+
+  private final Function<ClassName, Map<MutationIdentifier, MutationStatusTestPair>> historic;
+
+  private final Map<Location, Map<String, Score>>  methods = new ConcurrentHashMap<>();
+  private final Map<ClassName, Map<String, Score>> classes = new ConcurrentHashMap<>();
+  private final Map<ClassName, Boolean>            seeded  = new ConcurrentHashMap<>();
+
+  private volatile boolean                         inUse;
+
+  public KillHistory() {
+    this(c -> Collections.emptyMap());
+  }
+
+  public KillHistory(
+      Function<ClassName, Map<MutationIdentifier, MutationStatusTestPair>> historic) {
+    this.historic = historic;
+  }
+
+  /**
+   * Returns the tests stable sorted so that those with the highest kill rate
+   * against the mutated method come first, followed by those with the highest
+   * kill rate against the mutated class. Tests with equal rates keep their
+   * order. The given list is not modified.
+   *
+   * @param mutation
+   *          mutation the tests will be run against
+   * @param tests
+   *          tests to order
+   * @return the tests, with those most likely to kill the mutation first
+   */
+  public List<TestInfo> prioritise(MutationDetails mutation,
+      List<TestInfo> tests) {
+    this.inUse = true;
+    seed(mutation.getClassName());
+    final Map<String, Score> method = this.methods.getOrDefault(mutation
+        .getId().getLocation(), Collections.<String, Score> emptyMap());
+    final Map<String, Score> clazz = this.classes.getOrDefault(
+        mutation.getClassName(), Collections.<String, Score> emptyMap());
+    if (method.isEmpty() && clazz.isEmpty()) {
+      return tests;
+    }
+
+    // rates may change while sorting, so are read once up front
+    final Map<String, double[]> rates = new HashMap<>();
+    for (final TestInfo each : tests) {
+      rates.put(each.getName(), new double[] { rate(method, each.getName()),
+          rate(clazz, each.getName()) });
+    }
+    final List<TestInfo> sorted = new ArrayList<>(tests);
+    sorted.sort((a, b) -> {
+      final double[] ra = rates.get(a.getName());
+      final double[] rb = rates.get(b.getName());
+      final int byMethod = Double.compare(rb[0], ra[0]);
+      return byMethod != 0 ? byMethod : Double.compare(rb[1], ra[1]);
+    });
+    return sorted;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(ClassMutationResults results) {
+    if (!this.inUse) {
+      return;
+    }
+    for (final MutationResult each : results.getMutations()) {
+      // already seeded from the history
+      if (each.getStatusTestPair().getNumberOfTestsRun() == 0) {
+        continue;
+      }
+      final List<String> run = new ArrayList<>();
+      final List<TestInfo> tests = each.getDetails().getTestsInOrder();
+      final int numberRun = Math.min(tests.size(),
+          each.getStatusTestPair().getNumberOfTestsRun());
+      for (int i = 0; i != numberRun; i++) {
+        run.add(tests.get(i).getName());
+      }
+      record(each.getDetails().getId(), each.getStatusTestPair(), run);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+
+  }
+
+  private void seed(ClassName clazz) {
+    // other threads asking for the same class wait until it is seeded
+    this.seeded.computeIfAbsent(clazz, c -> {
+      for (final Entry<MutationIdentifier, MutationStatusTestPair> each : this.historic
+          .apply(c).entrySet()) {
+        record(each.getKey(), each.getValue(),
+            Collections.<String> emptyList());
+      }
+      return Boolean.TRUE;
+    });
+  }
+
+  private void record(MutationIdentifier id, MutationStatusTestPair status,
+      List<String> run) {
+    final List<String> killing = orEmpty(status.getKillingTests());
+    final Set<String> tests = new LinkedHashSet<>(run);
+    tests.addAll(killing);
+    tests.addAll(orEmpty(status.getSucceedingTests()));
+
+    final Map<String, Score> method = this.methods.computeIfAbsent(
+        id.getLocation(), k -> new ConcurrentHashMap<>());
+    final Map<String, Score> clazz = this.classes.computeIfAbsent(
+        id.getClassName(), k -> new ConcurrentHashMap<>());
+    for (final String each : tests) {
+      final boolean killed = killing.contains(each);
+      method.computeIfAbsent(each, k -> new Score()).add(killed);
+      clazz.computeIfAbsent(each, k -> new Score()).add(killed);
+    }
+  }
+
+  private static double rate(Map<String, Score> scores, String test) {
+    final Score score = scores.get(test);
+    return score == null ? 0 : score.rate();
+  }
+
+  private static List<String> orEmpty(List<String> tests) {
+    return tests == null ? Collections.<String> emptyList() : tests;
+  }
+
+  private static final class Score {
+    private int kills;
+    private int runs;
+
+    synchronized void add(boolean killed) {
+      this.runs++;
+      if (killed) {
+        this.kills++;
+      }
+    }
+
+    synchronized double rate() {
+      return (double) this.kills / this.runs;
+    }
+  }
+
+}
@@ -0,0 +1,38 @@
+package org.pitest.mutationtest.build;
+
+import java.util.List;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Orders the tests chosen by another prioritiser by how often they have
+ * killed mutants in the same method, then in the same class, so that tests
+ * likely to kill a mutant are run before slower or less effective ones.
+ */
+public class KillHistoryTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser child;
+  private final KillHistory     kills;
+
+  public KillHistoryTestPrioritiser(TestPrioritiser child, KillHistory kills) {
+    this.child = child;
+    this.kills = kills;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(MutationDetails mutation) {
+    return this.kills.prioritise(mutation, this.child.assignTests(mutation));
+  }
+
+  @Override
+  public void reprioritise(MutationDetails mutation) {
+    // the tests may be being read elsewhere, so are reordered in a copy
+    final List<TestInfo> tests = mutation.getTestsInOrder();
+    final List<TestInfo> ordered = this.kills.prioritise(mutation, tests);
+    if (ordered != tests) {
+      mutation.reorderTestsInOrder(ordered);
+    }
+  }
+
+}
@@ -0,0 +1,35 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+
+public class KillHistoryTestPrioritiserFactory implements
+    TestPrioritiserFactory {
+
+  @Override
+  public String name() {
+    return "killHistory";
+  }
+
+  @Override
+  public String description() {
+    return "Kill history test prioritiser";
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage) {
+    return makeTestPrioritiser(props, code, coverage, new KillHistory());
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage,
+      final KillHistory kills) {
+    return new KillHistoryTestPrioritiser(new DefaultTestPrioritiser(coverage),
+        kills);
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.build;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * How the minions that analyse mutations are provided and fed.
+ */
+public final class MinionSettings {
+
+  private final int                       reuseLimit;
+  private final Consumer<MutationDetails> reprioritiser;
+  private final List<InetSocketAddress>   workerAgents;
+  private final String                    workerAgentSecret;
+
+  private MinionSettings(int reuseLimit,
+      Consumer<MutationDetails> reprioritiser,
+      List<InetSocketAddress> workerAgents, String workerAgentSecret) {
+    this.reuseLimit = reuseLimit;
+    this.reprioritiser = reprioritiser;
+    this.workerAgents = workerAgents;
+    this.workerAgentSecret = workerAgentSecret;
+  }
+
+  /**
+   * @return settings that launch a local minion for every batch of mutations
+   */
+  public static MinionSettings defaults() {
+    return new MinionSettings(0, m -> { },
+        Collections.<InetSocketAddress> emptyList(), null);
+  }
+
+  /**
+   * @param reuseLimit
+   *          number of mutations a minion may analyse before it is replaced.
+   *          If zero or less a new minion is launched for every batch of
+   *          mutations.
+   * @return settings with the given limit
+   */
+  public MinionSettings withReuseLimit(int reuseLimit) {
+    return new MinionSettings(reuseLimit, this.reprioritiser,
+        this.workerAgents, this.workerAgentSecret);
+  }
+
+  /**
+   * @param reprioritiser
+   *          applied to each mutation just before it is sent to a minion, so
+   *          that the order of its tests may reflect results received since
+   *          the tests were assigned.
+   * @return settings with the given reprioritiser
+   */
+  public MinionSettings withReprioritiser(
+      Consumer<MutationDetails> reprioritiser) {
+    return new MinionSettings(this.reuseLimit, reprioritiser,
+        this.workerAgents, this.workerAgentSecret);
+  }
+
+  /**
+   * @param workerAgents
+   *          addresses of worker agents to analyse mutations on. If empty,
+   *          minions are launched locally.
+   * @param workerAgentSecret
+   *          shared secret the worker agents were started with
+   * @return settings using the given agents
+   */
+  public MinionSettings withWorkerAgents(List<InetSocketAddress> workerAgents,
+      String workerAgentSecret) {
+    return new MinionSettings(this.reuseLimit, this.reprioritiser,
+        Collections.unmodifiableList(new ArrayList<>(workerAgents)),
+        workerAgentSecret);
+  }
+
+  public int reuseLimit() {
+    return this.reuseLimit;
+  }
+
+  public Consumer<MutationDetails> reprioritiser() {
+    return this.reprioritiser;
+  }
+
+  public List<InetSocketAddress> workerAgents() {
+    return this.workerAgents;
+  }
+
+  public String workerAgentSecret() {
+    return this.workerAgentSecret;
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import org.pitest.mutationtest.MutationMetaData;
 
@@ -11,4 +12,22 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * Analyses the unit, passing on results as they become available. Units
+   * that analyse their mutations in several steps may pass the results of
+   * each step to the consumer as it completes, rather than holding them back
+   * until the whole unit is done. Results passed to the consumer are not
+   * returned again.
+   *
+   * @param partialResults
+   *          receives results before the unit completes
+   * @return results not already passed to the consumer
+   * @throws Exception
+   *           if the unit could not be analysed
+   */
+  default MutationMetaData call(Consumer<MutationMetaData> partialResults)
+      throws Exception {
+    return call();
+  }
+
 }
@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Estimates the time taken to analyse mutations from the execution times
+ * recorded for their tests during coverage.
+ *
+ * <p>
+ * Each mutant is assumed to run every test that covers it. This overstates the
+ * cost of mutants that are killed early, but is the best guess available
+ * before analysis. A nominal millisecond is added per mutant, so that units
+ * whose tests record no time are still ordered by size.
+ */
+final class MutationCost {
+
+  private MutationCost() {
+  }
+
+  /**
+   * @return estimated cost in milliseconds
+   */
+  static long estimate(final MutationDetails mutation) {
+    long cost = 1;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost = cost + Math.max(0, each.getTime());
+    }
+    return cost;
+  }
+
+  /**
+   * @return estimated cost in milliseconds
+   */
+  static long estimate(final Collection<MutationDetails> mutations) {
+    long cost = 0;
+    for (final MutationDetails each : mutations) {
+      cost = cost + estimate(each);
+    }
+    return cost;
+  }
+
+}
@@ -0,0 +1,99 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Hands out batches of mutations, each from a single class, to threads as
+ * they become free.
+ *
+ * <p>
+ * A thread is given more mutations from the class it last worked on while any
+ * remain, so that classes are spread between as few minions as possible.
+ * Otherwise it is given mutations from the class not yet started with the most
+ * estimated work left, so that threads do not pile onto a class another thread
+ * is already working on. Once all classes have been started, it is given
+ * mutations from whichever class has the most estimated work left.
+ */
+class MutationQueue {
+
+  private final int                                   batchSize;
+  private final Map<ClassName, Deque<MutationDetails>> byClass       = new LinkedHashMap<>();
+  private final Map<ClassName, Long>                  remainingCost = new HashMap<>();
+  private final Set<ClassName>                        started       = new HashSet<>();
+
+  MutationQueue(final Collection<MutationDetails> mutations,
+      final int batchSize) {
+    this.batchSize = batchSize;
+    for (final MutationDetails each : mutations) {
+      this.byClass.computeIfAbsent(each.getClassName(),
+          c -> new ArrayDeque<>()).add(each);
+      this.remainingCost.merge(each.getClassName(),
+          MutationCost.estimate(each), Long::sum);
+    }
+  }
+
+  /**
+   * @param preferred
+   *          class last worked on by the caller, or null
+   * @return the next batch, or an empty list once all mutations have been
+   *         handed out
+   */
+  synchronized List<MutationDetails> poll(final ClassName preferred) {
+    final ClassName clazz = (preferred != null)
+        && this.byClass.containsKey(preferred) ? preferred : mostWorkLeft();
+    if (clazz == null) {
+      return Collections.emptyList();
+    }
+    this.started.add(clazz);
+
+    final Deque<MutationDetails> remaining = this.byClass.get(clazz);
+    final List<MutationDetails> batch = new ArrayList<>(this.batchSize);
+    long cost = 0;
+    while (!remaining.isEmpty() && (batch.size() != this.batchSize)) {
+      final MutationDetails each = remaining.poll();
+      cost = cost + MutationCost.estimate(each);
+      batch.add(each);
+    }
+
+    if (remaining.isEmpty()) {
+      this.byClass.remove(clazz);
+      this.remainingCost.remove(clazz);
+    } else {
+      this.remainingCost.put(clazz, this.remainingCost.get(clazz) - cost);
+    }
+    return batch;
+  }
+
+  private ClassName mostWorkLeft() {
+    final ClassName unstarted = mostWorkLeft(false);
+    return unstarted != null ? unstarted : mostWorkLeft(true);
+  }
+
+  private ClassName mostWorkLeft(final boolean includeStarted) {
+    ClassName most = null;
+    long mostCost = -1;
+    for (final Map.Entry<ClassName, Long> each : this.remainingCost
+        .entrySet()) {
+      if ((includeStarted || !this.started.contains(each.getKey()))
+          && (each.getValue() > mostCost)) {
+        most = each.getKey();
+        mostCost = each.getValue();
+      }
+    }
+    return most;
+  }
+
+}
@@ -62,7 +62,7 @@ public class MutationSource {
 
       this.interceptor.begin(tree);
       final Collection<MutationDetails> updatedMutations = this.interceptor
-          .intercept(availableMutations, m);
+          .intercept(availableMutations, new CachingMutater(m));
       this.interceptor.end();
 
       assignTestsToMutations(updatedMutations);
@@ -80,6 +80,9 @@ public class MutationSource {
         LOG.fine("According to coverage no tests hit the mutation " + mutation);
       }
       mutation.addTestsInOrder(testDetails);
+      for (final MutationDetails duplicate : mutation.getDuplicates()) {
+        duplicate.addTestsInOrder(testDetails);
+      }
     }
   }
 
@@ -21,8 +21,14 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
@@ -33,19 +39,51 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
 
 public class MutationTestBuilder {
 
-  private final MutationSource   mutationSource;
-  private final MutationAnalyser analyser;
-  private final WorkerFactory    workerFactory;
-  private final MutationGrouper  grouper;
+  // small enough for threads to share out the last classes of a run, large
+  // enough that the cost of sending each batch to a minion is not noticed
+  private static final int               DEFAULT_DISPATCH_BATCH_SIZE = 10;
+
+  private final Supplier<MutationSource> mutationSources;
+  private final int                      discoveryThreads;
+  private final MutationAnalyser         analyser;
+  private final WorkerFactory            workerFactory;
+  private final MutationGrouper          grouper;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, () -> mutationSource, grouper, 1);
+  }
 
-    this.mutationSource = mutationSource;
+  /**
+   * Mutations are discovered on up to discoveryThreads threads. Each thread
+   * obtains its own MutationSource from the supplier, so sources (and the
+   * mutaters and interceptors they hold) are never shared between threads.
+   * Anything the supplier shares between the sources it creates, such as the
+   * underlying class byte source, must be thread safe.
+   *
+   * @param workerFactory
+   *          creates the processes that analyse mutations
+   * @param analyser
+   *          finds mutations whose results are already known
+   * @param mutationSources
+   *          creates a source of mutations for each discovery thread
+   * @param grouper
+   *          groups mutations into units
+   * @param discoveryThreads
+   *          maximum number of threads to discover mutations on
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser,
+      final Supplier<MutationSource> mutationSources,
+      final MutationGrouper grouper, final int discoveryThreads) {
+
+    this.mutationSources = mutationSources;
+    this.discoveryThreads = discoveryThreads;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
@@ -54,9 +92,61 @@ public class MutationTestBuilder {
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    final Collection<MutationDetails> needAnalysis = analyse(codeClasses, tus);
+
+    if (!needAnalysis.isEmpty()) {
+      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
+          codeClasses, needAnalysis)) {
+        tus.add(makeUnanalysedUnit(ms));
+      }
+    }
+
+    tus.sort(new AnalysisPriorityComparator());
+    return tus;
+  }
+
+  /**
+   * Creates one unit per thread in place of units fixed in advance. Each
+   * takes batches of up to batchSize mutations from a shared queue until none
+   * remain.
+   *
+   * @param codeClasses
+   *          classes to mutate
+   * @param threads
+   *          maximum number of dispatching units to create
+   * @param batchSize
+   *          maximum mutations per batch. A default is used if zero or less.
+   * @return units for any results already known and units that analyse the
+   *         remaining mutations
+   */
+  public List<MutationAnalysisUnit> createDispatchingUnits(
+      final Collection<ClassName> codeClasses, final int threads,
+      final int batchSize) {
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    final Collection<MutationDetails> needAnalysis = analyse(codeClasses, tus);
+
+    if (!needAnalysis.isEmpty()) {
+      final MutationQueue queue = new MutationQueue(needAnalysis,
+          batchSize > 0 ? batchSize : DEFAULT_DISPATCH_BATCH_SIZE);
+      final int units = Math.max(1, Math.min(threads, needAnalysis.size()));
+      for (int i = 0; i != units; i++) {
+        tus.add(new DispatchingMutationTestUnit(queue,
+            this::makeUnanalysedUnit));
+      }
+    }
+
+    tus.sort(new AnalysisPriorityComparator());
+    return tus;
+  }
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses,
-        classToMutations());
+  /**
+   * Adds a unit for mutations whose status is already known to the supplied
+   * list, and returns those that must be analysed.
+   */
+  private Collection<MutationDetails> analyse(
+      final Collection<ClassName> codeClasses,
+      final List<MutationAnalysisUnit> tus) {
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
     mutations.sort(comparing(MutationDetails::getId));
 
@@ -74,20 +164,61 @@ public class MutationTestBuilder {
     if (!analysed.isEmpty()) {
       tus.add(makePreAnalysedUnit(analysed));
     }
+    return needAnalysis;
+  }
 
-    if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needAnalysis)) {
-        tus.add(makeUnanalysedUnit(ms));
+  private List<MutationDetails> findMutations(
+      final Collection<ClassName> codeClasses) {
+    if ((this.discoveryThreads <= 1) || (codeClasses.size() <= 1)) {
+      return FCollection.flatMap(codeClasses,
+          classToMutations(this.mutationSources.get()));
+    }
+
+    final ThreadLocal<MutationSource> sources = ThreadLocal
+        .withInitial(this.mutationSources);
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.min(this.discoveryThreads, codeClasses.size()), discoveryThread());
+    try {
+      final List<Future<Collection<MutationDetails>>> results = new ArrayList<>(
+          codeClasses.size());
+      for (final ClassName each : codeClasses) {
+        results.add(executor.submit(() -> sources.get().createMutations(each)));
+      }
+
+      // combine in class order so output does not depend on scheduling
+      final List<MutationDetails> mutations = new ArrayList<>();
+      for (final Future<Collection<MutationDetails>> each : results) {
+        mutations.addAll(each.get());
       }
+      return mutations;
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw Unchecked.translateCheckedException(e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      executor.shutdownNow();
     }
+  }
 
-    tus.sort(new AnalysisPriorityComparator());
-    return tus;
+  private static ThreadFactory discoveryThread() {
+    return r -> {
+      final Thread t = new Thread(r);
+      t.setDaemon(true);
+      t.setName("pit-mutation-discovery");
+      return t;
+    };
   }
 
-  private Function<ClassName, Iterable<MutationDetails>> classToMutations() {
-    return a -> MutationTestBuilder.this.mutationSource.createMutations(a);
+  private static Function<ClassName, Iterable<MutationDetails>> classToMutations(
+      final MutationSource source) {
+    return a -> source.createMutations(a);
   }
 
   private MutationAnalysisUnit makePreAnalysedUnit(
@@ -57,9 +57,15 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return reportResults(mutations);
   }
 
+  /**
+   * Estimated from recorded test times, so that the most expensive units
+   * start first.
+   */
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    // below Integer.MAX_VALUE so units of known results still go first
+    return (int) Math.min(Integer.MAX_VALUE - 1,
+        MutationCost.estimate(this.availableMutations));
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
@@ -15,4 +15,16 @@ public interface TestPrioritiser {
    */
   List<TestInfo> assignTests(MutationDetails mutation);
 
+  /**
+   * Revises the order of the tests assigned to a mutation just before it is
+   * analysed, in light of any results that have arrived since the tests were
+   * assigned. By default the order is left unchanged.
+   *
+   * @param mutation
+   *          Mutation about to be analysed
+   */
+  default void reprioritise(MutationDetails mutation) {
+
+  }
+
 }
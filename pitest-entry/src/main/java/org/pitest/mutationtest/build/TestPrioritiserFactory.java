@@ -8,7 +8,35 @@ import org.pitest.plugin.ToolClasspathPlugin;
 
 public interface TestPrioritiserFactory extends ToolClasspathPlugin {
 
+  /**
+   * Name by which the prioritiser may be selected
+   *
+   * @return the name
+   */
+  default String name() {
+    return getClass().getName();
+  }
+
   TestPrioritiser makeTestPrioritiser(Properties props, CodeSource code,
       CoverageDatabase coverage);
 
+  /**
+   * Creates a prioritiser that may learn from the kills recorded in the
+   * supplied history. By default the history is ignored.
+   *
+   * @param props
+   *          configuration of the prioritiser
+   * @param code
+   *          source of the code under test
+   * @param coverage
+   *          coverage of the code by the tests
+   * @param kills
+   *          kills recorded by earlier and current analyses
+   * @return the prioritiser
+   */
+  default TestPrioritiser makeTestPrioritiser(Properties props,
+      CodeSource code, CoverageDatabase coverage, KillHistory kills) {
+    return makeTestPrioritiser(props, code, coverage);
+  }
+
 }
@@ -14,10 +14,11 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.PooledMutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
-import org.pitest.util.SocketFinder;
 
 public class WorkerFactory {
 
@@ -29,6 +30,9 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionSettings        minions;
+
+  private MinionPool                  pool;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -38,6 +42,39 @@ public class WorkerFactory {
       final boolean verbose,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, MinionSettings.defaults());
+  }
+
+  /**
+   * @param baseDir
+   *          directory minions are run from
+   * @param pitConfig
+   *          test plugin settings passed to minions
+   * @param mutationConfig
+   *          mutation engine settings
+   * @param args
+   *          arguments for the mutation engine
+   * @param timeoutStrategy
+   *          how long a mutant's tests may run before it is timed out
+   * @param verbose
+   *          if true, the standard output of minions is printed
+   * @param fullMutationMatrix
+   *          if true, all tests are run against each mutant
+   * @param classPath
+   *          classpath minions are launched with
+   * @param minions
+   *          how minions are provided and fed
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionSettings minions) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -46,24 +83,45 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.minions = minions;
   }
 
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    remainingMutations.forEach(this.minions.reprioritiser());
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
         Log.isVerbose(), this.fullMutationMatrix, this.pitConfig);
 
-    final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
+    return new PooledMutationTestProcess(pool(), fileArgs,
+        remainingMutations.size());
+  }
+
+  /**
+   * Shuts down any minions kept alive for reuse.
+   */
+  public synchronized void shutdown() {
+    if (this.pool != null) {
+      this.pool.shutdown();
+    }
+  }
+
+  private synchronized MinionPool pool() {
+    if (this.pool == null) {
+      this.pool = this.minions.workerAgents().isEmpty()
+          ? new MinionPool(createProcessArgs(), this.minions.reuseLimit())
+          : MinionPool.remote(this.minions.workerAgents(),
+              this.minions.workerAgentSecret(), this.minions.reuseLimit());
+    }
+    return this.pool;
+  }
+
+  private ProcessArgs createProcessArgs() {
+    return ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(printWith("stderr "));
-
-    final SocketFinder sf = new SocketFinder();
-    final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
-    return worker;
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
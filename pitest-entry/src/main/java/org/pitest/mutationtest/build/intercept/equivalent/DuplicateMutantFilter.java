@@ -0,0 +1,197 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.TypePath;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Trivial compiler equivalence. Compares the bytecode of each mutated method
+ * once debug information, frames and stack sizes are stripped.
+ *
+ * <p>
+ * Mutants whose method is unchanged are equivalent to the unmutated code, so
+ * are removed. Of the mutants in a block that produce the same method, only
+ * the first is kept and the rest are recorded as its duplicates, to be
+ * reported with its result. Mutants in different blocks are never combined,
+ * as they may be covered by different tests.
+ */
+class DuplicateMutantFilter implements MutationInterceptor {
+
+  private ClassTree currentClass;
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final List<MutationDetails> ordered = new ArrayList<>(mutations);
+    final List<Mutant> mutants = m.getMutations(ordered.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
+
+    final Map<Location, Optional<ByteBuffer>> originals = new HashMap<>();
+    final Map<Key, List<MutationDetails>> groups = new HashMap<>();
+    final List<Key> keys = new ArrayList<>(ordered.size());
+    for (int i = 0; i != ordered.size(); i++) {
+      final MutationDetails each = ordered.get(i);
+      final Location location = each.getId().getLocation();
+      final Optional<ByteBuffer> mutated = canonical(ClassTree.methodFromBytes(
+          mutants.get(i).getBytes(), location));
+      final Optional<ByteBuffer> original = originals.computeIfAbsent(location,
+          l -> canonical(this.currentClass.method(l)));
+      if (!mutated.isPresent() || !original.isPresent()) {
+        // cannot compare, so must be run
+        keys.add(null);
+      } else if (mutated.equals(original)) {
+        keys.add(Key.EQUIVALENT);
+      } else {
+        final Key key = new Key(location, each.getBlock(), mutated.get());
+        groups.computeIfAbsent(key, k -> new ArrayList<>()).add(each);
+        keys.add(key);
+      }
+    }
+
+    final List<MutationDetails> kept = new ArrayList<>();
+    for (int i = 0; i != ordered.size(); i++) {
+      final MutationDetails each = ordered.get(i);
+      final Key key = keys.get(i);
+      if (key == null) {
+        kept.add(each);
+      } else if (key != Key.EQUIVALENT) {
+        final List<MutationDetails> group = groups.get(key);
+        if (group.get(0) == each) {
+          kept.add(group.size() == 1 ? each
+              : each.withDuplicates(group.subList(1, group.size())));
+        }
+      }
+    }
+    return kept;
+  }
+
+  @Override
+  public void end() {
+    this.currentClass = null;
+  }
+
+  private static Optional<ByteBuffer> canonical(Optional<MethodTree> method) {
+    if (!method.isPresent()) {
+      return Optional.empty();
+    }
+    final MethodNode node = method.get().rawNode();
+    try {
+      // a fresh constant pool, built in the order the method uses it, means
+      // identical code gives identical bytes
+      final ClassWriter w = new ClassWriter(0);
+      w.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Canonical", null,
+          "java/lang/Object", null);
+      node.accept(new WithoutDebugInformation(w.visitMethod(node.access,
+          node.name, node.desc, null, null)));
+      w.visitEnd();
+      return Optional.of(ByteBuffer.wrap(w.toByteArray()));
+    } catch (final RuntimeException ex) {
+      return Optional.empty();
+    }
+  }
+
+  private static class WithoutDebugInformation extends MethodVisitor {
+
+    WithoutDebugInformation(MethodVisitor mv) {
+      super(ASMVersion.ASM_VERSION, mv);
+    }
+
+    @Override
+    public void visitLineNumber(int line, Label start) {
+      // dropped
+    }
+
+    @Override
+    public void visitLocalVariable(String name, String descriptor,
+        String signature, Label start, Label end, int index) {
+      // dropped
+    }
+
+    @Override
+    public AnnotationVisitor visitLocalVariableAnnotation(
+        int typeRef, TypePath typePath, Label[] start, Label[] end,
+        int[] index, String descriptor, boolean visible) {
+      return null;
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local,
+        int numStack, Object[] stack) {
+      // dropped
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+      super.visitMaxs(0, 0);
+    }
+
+  }
+
+  private static final class Key {
+    private static final Key EQUIVALENT = new Key(null, -1, null);
+
+    private final Location   location;
+    private final int        block;
+    private final ByteBuffer code;
+
+    Key(Location location, int block, ByteBuffer code) {
+      this.location = location;
+      this.block = block;
+      this.code = code;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.location, this.block, this.code);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if ((obj == null) || (getClass() != obj.getClass())) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return Objects.equals(this.location, other.location)
+          && (this.block == other.block)
+          && Objects.equals(this.code, other.code);
+    }
+  }
+
+}
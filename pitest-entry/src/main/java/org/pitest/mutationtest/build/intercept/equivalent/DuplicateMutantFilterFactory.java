@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class DuplicateMutantFilterFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Trivial compiler equivalence filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FTCE")
+        .withOnByDefault(false)
+        .withDescription("Filters mutants with bytecode identical to the unmutated code, and runs only one of each set of identical mutants");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new DuplicateMutantFilter();
+  }
+
+}
@@ -6,8 +6,10 @@ import static org.pitest.bytecode.analysis.InstructionMatchers.notAnInstruction;
 import static org.pitest.bytecode.analysis.InstructionMatchers.opCode;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -22,8 +24,10 @@ import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.sequence.QueryParams;
 import org.pitest.sequence.QueryStart;
 import org.pitest.sequence.SequenceMatcher;
@@ -78,24 +82,31 @@ public class EqualsPerformanceShortcutFilter implements MutationInterceptor {
         .filter(MethodMatchers.forLocation(equalsMethod))
         .findFirst();
 
-    return inEquals.stream()
-        .filter(isShortcutEquals(maybeEquals.get(), m).negate())
+    final MethodTree equals = maybeEquals.get();
+    final List<MutationDetails> candidates = inEquals.stream()
+        .filter(a -> mutatesAConditionalJump(equals, a.getInstructionIndex()))
         .collect(Collectors.toList());
-  }
-
-  private Predicate<MutationDetails> isShortcutEquals(final MethodTree tree, final Mutater m) {
-    return a -> shortCutEquals(tree,a, m);
-  }
+    if (candidates.isEmpty()) {
+      return inEquals;
+    }
 
-  private Boolean shortCutEquals(MethodTree tree, MutationDetails a, Mutater m) {
-    if (!mutatesAConditionalJump(tree, a.getInstructionIndex())) {
-      return false;
+    final List<Mutant> mutants = m.getMutations(FCollection.map(candidates,
+        MutationDetails::getId));
+    final Set<MutationIdentifier> shortcuts = new HashSet<>();
+    for (int i = 0; i != candidates.size(); i++) {
+      if (shortCutEquals(equals, mutants.get(i))) {
+        shortcuts.add(candidates.get(i).getId());
+      }
     }
 
-    final ClassTree mutant = ClassTree.fromBytes(m.getMutation(a.getId()).getBytes());
-    final MethodTree mutantEquals = mutant.methods().stream()
-        .filter(MethodMatchers.forLocation(tree.asLocation()))
-        .findFirst()
+    return inEquals.stream()
+        .filter(a -> !shortcuts.contains(a.getId()))
+        .collect(Collectors.toList());
+  }
+
+  private boolean shortCutEquals(MethodTree tree, Mutant mutant) {
+    final MethodTree mutantEquals = ClassTree
+        .methodFromBytes(mutant.getBytes(), tree.asLocation())
         .get();
 
     return ALWAYS_FALSE.matches(mutantEquals.instructions());
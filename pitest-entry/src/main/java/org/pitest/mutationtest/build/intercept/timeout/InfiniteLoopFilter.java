@@ -18,6 +18,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.sequence.SequenceMatcher;
@@ -65,23 +66,33 @@ public abstract class InfiniteLoopFilter implements MutationInterceptor {
       return Collections.emptyList();
     }
 
-    final List<MutationDetails> timeouts = new ArrayList<>();
+    // avoid cost of static analysis by first checking mutant is on
+    // on instruction that could affect looping
+    final List<MutationDetails> candidates = new ArrayList<>();
     for ( final MutationDetails each : mutations ) {
-      // avoid cost of static analysis by first checking mutant is on
-      // on instruction that could affect looping
-      if (couldCauseInfiniteLoop(method, each) && isInfiniteLoop(each,m) ) {
-        timeouts.add(each);
+      if (couldCauseInfiniteLoop(method, each)) {
+        candidates.add(each);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<Mutant> mutants = m.getMutations(FCollection.map(candidates,
+        MutationDetails::getId));
+    final List<MutationDetails> timeouts = new ArrayList<>();
+    for (int i = 0; i != candidates.size(); i++) {
+      if (isInfiniteLoop(location, mutants.get(i))) {
+        timeouts.add(candidates.get(i));
       }
     }
     return timeouts;
 
   }
 
-  private boolean isInfiniteLoop(MutationDetails each, Mutater m) {
-    final ClassTree mutantClass = ClassTree.fromBytes(m.getMutation(each.getId()).getBytes());
-    final Optional<MethodTree> mutantMethod = mutantClass.methods().stream()
-        .filter(forLocation(each.getId().getLocation()))
-        .findFirst();
+  private boolean isInfiniteLoop(Location location, Mutant mutant) {
+    final Optional<MethodTree> mutantMethod = ClassTree
+        .methodFromBytes(mutant.getBytes(), location);
     return infiniteLoopMatcher().matches(mutantMethod.get().instructions());
   }
 
@@ -170,7 +170,10 @@ public enum ConfigOption {
   HISTORY_INPUT_LOCATION("historyInputLocation"),
 
   /**
-   * Location to write history to for incremental analysis
+   * Location to write history to for incremental analysis. History is written
+   * in a binary format that versions of pitest before 1.5.3 cannot read. A
+   * history file in the older format, including one that is also the input
+   * location, is replaced in the binary format at the end of the analysis.
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
@@ -224,7 +227,42 @@ public enum ConfigOption {
    * Allows very long classpaths that would otherwise exceed OS limits, but
    * may cause problems with some third party libraries.
    */
-  USE_CLASSPATH_JAR("useClasspathJar", false);
+  USE_CLASSPATH_JAR("useClasspathJar", false),
+
+  /**
+   * Number of mutations a minion may analyse before it is replaced. If zero a
+   * new minion is launched for each mutation test unit.
+   */
+  MINION_REUSE_LIMIT("minionReuseLimit", 0),
+
+  /**
+   * Split coverage collection between as many minions as there are threads.
+   */
+  PARALLEL_COVERAGE("parallelCoverage", false),
+
+  /**
+   * Name of the test prioritiser to use. If not set the single prioritiser
+   * found on the classpath, or the default prioritiser, is used.
+   */
+  TEST_PRIORITISER("testPrioritiser"),
+
+  /**
+   * Have each thread pull batches of mutations from a shared queue instead of
+   * fixing units of work before analysis starts.
+   */
+  DYNAMIC_DISPATCH("dynamicDispatch", false),
+
+  /**
+   * Comma separated list of host:port addresses of worker agents to run
+   * mutation analysis on. If not set mutations are analysed locally.
+   */
+  WORKER_AGENTS("workerAgents"),
+
+  /**
+   * Shared secret the worker agents were started with. Sent to each agent
+   * before it launches a minion.
+   */
+  WORKER_AGENT_SECRET("workerAgentSecret");
 
   private final String       text;
   private final Serializable defaultValue;
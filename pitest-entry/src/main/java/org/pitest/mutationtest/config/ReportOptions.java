@@ -141,6 +141,18 @@ public class ReportOptions {
   
   private boolean                        useClasspathJar;
 
+  private int                            minionReuseLimit;
+
+  private boolean                        parallelCoverage;
+
+  private String                         testPrioritiser;
+
+  private boolean                        dynamicDispatch;
+
+  private final List<String>             workerAgents                   = new ArrayList<>();
+
+  private String                         workerAgentSecret;
+
 
   public boolean isVerbose() {
     return this.verbose;
@@ -475,6 +487,15 @@ public class ReportOptions {
     this.detectInlinedCode = b;
   }
 
+  /**
+   * Writer for history in the text format of
+   * {@link org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore}.
+   *
+   * @return factory for a writer to the history output location
+   * @deprecated pitest now writes history in a binary format, opening the
+   *             history locations itself
+   */
+  @Deprecated
   public WriterFactory createHistoryWriter() {
     if (this.historyOutputLocation == null) {
       return new NullWriterFactory();
@@ -483,6 +504,15 @@ public class ReportOptions {
     return new FileWriterFactory(this.historyOutputLocation);
   }
 
+  /**
+   * Reader for history in the text format of
+   * {@link org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore}.
+   *
+   * @return reader for the history input location, if it has any content
+   * @deprecated pitest now reads history in a binary format, opening the
+   *             history locations itself
+   */
+  @Deprecated
   public Optional<Reader> createHistoryReader() {
     if (this.historyInputLocation == null) {
       return Optional.empty();
@@ -629,6 +659,61 @@ public class ReportOptions {
     this.useClasspathJar = useClasspathJar;
   }
 
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
+  public void setMinionReuseLimit(int minionReuseLimit) {
+    this.minionReuseLimit = minionReuseLimit;
+  }
+
+  public boolean isParallelCoverage() {
+    return this.parallelCoverage;
+  }
+
+  public void setParallelCoverage(boolean parallelCoverage) {
+    this.parallelCoverage = parallelCoverage;
+  }
+
+  public String getTestPrioritiser() {
+    return this.testPrioritiser;
+  }
+
+  public void setTestPrioritiser(String testPrioritiser) {
+    this.testPrioritiser = testPrioritiser;
+  }
+
+  public boolean isDynamicDispatch() {
+    return this.dynamicDispatch;
+  }
+
+  public void setDynamicDispatch(boolean dynamicDispatch) {
+    this.dynamicDispatch = dynamicDispatch;
+  }
+
+  /**
+   * @return host:port addresses of the worker agents to analyse mutations on
+   */
+  public List<String> getWorkerAgents() {
+    return this.workerAgents;
+  }
+
+  public void setWorkerAgents(Collection<String> workerAgents) {
+    this.workerAgents.clear();
+    this.workerAgents.addAll(workerAgents);
+  }
+
+  /**
+   * @return shared secret the worker agents were started with
+   */
+  public String getWorkerAgentSecret() {
+    return this.workerAgentSecret;
+  }
+
+  public void setWorkerAgentSecret(String workerAgentSecret) {
+    this.workerAgentSecret = workerAgentSecret;
+  }
+
   @Override
   public String toString() {
     return "ReportOptions [targetClasses=" + targetClasses
@@ -656,7 +741,12 @@ public class ReportOptions {
         + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
         + excludedRunners + ", includedTestMethods=" + includedTestMethods
         + ", testPlugin=" + testPlugin + ", useClasspathJar=" + useClasspathJar
-        + ", skipFailingTests=" + skipFailingTests + "]";
+        + ", skipFailingTests=" + skipFailingTests
+        + ", minionReuseLimit=" + minionReuseLimit
+        + ", parallelCoverage=" + parallelCoverage
+        + ", testPrioritiser=" + testPrioritiser
+        + ", dynamicDispatch=" + dynamicDispatch
+        + ", workerAgents=" + workerAgents + "]";
   }
 
 
@@ -19,6 +19,7 @@ import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
+import org.pitest.mutationtest.build.KillHistoryTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
@@ -111,7 +112,21 @@ public class SettingsFactory {
   public TestPrioritiserFactory getTestPrioritiser() {
     final Collection<? extends TestPrioritiserFactory> testPickers = this.plugins
         .findTestPrioritisers();
-    return firstOrDefault(testPickers, new DefaultTestPrioritiserFactory());
+    final String requested = this.options.getTestPrioritiser();
+    if (requested == null) {
+      return firstOrDefault(testPickers, new DefaultTestPrioritiserFactory());
+    }
+
+    final List<TestPrioritiserFactory> available = new ArrayList<>(testPickers);
+    available.add(new DefaultTestPrioritiserFactory());
+    available.add(new KillHistoryTestPrioritiserFactory());
+    for (final TestPrioritiserFactory each : available) {
+      if (each.name().equals(requested)) {
+        return each;
+      }
+    }
+    throw new PitError("Could not load requested test prioritiser "
+        + requested);
   }
 
   public CoverageOptions createCoverageOptions() {
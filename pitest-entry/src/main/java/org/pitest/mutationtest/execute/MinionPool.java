@@ -0,0 +1,128 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+import org.pitest.util.MinionListener;
+
+/**
+ * Keeps minions alive between mutation test units so that the cost of
+ * launching a JVM and loading the classpath is paid once per minion rather
+ * than once per unit.
+ *
+ * A minion is retired if it exits abnormally (e.g. due to a timeout or running
+ * out of memory), or once it has analysed the configured number of mutations.
+ * With a limit of zero or less every minion is retired after one unit.
+ *
+ * Local minions all connect back to a single shared listener. A pool may
+ * instead be given the addresses of {@link WorkerAgent}s, in which case each
+ * new minion is requested from the next agent in turn, skipping any agent
+ * that cannot be reached or does not accept the pool's secret.
+ */
+public class MinionPool {
+
+  private static final Logger               LOG       = Log.getLogger();
+
+  private final ProcessArgs                 processArgs;
+  private final List<InetSocketAddress>     agents;
+  private final String                      secret;
+  private final int                         reuseLimit;
+  private final MinionListener              listener;
+  private final BlockingQueue<PooledMinion> idle      = new LinkedBlockingQueue<>();
+  private final AtomicInteger               nextAgent = new AtomicInteger();
+
+  private volatile boolean                  shutdown;
+
+  public MinionPool(final ProcessArgs processArgs, final int reuseLimit) {
+    this(processArgs, Collections.<InetSocketAddress> emptyList(), null,
+        reuseLimit, new MinionListener());
+  }
+
+  private MinionPool(final ProcessArgs processArgs,
+      final List<InetSocketAddress> agents, final String secret,
+      final int reuseLimit, final MinionListener listener) {
+    this.processArgs = processArgs;
+    this.agents = new ArrayList<>(agents);
+    this.secret = secret;
+    this.reuseLimit = reuseLimit;
+    this.listener = listener;
+  }
+
+  /**
+   * Pool of minions run by the worker agents at the given addresses
+   *
+   * @param agents
+   *          addresses of the worker agents
+   * @param secret
+   *          shared secret the agents were started with
+   * @param reuseLimit
+   *          number of mutations a minion may analyse before it is replaced
+   * @return the pool
+   */
+  public static MinionPool remote(final List<InetSocketAddress> agents,
+      final String secret, final int reuseLimit) {
+    return new MinionPool(null, agents, secret, reuseLimit, null);
+  }
+
+  PooledMinion acquire() throws IOException {
+    final PooledMinion warm = this.idle.poll();
+    if (warm != null) {
+      return warm;
+    }
+    if (!this.agents.isEmpty()) {
+      return acquireRemote();
+    }
+    final PooledMinion minion = new PooledMinion(this.listener,
+        this.processArgs);
+    minion.start();
+    return minion;
+  }
+
+  private PooledMinion acquireRemote() throws IOException {
+    for (int i = 0; i != this.agents.size(); i++) {
+      final InetSocketAddress agent = this.agents.get(Math.floorMod(
+          this.nextAgent.getAndIncrement(), this.agents.size()));
+      final PooledMinion minion = new PooledMinion(agent, this.secret);
+      try {
+        minion.start();
+        return minion;
+      } catch (final IOException e) {
+        LOG.warning("Could not connect to worker agent " + agent + " - "
+            + e.getMessage());
+      }
+    }
+    throw new IOException("Could not connect to any worker agent");
+  }
+
+  void release(final PooledMinion minion, final ExitCode exitCode) {
+    if (!this.shutdown && exitCode.isOk()
+        && (minion.mutationsAnalysed() < this.reuseLimit)) {
+      this.idle.add(minion);
+    } else {
+      LOG.fine("Retiring minion after " + minion.mutationsAnalysed()
+          + " mutations with exit code " + exitCode);
+      minion.shutdown();
+    }
+  }
+
+  public void shutdown() {
+    this.shutdown = true;
+    final List<PooledMinion> remaining = new ArrayList<>();
+    this.idle.drainTo(remaining);
+    remaining.forEach(PooledMinion::shutdown);
+    if (this.listener != null) {
+      this.listener.close();
+    }
+  }
+
+}
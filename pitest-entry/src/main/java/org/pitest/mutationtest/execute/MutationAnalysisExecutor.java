@@ -1,10 +1,12 @@
 package org.pitest.mutationtest.execute;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -12,6 +14,7 @@ import java.util.logging.Logger;
 
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.util.Log;
@@ -19,7 +22,11 @@ import org.pitest.util.Unchecked;
 
 public class MutationAnalysisExecutor {
 
-  private static final Logger                LOG = Log.getLogger();
+  private static final Logger                LOG       = Log.getLogger();
+
+  // queued by each unit after its last partial result
+  private static final MutationMetaData      UNIT_DONE = new MutationMetaData(
+      Collections.<MutationResult> emptyList());
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
@@ -39,17 +46,24 @@ public class MutationAnalysisExecutor {
 
     signalRunStartToAllListeners();
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
+    final CompletionService<MutationMetaData> results = new ExecutorCompletionService<>(
+        this.executor);
+    final BlockingQueue<MutationMetaData> partialResults = new LinkedBlockingQueue<>();
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.submit(() -> {
+        try {
+          return unit.call(partialResults::add);
+        } finally {
+          partialResults.add(UNIT_DONE);
+        }
+      });
     }
 
     this.executor.shutdown();
 
     try {
-      processResult(results);
+      processResults(results, partialResults, testUnits.size());
     } catch (final InterruptedException e) {
       throw Unchecked.translateCheckedException(e);
     } catch (final ExecutionException e) {
@@ -60,14 +74,29 @@ public class MutationAnalysisExecutor {
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
+  // results are passed to the listeners as each unit, or each step of a
+  // unit, completes, so a slow unit does not hold back those submitted after
+  // it. Listeners are only ever called from this thread.
+  private void processResults(CompletionService<MutationMetaData> results,
+      BlockingQueue<MutationMetaData> partialResults, int numberOfUnits)
       throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
-      for (final MutationResultListener l : this.listeners) {
-        for (final ClassMutationResults cr : r.toClassResults()) {
-          l.handleMutationResult(cr);
-        }
+    int remaining = numberOfUnits;
+    while (remaining != 0) {
+      final MutationMetaData partial = partialResults.take();
+      if (partial == UNIT_DONE) {
+        // a unit has finished, so its future completes shortly
+        signalResultToAllListeners(results.take().get());
+        remaining--;
+      } else {
+        signalResultToAllListeners(partial);
+      }
+    }
+  }
+
+  private void signalResultToAllListeners(MutationMetaData r) {
+    for (final MutationResultListener l : this.listeners) {
+      for (final ClassMutationResults cr : r.toClassResults()) {
+        l.handleMutationResult(cr);
       }
     }
   }
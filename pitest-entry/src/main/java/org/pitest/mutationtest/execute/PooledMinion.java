@@ -0,0 +1,153 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.MinionListener;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A minion that may stay alive to analyse successive batches of mutations
+ * sent over a single socket connection. The exchange of messages happens on
+ * the calling thread.
+ *
+ * The minion is either launched locally, or by a {@link WorkerAgent} that
+ * relays the connection to a minion on its own machine.
+ */
+class PooledMinion {
+
+  private static final Logger     LOG             = Log.getLogger();
+
+  private static final int        CONNECT_TIMEOUT = 10000;
+
+  private final MinionListener    listener;
+  private final ProcessArgs       processArgs;
+  private final InetSocketAddress agent;
+  private final String            secret;
+
+  private WrappingProcess         process;
+  private Socket                  socket;
+  private SafeDataOutputStream    os;
+  private SafeDataInputStream     is;
+  private int                     mutationsAnalysed;
+  private boolean                 lost;
+
+  PooledMinion(final MinionListener listener, final ProcessArgs processArgs) {
+    this.listener = listener;
+    this.processArgs = processArgs;
+    this.agent = null;
+    this.secret = null;
+  }
+
+  PooledMinion(final InetSocketAddress agent, final String secret) {
+    this.listener = null;
+    this.processArgs = null;
+    this.agent = agent;
+    this.secret = secret;
+  }
+
+  void start() throws IOException {
+    if (this.agent != null) {
+      this.socket = new Socket();
+      try {
+        this.socket.connect(this.agent, CONNECT_TIMEOUT);
+        WorkerAgent.authenticate(this.socket, this.secret);
+      } catch (final IOException e) {
+        this.socket.close();
+        this.socket = null;
+        throw e;
+      }
+    } else {
+      launch();
+    }
+    this.os = new SafeDataOutputStream(new BufferedOutputStream(
+        this.socket.getOutputStream()));
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.socket.getInputStream()));
+  }
+
+  private void launch() throws IOException {
+    final int id = this.listener.expect();
+    this.process = new WrappingProcess(this.listener.getPort(), id,
+        this.processArgs, MutationTestMinion.class);
+    this.process.start();
+    try {
+      this.socket = this.listener.accept(id,
+          () -> this.process.getProcess().isAlive());
+    } catch (final IOException e) {
+      this.process.destroy();
+      throw e;
+    }
+  }
+
+  ExitCode analyse(final MinionArguments arguments, final int numberOfMutations,
+      final ReceiveStrategy receive) {
+    this.mutationsAnalysed = this.mutationsAnalysed + numberOfMutations;
+    try {
+      this.os.writeByte(Id.RUN);
+      MinionProtocol.writeArguments(this.os, arguments);
+      this.os.flush();
+      return receiveResults(receive);
+    } catch (final RuntimeException e) {
+      if (this.agent != null) {
+        LOG.log(Level.WARNING, "Lost connection to worker agent " + this.agent,
+            e);
+        this.lost = true;
+      } else {
+        LOG.log(Level.WARNING, "Error while watching child process", e);
+      }
+      return ExitCode.UNKNOWN_ERROR;
+    }
+  }
+
+  /**
+   * True if the connection to a remote minion broke while analysing
+   * mutations. The results of any mutations it had not reported are unknown,
+   * so they may be analysed again elsewhere.
+   */
+  boolean wasLost() {
+    return this.lost;
+  }
+
+  int mutationsAnalysed() {
+    return this.mutationsAnalysed;
+  }
+
+  void shutdown() {
+    try {
+      if (this.socket != null) {
+        this.os.writeByte(Id.DONE);
+        this.os.flush();
+        this.socket.close();
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.FINE, "Could not cleanly close connection to minion", e);
+    } finally {
+      if (this.process != null) {
+        this.process.destroy();
+      }
+    }
+  }
+
+  private ExitCode receiveResults(final ReceiveStrategy receive) {
+    byte control = this.is.readByte();
+    while (control != Id.DONE) {
+      receive.apply(control, this.is);
+      control = this.is.readByte();
+    }
+    return ExitCode.fromCode(this.is.readInt());
+  }
+
+}
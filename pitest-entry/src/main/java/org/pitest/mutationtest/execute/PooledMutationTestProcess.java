@@ -0,0 +1,111 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Analyses a batch of mutations using a minion borrowed from a
+ * {@link MinionPool}.
+ *
+ * If the connection to a remote minion is lost, the mutations it had not
+ * reported are sent to another minion from the pool, up to a fixed number of
+ * times.
+ */
+public class PooledMutationTestProcess implements MutationTestProcess {
+
+  private static final Logger                                   LOG         = Log
+      .getLogger();
+
+  static final int                                              MAX_RETRIES = 2;
+
+  private final MinionPool                                      pool;
+  private final MinionArguments                                 arguments;
+  private final int                                             numberOfMutations;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+
+  private PooledMinion                                          minion;
+
+  public PooledMutationTestProcess(final MinionPool pool,
+      final MinionArguments arguments, final int numberOfMutations) {
+    this.pool = pool;
+    this.arguments = arguments;
+    this.numberOfMutations = numberOfMutations;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.minion = this.pool.acquire();
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    MinionArguments toRun = this.arguments;
+    int remaining = this.numberOfMutations;
+    int retries = 0;
+    while (true) {
+      final ExitCode exitCode = this.minion.analyse(toRun, remaining,
+          new MutationTestReceiveStrategy(this.idMap));
+      this.pool.release(this.minion, exitCode);
+      if (!this.minion.wasLost() || (retries == MAX_RETRIES)) {
+        return exitCode;
+      }
+
+      final Collection<MutationDetails> unfinished = unfinished(
+          toRun.mutations);
+      if (unfinished.isEmpty()) {
+        return ExitCode.OK;
+      }
+      retries++;
+      LOG.info("Retrying " + unfinished.size()
+          + " mutations after losing worker");
+      try {
+        this.minion = this.pool.acquire();
+      } catch (final IOException e) {
+        LOG.log(Level.WARNING, "Could not find worker to retry mutations", e);
+        return exitCode;
+      }
+      toRun = toRun.withMutations(unfinished);
+      remaining = unfinished.size();
+    }
+  }
+
+  private Collection<MutationDetails> unfinished(
+      final Collection<MutationDetails> sent) {
+    final List<MutationDetails> unfinished = new ArrayList<>();
+    for (final MutationDetails each : sent) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if ((status == null)
+          || (status.getStatus() == DetectionStatus.STARTED)) {
+        // forget that the mutation started, as it will be run again
+        this.idMap.remove(each.getId());
+        unfinished.add(each);
+      }
+    }
+    return unfinished;
+  }
+
+}
@@ -0,0 +1,227 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.Log;
+import org.pitest.util.MinionListener;
+import org.pitest.util.PitError;
+
+/**
+ * Long running process that analyses mutations on behalf of a coordinator on
+ * another machine.
+ *
+ * <p>
+ * Each connection from a coordinator is given a minion of its own, launched
+ * on this machine with the locally held classpath. Bytes are then relayed
+ * unchanged in both directions until either side closes its connection, so
+ * the coordinator talks to the minion exactly as it would to a local one.
+ *
+ * <p>
+ * A minion runs whatever code the coordinator sends, so before one is launched
+ * the coordinator must send the secret the agent was started with. The agent
+ * answers with a single accept byte, or closes the connection if the secret
+ * does not match.
+ */
+public class WorkerAgent {
+
+  private static final Logger   LOG               = Log.getLogger();
+
+  private static final int      BUFFER_SIZE       = 8192;
+
+  // time a coordinator has to send the secret once connected
+  private static final int      HANDSHAKE_TIMEOUT = 10000;
+
+  private static final int      ACCEPTED          = 1;
+
+  private final ServerSocket    socket;
+  private final ProcessArgs     processArgs;
+  private final byte[]          secret;
+  private final MinionListener  listener          = new MinionListener();
+  private final ExecutorService relays            = Executors
+      .newCachedThreadPool(r -> {
+        final Thread t = new Thread(r);
+        t.setDaemon(true);
+        t.setName("pit worker agent relay");
+        return t;
+      });
+
+  /**
+   * @param socket
+   *          socket to accept coordinators on
+   * @param processArgs
+   *          how minions are launched
+   * @param secret
+   *          shared secret coordinators must send before a minion is launched
+   *          for them
+   */
+  public WorkerAgent(ServerSocket socket, ProcessArgs processArgs,
+      String secret) {
+    this.socket = socket;
+    this.processArgs = processArgs;
+    this.secret = secret.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param hostAndPort
+   *          address of an agent in host:port format
+   * @return the address
+   */
+  public static InetSocketAddress parseAddress(String hostAndPort) {
+    final int separator = hostAndPort.lastIndexOf(':');
+    try {
+      return new InetSocketAddress(hostAndPort.substring(0, separator).trim(),
+          Integer.parseInt(hostAndPort.substring(separator + 1).trim()));
+    } catch (final RuntimeException ex) {
+      throw new PitError("Worker agent address " + hostAndPort
+          + " is not in host:port format", ex);
+    }
+  }
+
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  /**
+   * Serves coordinators until the agent is shut down
+   */
+  public void serve() {
+    while (!this.socket.isClosed()) {
+      try {
+        final Socket coordinator = this.socket.accept();
+        this.relays.execute(() -> relay(coordinator));
+      } catch (final IOException ex) {
+        if (!this.socket.isClosed()) {
+          LOG.log(Level.WARNING, "Could not accept coordinator connection", ex);
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops accepting coordinators and kills any minions still running
+   */
+  public void shutdown() {
+    try {
+      this.socket.close();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not close worker agent socket", ex);
+    }
+    this.relays.shutdownNow();
+    this.listener.close();
+  }
+
+  /**
+   * Sends the secret to a newly connected agent and waits for it to be
+   * accepted.
+   *
+   * @throws IOException
+   *           if the agent rejects the secret or does not answer in time
+   */
+  static void authenticate(Socket agent, String secret) throws IOException {
+    final DataOutputStream os = new DataOutputStream(agent.getOutputStream());
+    os.writeUTF(secret == null ? "" : secret);
+    os.flush();
+    agent.setSoTimeout(HANDSHAKE_TIMEOUT);
+    final int answer = agent.getInputStream().read();
+    agent.setSoTimeout(0);
+    if (answer != ACCEPTED) {
+      throw new IOException("Worker agent rejected the secret");
+    }
+  }
+
+  private boolean accept(Socket coordinator) {
+    try {
+      coordinator.setSoTimeout(HANDSHAKE_TIMEOUT);
+      final String offered = new DataInputStream(coordinator.getInputStream())
+          .readUTF();
+      coordinator.setSoTimeout(0);
+      if (!MessageDigest.isEqual(this.secret,
+          offered.getBytes(StandardCharsets.UTF_8))) {
+        LOG.warning("Rejected coordinator at "
+            + coordinator.getRemoteSocketAddress() + " - wrong secret");
+        return false;
+      }
+      coordinator.getOutputStream().write(ACCEPTED);
+      coordinator.getOutputStream().flush();
+      return true;
+    } catch (final IOException ex) {
+      LOG.log(Level.WARNING, "Coordinator at "
+          + coordinator.getRemoteSocketAddress() + " did not send a secret", ex);
+      return false;
+    }
+  }
+
+  private void relay(Socket coordinator) {
+    if (!accept(coordinator)) {
+      close(coordinator);
+      return;
+    }
+    final int id = this.listener.expect();
+    final WrappingProcess process = new WrappingProcess(
+        this.listener.getPort(), id, this.processArgs,
+        MutationTestMinion.class);
+    try {
+      process.start();
+      try (Socket minion = this.listener.accept(id,
+          () -> process.getProcess().isAlive())) {
+        this.relays.execute(() -> copyToMinion(coordinator, minion));
+        copy(minion, coordinator);
+      }
+    } catch (final IOException ex) {
+      LOG.log(Level.WARNING, "Could not relay to minion", ex);
+    } finally {
+      close(coordinator);
+      process.destroy();
+    }
+  }
+
+  private static void copyToMinion(Socket coordinator, Socket minion) {
+    copy(coordinator, minion);
+    try {
+      // let the minion read what it was sent before it sees the end of input
+      minion.shutdownOutput();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Minion connection already closed", ex);
+    }
+  }
+
+  private static void copy(Socket from, Socket to) {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    try {
+      final InputStream in = from.getInputStream();
+      final OutputStream out = to.getOutputStream();
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+        out.flush();
+      }
+    } catch (final IOException ex) {
+      // one side has gone away, which ends the exchange in both directions
+      LOG.log(Level.FINE, "Relay closed", ex);
+    }
+  }
+
+  private static void close(Socket socket) {
+    try {
+      socket.close();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not close coordinator connection", ex);
+    }
+  }
+
+}
@@ -0,0 +1,247 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageHistory;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+
+/**
+ * Coverage history held in a compact binary file alongside the mutation
+ * history.
+ *
+ * <p>
+ * Strings are written in full the first time they are used and by number
+ * thereafter. The whole file is read on initialize and rewritten by
+ * recordCoverage, via a temporary file so the input and output may be the
+ * same. Unreadable files are treated as empty.
+ */
+public class BinaryCoverageHistory implements CoverageHistory {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    MAGIC   = 0x50495443;
+  private static final int    VERSION = 2;
+
+  private final Optional<File>              input;
+  private final Optional<File>              output;
+
+  private Map<ClassName, TestClassCoverage> previous = Collections.emptyMap();
+
+  public BinaryCoverageHistory(final Optional<File> input,
+      final Optional<File> output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  /**
+   * The coverage history file kept alongside a mutation history file
+   *
+   * @param history
+   *          the mutation history file
+   * @return the coverage history file
+   */
+  public static File alongside(File history) {
+    return new File(history.getPath() + ".coverage");
+  }
+
+  @Override
+  public void initialize() {
+    if (!this.input.isPresent() || !this.input.get().exists()) {
+      return;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(this.input.get())))) {
+      this.previous = new Reader(in).read();
+    } catch (final IOException | RuntimeException e) {
+      LOG.warning("Could not read previous coverage " + e.getMessage());
+    }
+  }
+
+  @Override
+  public Map<ClassName, TestClassCoverage> getHistoricCoverage() {
+    return this.previous;
+  }
+
+  @Override
+  public void recordCoverage(Collection<TestClassCoverage> coverage) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+    final File file = this.output.get();
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    final File temp = new File(file.getPath() + ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(new FileOutputStream(temp)))) {
+        new Writer(out).write(coverage);
+      }
+      Files.move(temp.toPath(), file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warning("Could not write coverage history " + e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean isRecording() {
+    return this.output.isPresent();
+  }
+
+  private static final class Writer {
+
+    private final DataOutputStream     out;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    Writer(DataOutputStream out) {
+      this.out = out;
+    }
+
+    void write(Collection<TestClassCoverage> coverage) throws IOException {
+      this.out.writeInt(MAGIC);
+      this.out.writeInt(VERSION);
+      this.out.writeInt(coverage.size());
+      for (final TestClassCoverage each : coverage) {
+        writeString(each.getTestClass().asJavaName());
+        writeString(each.getClassPathId());
+        this.out.writeInt(each.getDependencies().size());
+        for (final HierarchicalClassId id : each.getDependencies()) {
+          writeString(id.getName().asJavaName());
+          this.out.writeLong(id.getId().getHash());
+          writeString(id.getHierarchicalHash());
+        }
+        this.out.writeInt(each.getResults().size());
+        for (final CoverageResult result : each.getResults()) {
+          writeResult(result);
+        }
+      }
+    }
+
+    private void writeResult(CoverageResult result) throws IOException {
+      writeString(result.getTestUnitDescription().getName());
+      writeString(result.getTestUnitDescription().getFirstTestClass());
+      this.out.writeInt(result.getExecutionTime());
+      this.out.writeBoolean(result.isGreenTest());
+      this.out.writeInt(result.getCoverage().size());
+      for (final BlockLocation each : result.getCoverage()) {
+        writeString(each.getLocation().getClassName().asJavaName());
+        writeString(each.getLocation().getMethodName().name());
+        writeString(each.getLocation().getMethodDesc());
+        this.out.writeInt(each.getBlock());
+        this.out.writeInt(each.getFirstInsnInBlock());
+        this.out.writeInt(each.getLastInsnInBlock());
+      }
+    }
+
+    private void writeString(String value) throws IOException {
+      if (value == null) {
+        this.out.writeInt(-1);
+        return;
+      }
+      final Integer id = this.strings.get(value);
+      if (id != null) {
+        this.out.writeInt(id);
+      } else {
+        final int next = this.strings.size();
+        this.strings.put(value, next);
+        this.out.writeInt(next);
+        this.out.writeUTF(value);
+      }
+    }
+
+  }
+
+  private static final class Reader {
+
+    private final DataInputStream in;
+    private final List<String>    strings = new ArrayList<>();
+
+    Reader(DataInputStream in) {
+      this.in = in;
+    }
+
+    Map<ClassName, TestClassCoverage> read() throws IOException {
+      if ((this.in.readInt() != MAGIC) || (this.in.readInt() != VERSION)) {
+        throw new IOException("Unsupported coverage history format");
+      }
+      final int testClasses = this.in.readInt();
+      final Map<ClassName, TestClassCoverage> coverage = new HashMap<>();
+      for (int i = 0; i != testClasses; i++) {
+        final ClassName testClass = ClassName.fromString(readString());
+        final String classPathId = readString();
+        final int dependencyCount = this.in.readInt();
+        final List<HierarchicalClassId> dependencies = new ArrayList<>(
+            dependencyCount);
+        for (int d = 0; d != dependencyCount; d++) {
+          final ClassName name = ClassName.fromString(readString());
+          final long hash = this.in.readLong();
+          dependencies.add(new HierarchicalClassId(hash, name, readString()));
+        }
+        final int resultCount = this.in.readInt();
+        final List<CoverageResult> results = new ArrayList<>(resultCount);
+        for (int r = 0; r != resultCount; r++) {
+          results.add(readResult());
+        }
+        coverage.put(testClass, new TestClassCoverage(testClass, classPathId,
+            dependencies, results));
+      }
+      return coverage;
+    }
+
+    private CoverageResult readResult() throws IOException {
+      final Description description = new Description(readString(),
+          readString());
+      final int executionTime = this.in.readInt();
+      final boolean green = this.in.readBoolean();
+      final int blockCount = this.in.readInt();
+      final List<BlockLocation> blocks = new ArrayList<>(blockCount);
+      for (int i = 0; i != blockCount; i++) {
+        final Location location = new Location(
+            ClassName.fromString(readString()),
+            MethodName.fromString(readString()), readString());
+        final int block = this.in.readInt();
+        final int first = this.in.readInt();
+        blocks.add(new BlockLocation(location, block, first,
+            this.in.readInt()));
+      }
+      return new CoverageResult(description, executionTime, green, blocks);
+    }
+
+    private String readString() throws IOException {
+      final int id = this.in.readInt();
+      if (id == -1) {
+        return null;
+      }
+      if (id == this.strings.size()) {
+        this.strings.add(this.in.readUTF());
+      }
+      return this.strings.get(id);
+    }
+
+  }
+
+}
@@ -0,0 +1,570 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * History store using a compact binary format indexed by class.
+ *
+ * <p>
+ * Results are written in batches as segments that each hold the results for
+ * a single class. The class path, a table of all strings used and an index
+ * of the segments for each class are written as a footer when the store is
+ * closed. When reading, only the footer is loaded up front. The results for
+ * a class are decoded the first time they are asked for.
+ *
+ * <p>
+ * Output is written to a temporary file that replaces the output location on
+ * close, so the input and output locations may be the same file. The output
+ * is replaced even if nothing was recorded. Input files in the older
+ * ObjectOutputStreamHistoryStore format are still read, and are rewritten in
+ * the binary format on close.
+ */
+public class BinaryHistoryStore implements HistoryStore, Closeable {
+
+  private static final Logger LOG        = Log.getLogger();
+
+  private static final int    MAGIC      = 0x50495448;
+  private static final int    VERSION    = 1;
+  private static final int    BATCH_SIZE = 1000;
+
+  private final Optional<File>                            input;
+  private final Optional<File>                            output;
+
+  private HistoryReader                                   reader;
+  private HistoryWriter                                   writer;
+  private boolean                                         closed;
+  private Map<MutationIdentifier, MutationStatusTestPair> previousResults   = Collections
+      .emptyMap();
+  private Map<ClassName, ClassHistory>                    previousClassPath = Collections
+      .emptyMap();
+  private Map<ClassName, Map<MutationIdentifier, MutationStatusTestPair>> legacyResults;
+
+  public BinaryHistoryStore(final Optional<File> input,
+      final Optional<File> output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  @Override
+  public void initialize() {
+    if (!this.input.isPresent() || !this.input.get().exists()
+        || (this.input.get().length() == 0)) {
+      return;
+    }
+
+    final File file = this.input.get();
+    try {
+      if (isBinaryHistory(file)) {
+        this.reader = new HistoryReader(file);
+        this.previousClassPath = this.reader.classPath;
+        this.previousResults = new LazyResults(this.reader);
+      } else {
+        readLegacyHistory(file);
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOG.warning("Could not read previous history " + e.getMessage());
+      closeReader();
+    }
+  }
+
+  @Override
+  public void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    final HistoryWriter w = writer();
+    if (w == null) {
+      return;
+    }
+    for (final HierarchicalClassId each : ids) {
+      w.classPath.add(new ClassHistory(each,
+          coverageInfo.getCoverageIdForClass(each.getName()).toString(16)));
+    }
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+    final HistoryWriter w = writer();
+    if (w == null) {
+      return;
+    }
+    try {
+      w.add(result);
+    } catch (final IOException e) {
+      LOG.warning("Could not write history " + e.getMessage());
+    }
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return this.previousResults;
+  }
+
+  @Override
+  public synchronized Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults(
+      final ClassName clazz) {
+    if (this.previousResults instanceof LazyResults) {
+      return ((LazyResults) this.previousResults).resultsFor(clazz);
+    }
+    // legacy histories are already in memory, so are grouped once
+    if (this.legacyResults == null) {
+      this.legacyResults = new HashMap<>();
+      for (final Map.Entry<MutationIdentifier, MutationStatusTestPair> each : this.previousResults
+          .entrySet()) {
+        this.legacyResults.computeIfAbsent(each.getKey().getClassName(),
+            c -> new HashMap<>()).put(each.getKey(), each.getValue());
+      }
+    }
+    return this.legacyResults.getOrDefault(clazz,
+        Collections.<MutationIdentifier, MutationStatusTestPair> emptyMap());
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return this.previousClassPath;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closeReader();
+    if (this.closed) {
+      return;
+    }
+    // create the writer if nothing was recorded, so an old output file is
+    // not left in place
+    final HistoryWriter w = writer();
+    this.closed = true;
+    this.writer = null;
+    if (w != null) {
+      w.finish();
+      Files.move(w.temp.toPath(), this.output.get().toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private HistoryWriter writer() {
+    if ((this.writer == null) && !this.closed && this.output.isPresent()) {
+      final File file = this.output.get();
+      file.getAbsoluteFile().getParentFile().mkdirs();
+      try {
+        this.writer = new HistoryWriter(new File(file.getPath() + ".tmp"));
+      } catch (final IOException e) {
+        LOG.warning("Could not write history " + e.getMessage());
+      }
+    }
+    return this.writer;
+  }
+
+  private void closeReader() {
+    if (this.reader != null) {
+      try {
+        this.reader.channel.close();
+      } catch (final IOException e) {
+        LOG.warning("Could not close history " + e.getMessage());
+      }
+      this.reader = null;
+    }
+  }
+
+  private void readLegacyHistory(File file) throws IOException {
+    final ObjectOutputStreamHistoryStore legacy = new ObjectOutputStreamHistoryStore(
+        new NullWriterFactory(), Optional.of(new InputStreamReader(
+            new FileInputStream(file), "UTF-8")));
+    legacy.initialize();
+    this.previousClassPath = legacy.getHistoricClassPath();
+    this.previousResults = legacy.getHistoricResults();
+  }
+
+  private static boolean isBinaryHistory(File file) throws IOException {
+    if (file.length() < 8) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      return in.readInt() == MAGIC;
+    }
+  }
+
+  /**
+   * Appends segments to a temporary file and writes the footer on finish.
+   */
+  private static final class HistoryWriter {
+
+    private final File                                 temp;
+    private final CountingOutputStream                 position;
+    private final DataOutputStream                     out;
+    private final Map<String, Integer>                 strings   = new LinkedHashMap<>();
+    private final Map<ClassName, List<Segment>>        index     = new LinkedHashMap<>();
+    private final Map<ClassName, List<MutationResult>> pending   = new LinkedHashMap<>();
+    private final List<ClassHistory>                   classPath = new ArrayList<>();
+    private int                                        pendingCount;
+
+    HistoryWriter(File temp) throws IOException {
+      this.temp = temp;
+      // DataOutputStream.size stops counting at Integer.MAX_VALUE, so offsets
+      // are tracked separately
+      this.position = new CountingOutputStream(new BufferedOutputStream(
+          new FileOutputStream(temp)));
+      this.out = new DataOutputStream(this.position);
+      this.out.writeInt(MAGIC);
+      this.out.writeInt(VERSION);
+    }
+
+    void add(MutationResult result) throws IOException {
+      this.pending.computeIfAbsent(result.getDetails().getClassName(),
+          k -> new ArrayList<>()).add(result);
+      this.pendingCount++;
+      if (this.pendingCount >= BATCH_SIZE) {
+        flushPending();
+      }
+    }
+
+    void finish() throws IOException {
+      try {
+        flushPending();
+        final long footer = this.position.count;
+        writeFooter();
+        this.out.writeLong(footer);
+      } finally {
+        this.out.close();
+      }
+    }
+
+    private void flushPending() throws IOException {
+      for (final Map.Entry<ClassName, List<MutationResult>> each : this.pending
+          .entrySet()) {
+        final long start = this.position.count;
+        this.out.writeInt(each.getValue().size());
+        for (final MutationResult result : each.getValue()) {
+          writeResult(result);
+        }
+        this.index.computeIfAbsent(each.getKey(), k -> new ArrayList<>())
+            .add(new Segment(start, (int) (this.position.count - start)));
+      }
+      this.pending.clear();
+      this.pendingCount = 0;
+      this.out.flush();
+    }
+
+    private void writeResult(MutationResult result) throws IOException {
+      final MutationIdentifier id = result.getDetails().getId();
+      writeString(id.getLocation().getMethodName().name());
+      writeString(id.getLocation().getMethodDesc());
+      this.out.writeInt(id.getIndexes().size());
+      for (final int each : id.getIndexes()) {
+        this.out.writeInt(each);
+      }
+      writeString(id.getMutator());
+
+      final MutationStatusTestPair status = result.getStatusTestPair();
+      writeString(status.getStatus().name());
+      this.out.writeInt(status.getNumberOfTestsRun());
+      writeStrings(status.getKillingTests());
+      writeStrings(status.getSucceedingTests());
+    }
+
+    private void writeFooter() throws IOException {
+      // strings are interned while writing the class path and index, so these
+      // are written to a buffer before the string table
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final DataOutputStream body = new DataOutputStream(bytes);
+      body.writeInt(this.classPath.size());
+      for (final ClassHistory each : this.classPath) {
+        body.writeInt(intern(each.getName().asJavaName()));
+        body.writeLong(each.getId().getId().getHash());
+        body.writeInt(intern(each.getId().getHierarchicalHash()));
+        body.writeInt(intern(each.getCoverageId()));
+      }
+      body.writeInt(this.index.size());
+      for (final Map.Entry<ClassName, List<Segment>> each : this.index
+          .entrySet()) {
+        body.writeInt(intern(each.getKey().asJavaName()));
+        body.writeInt(each.getValue().size());
+        for (final Segment segment : each.getValue()) {
+          body.writeLong(segment.offset);
+          body.writeInt(segment.length);
+        }
+      }
+
+      this.out.writeInt(this.strings.size());
+      for (final String each : this.strings.keySet()) {
+        this.out.writeUTF(each);
+      }
+      bytes.writeTo(this.out);
+    }
+
+    private void writeStrings(List<String> values) throws IOException {
+      if (values == null) {
+        this.out.writeInt(-1);
+        return;
+      }
+      this.out.writeInt(values.size());
+      for (final String each : values) {
+        writeString(each);
+      }
+    }
+
+    private void writeString(String value) throws IOException {
+      this.out.writeInt(value == null ? -1 : intern(value));
+    }
+
+    private int intern(String value) {
+      return this.strings.computeIfAbsent(value, k -> this.strings.size());
+    }
+
+  }
+
+  /**
+   * Reads the footer of a history file and decodes the segments for a class
+   * on request.
+   */
+  private static final class HistoryReader {
+
+    private final FileChannel                   channel;
+    private String[]                            strings;
+    private final Map<ClassName, ClassHistory>  classPath = new HashMap<>();
+    private final Map<ClassName, List<Segment>> index     = new HashMap<>();
+
+    HistoryReader(File file) throws IOException {
+      this.channel = new RandomAccessFile(file, "r").getChannel();
+      try {
+        readFooter();
+      } catch (final IOException | RuntimeException e) {
+        this.channel.close();
+        throw e;
+      }
+    }
+
+    private void readFooter() throws IOException {
+      final long size = this.channel.size();
+      final DataInputStream header = read(0, 8);
+      if ((header.readInt() != MAGIC) || (header.readInt() != VERSION)) {
+        throw new IOException("Unsupported history format");
+      }
+      final long footer = read(size - 8, 8).readLong();
+      if ((footer < 8) || (footer > (size - 8))) {
+        throw new IOException("Corrupt history index");
+      }
+      final DataInputStream in = read(footer, (int) (size - 8 - footer));
+
+      this.strings = new String[in.readInt()];
+      for (int i = 0; i != this.strings.length; i++) {
+        this.strings[i] = in.readUTF();
+      }
+
+      final int classes = in.readInt();
+      for (int i = 0; i != classes; i++) {
+        final ClassName name = ClassName.fromString(readString(in));
+        final long hash = in.readLong();
+        final HierarchicalClassId id = new HierarchicalClassId(hash, name,
+            readString(in));
+        this.classPath.put(name, new ClassHistory(id, readString(in)));
+      }
+
+      final int indexed = in.readInt();
+      for (int i = 0; i != indexed; i++) {
+        final ClassName name = ClassName.fromString(readString(in));
+        final int segments = in.readInt();
+        final List<Segment> list = new ArrayList<>(segments);
+        for (int s = 0; s != segments; s++) {
+          list.add(new Segment(in.readLong(), in.readInt()));
+        }
+        this.index.put(name, list);
+      }
+    }
+
+    Set<ClassName> indexedClasses() {
+      return this.index.keySet();
+    }
+
+    Map<MutationIdentifier, MutationStatusTestPair> readClass(ClassName clazz)
+        throws IOException {
+      final List<Segment> segments = this.index.get(clazz);
+      if (segments == null) {
+        return Collections.emptyMap();
+      }
+      final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<>();
+      for (final Segment each : segments) {
+        final DataInputStream in = read(each.offset, each.length);
+        final int count = in.readInt();
+        for (int i = 0; i != count; i++) {
+          readResult(clazz, in, results);
+        }
+      }
+      return results;
+    }
+
+    private void readResult(ClassName clazz, DataInput in,
+        Map<MutationIdentifier, MutationStatusTestPair> results)
+        throws IOException {
+      final Location location = new Location(clazz,
+          MethodName.fromString(readString(in)), readString(in));
+      final int indexCount = in.readInt();
+      final List<Integer> indexes = new ArrayList<>(indexCount);
+      for (int i = 0; i != indexCount; i++) {
+        indexes.add(in.readInt());
+      }
+      final MutationIdentifier id = new MutationIdentifier(location, indexes,
+          readString(in));
+
+      final DetectionStatus status = DetectionStatus.valueOf(readString(in));
+      final int testsRun = in.readInt();
+      final List<String> killing = readStrings(in);
+      final List<String> succeeding = readStrings(in);
+      results.put(id, new MutationStatusTestPair(testsRun, status, killing,
+          succeeding));
+    }
+
+    private List<String> readStrings(DataInput in) throws IOException {
+      final int size = in.readInt();
+      if (size == -1) {
+        return null;
+      }
+      final List<String> values = new ArrayList<>(size);
+      for (int i = 0; i != size; i++) {
+        values.add(readString(in));
+      }
+      return values;
+    }
+
+    private String readString(DataInput in) throws IOException {
+      final int id = in.readInt();
+      return id == -1 ? null : this.strings[id];
+    }
+
+    private DataInputStream read(long offset, int length) throws IOException {
+      final ByteBuffer buffer = ByteBuffer.allocate(length);
+      while (buffer.hasRemaining()) {
+        if (this.channel.read(buffer, offset + buffer.position()) == -1) {
+          throw new IOException("Unexpected end of history file");
+        }
+      }
+      return new DataInputStream(new ByteArrayInputStream(buffer.array()));
+    }
+
+  }
+
+  /**
+   * Read only view of the previous results that decodes the results for a
+   * class the first time one of its mutations is looked up.
+   */
+  private static final class LazyResults
+      extends AbstractMap<MutationIdentifier, MutationStatusTestPair> {
+
+    private final HistoryReader                                                   reader;
+    private final Map<ClassName, Map<MutationIdentifier, MutationStatusTestPair>> loaded = new HashMap<>();
+
+    LazyResults(HistoryReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public MutationStatusTestPair get(Object key) {
+      if (!(key instanceof MutationIdentifier)) {
+        return null;
+      }
+      return resultsFor(((MutationIdentifier) key).getClassName()).get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<MutationIdentifier, MutationStatusTestPair>> entrySet() {
+      final Set<Entry<MutationIdentifier, MutationStatusTestPair>> all = new HashSet<>();
+      for (final ClassName each : this.reader.indexedClasses()) {
+        all.addAll(resultsFor(each).entrySet());
+      }
+      return Collections.unmodifiableSet(all);
+    }
+
+    private synchronized Map<MutationIdentifier, MutationStatusTestPair> resultsFor(
+        ClassName clazz) {
+      return this.loaded.computeIfAbsent(clazz, c -> {
+        try {
+          return this.reader.readClass(c);
+        } catch (final IOException | RuntimeException e) {
+          LOG.warning("Could not read previous results for " + c + " "
+              + e.getMessage());
+          return Collections.emptyMap();
+        }
+      });
+    }
+
+  }
+
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      this.out.write(b);
+      this.count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      this.out.write(b, off, len);
+      this.count += len;
+    }
+
+  }
+
+  private static final class Segment {
+    private final long offset;
+    private final int  length;
+
+    Segment(long offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+}
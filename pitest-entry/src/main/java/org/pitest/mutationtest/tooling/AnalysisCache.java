@@ -0,0 +1,20 @@
+package org.pitest.mutationtest.tooling;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageHistory;
+import org.pitest.mutationtest.config.ReportOptions;
+
+/**
+ * Supplies the expensive to build parts of an analysis, allowing them to be
+ * retained between analyses run within the same JVM.
+ */
+public interface AnalysisCache {
+
+  CodeSource codeSource(ReportOptions data);
+
+  CoverageGenerator coverage(ReportOptions data, CoverageGenerator generator);
+
+  CoverageHistory coverageHistory(ReportOptions data, CoverageHistory history);
+
+}
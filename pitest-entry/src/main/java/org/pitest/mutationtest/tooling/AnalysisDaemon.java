@@ -0,0 +1,286 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Long running process that accepts analysis requests over a local socket,
+ * retaining classpath, class information, coverage and history between
+ * requests.
+ *
+ * <p>
+ * A client first sends the daemon's token, which the daemon answers with a
+ * flag. Clients with the wrong token are refused, as an analysis runs whatever
+ * the request's classpath contains. An accepted client then sends a command
+ * byte followed, for a run, by its base directory and the command line
+ * arguments of the analysis. The daemon replies with a success flag and a
+ * summary or error message. Requests are handled one at a time, and a client
+ * has a limited time to send its request.
+ */
+public class AnalysisDaemon {
+
+  static final byte                                RUN             = 1;
+  static final byte                                SHUTDOWN        = 2;
+
+  private static final Logger                      LOG             = Log.getLogger();
+
+  // time a client has to send its request once connected
+  private static final int                         REQUEST_TIMEOUT = 10000;
+
+  private final ServerSocket                               socket;
+  private final BiFunction<File, String[], AnalysisResult> analysis;
+  private final byte[]                                     token;
+  private final int                                        requestTimeout;
+
+  /**
+   * @param socket
+   *          socket to accept requests on
+   * @param analysis
+   *          runs an analysis for the given base directory and arguments
+   * @param token
+   *          token clients must send with each request
+   */
+  public AnalysisDaemon(ServerSocket socket,
+      BiFunction<File, String[], AnalysisResult> analysis, String token) {
+    this(socket, analysis, token, REQUEST_TIMEOUT);
+  }
+
+  AnalysisDaemon(ServerSocket socket,
+      BiFunction<File, String[], AnalysisResult> analysis, String token,
+      int requestTimeout) {
+    this.socket = socket;
+    this.analysis = analysis;
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+    this.requestTimeout = requestTimeout;
+  }
+
+  /**
+   * Writes a new random token to a file that only the current user may read
+   * or write, replacing any file already there.
+   *
+   * @param file
+   *          file to write the token to
+   * @return the token
+   * @throws IOException
+   *           if the file cannot be written
+   */
+  public static String writeToken(File file) throws IOException {
+    final byte[] random = new byte[32];
+    new SecureRandom().nextBytes(random);
+    final String token = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(random);
+
+    final Path path = file.toPath();
+    Files.deleteIfExists(path);
+    if (FileSystems.getDefault().supportedFileAttributeViews()
+        .contains("posix")) {
+      Files.createFile(path, PosixFilePermissions.asFileAttribute(EnumSet
+          .of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+    } else {
+      Files.createFile(path);
+      file.setReadable(false, false);
+      file.setReadable(true, true);
+      file.setWritable(false, false);
+      file.setWritable(true, true);
+    }
+    Files.write(path, token.getBytes(StandardCharsets.UTF_8));
+    return token;
+  }
+
+  /**
+   * @param file
+   *          file written by {@link #writeToken(File)}
+   * @return the token held in the file
+   * @throws IOException
+   *           if the file cannot be read
+   */
+  public static String readToken(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()),
+        StandardCharsets.UTF_8).trim();
+  }
+
+  /**
+   * Analysis that parses its arguments with the supplied parser and keeps the
+   * state of the previous run warm for the next. Relative paths in the parsed
+   * options are resolved against the client's base directory, which is also
+   * the directory minions are run from. Paths read by the parser itself, such
+   * as a class path file, must be absolute.
+   *
+   * @param parser
+   *          converts the arguments of a request to options
+   * @param plugins
+   *          plugins available to each analysis
+   * @param retainHistory
+   *          if true, analyses that do not configure a history are given one
+   *          that lasts for the life of the daemon. This makes every such
+   *          analysis incremental, so its results may differ from those of a
+   *          standalone run with the same options.
+   * @return analysis of a base directory and arguments
+   */
+  public static BiFunction<File, String[], AnalysisResult> warmAnalysis(
+      Function<String[], ReportOptions> parser, PluginServices plugins,
+      boolean retainHistory) {
+    final WarmAnalysisCache cache = new WarmAnalysisCache();
+    final EntryPoint entryPoint = new EntryPoint(cache);
+    return (baseDir, args) -> {
+      try {
+        final ReportOptions data = parser.apply(args);
+        resolvePaths(baseDir, data);
+        if (retainHistory) {
+          cache.retainHistory(data);
+        }
+        return entryPoint.execute(baseDir, data, plugins,
+            new HashMap<String, String>());
+      } catch (final RuntimeException ex) {
+        return AnalysisResult.fail(ex);
+      }
+    };
+  }
+
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  /**
+   * Serves requests until a shutdown request is received
+   */
+  public void serve() {
+    while (!this.socket.isClosed()) {
+      try (Socket client = this.socket.accept()) {
+        handle(client);
+      } catch (final IOException | RuntimeException ex) {
+        if (!this.socket.isClosed()) {
+          LOG.log(Level.WARNING, "Could not handle analysis request", ex);
+        }
+      }
+    }
+  }
+
+  private void handle(Socket client) throws IOException {
+    client.setSoTimeout(this.requestTimeout);
+    // read unbuffered and bounded in size, as the client is not yet trusted
+    final String offered = new DataInputStream(client.getInputStream())
+        .readUTF();
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new BufferedInputStream(client.getInputStream()));
+    final SafeDataOutputStream os = new SafeDataOutputStream(
+        new BufferedOutputStream(client.getOutputStream()));
+
+    if (!MessageDigest.isEqual(this.token,
+        offered.getBytes(StandardCharsets.UTF_8))) {
+      LOG.warning("Refused analysis request with wrong token");
+      reply(os, false, "Wrong daemon token");
+      return;
+    }
+    os.writeBoolean(true);
+    os.flush();
+
+    final byte command = is.readByte();
+    if (command == SHUTDOWN) {
+      reply(os, true, "Shutting down");
+      this.socket.close();
+      return;
+    }
+
+    final File baseDir = new File(is.readString());
+    final String[] args = new String[is.readInt()];
+    for (int i = 0; i != args.length; i++) {
+      args[i] = is.readString();
+    }
+
+    final AnalysisResult result = this.analysis.apply(baseDir, args);
+    if (result.getError().isPresent()) {
+      reply(os, false, String.valueOf(result.getError().get().getMessage()));
+    } else {
+      reply(os, true, summarise(result.getStatistics().get()));
+    }
+  }
+
+  static void resolvePaths(File baseDir, ReportOptions data) {
+    if (data.getReportDir() != null) {
+      data.setReportDir(resolve(baseDir, data.getReportDir()));
+    }
+    if (data.getSourceDirs() != null) {
+      final List<File> sourceDirs = new ArrayList<>();
+      for (final File each : data.getSourceDirs()) {
+        sourceDirs.add(new File(resolve(baseDir, each.getPath())));
+      }
+      data.setSourceDirs(sourceDirs);
+    }
+    data.setClassPathElements(resolve(baseDir, data.getClassPathElements()));
+    data.setCodePaths(resolve(baseDir, data.getCodePaths()));
+    if (data.getHistoryInputLocation() != null) {
+      data.setHistoryInputLocation(new File(resolve(baseDir,
+          data.getHistoryInputLocation().getPath())));
+    }
+    if (data.getHistoryOutputLocation() != null) {
+      data.setHistoryOutputLocation(new File(resolve(baseDir,
+          data.getHistoryOutputLocation().getPath())));
+    }
+  }
+
+  private static Collection<String> resolve(File baseDir,
+      Collection<String> paths) {
+    if (paths == null) {
+      return null;
+    }
+    final List<String> resolved = new ArrayList<>();
+    for (final String each : paths) {
+      resolved.add(resolve(baseDir, each));
+    }
+    return resolved;
+  }
+
+  private static String resolve(File baseDir, String path) {
+    final File file = new File(path);
+    if (file.isAbsolute()) {
+      return path;
+    }
+    return new File(baseDir, path).getPath();
+  }
+
+  private static void reply(SafeDataOutputStream os, boolean ok,
+      String message) {
+    os.writeBoolean(ok);
+    os.writeString(message);
+    os.flush();
+  }
+
+  private static String summarise(CombinedStatistics stats) {
+    final MutationStatistics mutations = stats.getMutationStatistics();
+    return "Generated " + mutations.getTotalMutations() + " mutations Killed "
+        + mutations.getTotalDetectedMutations() + " ("
+        + mutations.getPercentageDetected() + "%)";
+  }
+
+}
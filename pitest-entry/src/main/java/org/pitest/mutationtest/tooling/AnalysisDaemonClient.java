@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Sends requests to an {@link AnalysisDaemon}
+ */
+public class AnalysisDaemonClient {
+
+  private final String host;
+  private final int    port;
+  private final String token;
+
+  /**
+   * @param host
+   *          host the daemon is running on
+   * @param port
+   *          port the daemon is listening on
+   * @param token
+   *          token the daemon was started with
+   */
+  public AnalysisDaemonClient(String host, int port, String token) {
+    this.host = host;
+    this.port = port;
+    this.token = token;
+  }
+
+  /**
+   * Runs an analysis with the given command line arguments, waiting for it to
+   * complete.
+   *
+   * @param baseDir
+   *          directory relative paths in the arguments are resolved against,
+   *          and from which the analysis is run
+   * @param args
+   *          command line arguments of the analysis
+   * @return whether the analysis succeeded, with any message from the daemon
+   */
+  public Response run(File baseDir, String... args) {
+    return send(AnalysisDaemon.RUN, baseDir, args);
+  }
+
+  public Response shutdown() {
+    return send(AnalysisDaemon.SHUTDOWN, null, new String[0]);
+  }
+
+  private Response send(byte command, File baseDir, String[] args) {
+    try (Socket socket = new Socket(this.host, this.port)) {
+      new DataOutputStream(socket.getOutputStream()).writeUTF(this.token);
+      final SafeDataInputStream is = new SafeDataInputStream(
+          new BufferedInputStream(socket.getInputStream()));
+      if (!is.readBoolean()) {
+        return new Response(false, is.readString());
+      }
+
+      final SafeDataOutputStream os = new SafeDataOutputStream(
+          new BufferedOutputStream(socket.getOutputStream()));
+      os.writeByte(command);
+      if (command == AnalysisDaemon.RUN) {
+        os.writeString(baseDir.getAbsolutePath());
+        os.writeInt(args.length);
+        for (final String each : args) {
+          os.writeString(each);
+        }
+      }
+      os.flush();
+
+      final boolean ok = is.readBoolean();
+      return new Response(ok, is.readString());
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  public static final class Response {
+
+    private final boolean ok;
+    private final String  message;
+
+    Response(boolean ok, String message) {
+      this.ok = ok;
+      this.message = message;
+    }
+
+    public boolean isOk() {
+      return this.ok;
+    }
+
+    public String getMessage() {
+      return this.message;
+    }
+
+  }
+
+}
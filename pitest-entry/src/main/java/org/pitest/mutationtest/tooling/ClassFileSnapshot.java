@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Records the modification time and size of each class file within the
+ * directories of a classpath, and of each archive on it, so that changes
+ * between analyses can be detected without reading any bytecode.
+ */
+class ClassFileSnapshot {
+
+  private static final String    CLASS_SUFFIX = ".class";
+
+  private final Map<ClassName, Long> classes  = new HashMap<>();
+  private final Map<File, Long>      archives = new HashMap<>();
+
+  static ClassFileSnapshot take(final Collection<File> elements) {
+    final ClassFileSnapshot snapshot = new ClassFileSnapshot();
+    for (final File each : elements) {
+      if (each.isDirectory()) {
+        snapshot.addDirectory(each, "");
+      } else if (each.exists()) {
+        snapshot.archives.put(each, stamp(each));
+      }
+    }
+    return snapshot;
+  }
+
+  boolean archivesChangedSince(final ClassFileSnapshot previous) {
+    return !this.archives.equals(previous.archives);
+  }
+
+  /**
+   * Classes added, removed or modified since the previous snapshot
+   */
+  Set<ClassName> classesChangedSince(final ClassFileSnapshot previous) {
+    final Set<ClassName> changed = new HashSet<>();
+    for (final Map.Entry<ClassName, Long> each : this.classes.entrySet()) {
+      if (!each.getValue().equals(previous.classes.get(each.getKey()))) {
+        changed.add(each.getKey());
+      }
+    }
+    for (final ClassName each : previous.classes.keySet()) {
+      if (!this.classes.containsKey(each)) {
+        changed.add(each);
+      }
+    }
+    return changed;
+  }
+
+  private void addDirectory(final File dir, final String packagePrefix) {
+    final File[] contents = dir.listFiles();
+    if (contents == null) {
+      return;
+    }
+    for (final File each : contents) {
+      final String name = each.getName();
+      if (each.isDirectory()) {
+        addDirectory(each, packagePrefix + name + ".");
+      } else if (name.endsWith(CLASS_SUFFIX)) {
+        this.classes.put(ClassName.fromString(packagePrefix
+            + name.substring(0, name.length() - CLASS_SUFFIX.length())),
+            stamp(each));
+      }
+    }
+  }
+
+  private static long stamp(final File file) {
+    return (file.lastModified() * 31) + file.length();
+  }
+
+}
@@ -2,26 +2,23 @@ package org.pitest.mutationtest.tooling;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.Map;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
-import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import java.util.Optional;
 import java.util.function.Consumer;
 
-import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
-import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.incremental.BinaryCoverageHistory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.JavaAgent;
@@ -33,6 +30,20 @@ import org.pitest.util.Timings;
 
 public class EntryPoint {
 
+  private final AnalysisCache cache;
+
+  public EntryPoint() {
+    this(new NullAnalysisCache());
+  }
+
+  /**
+   * @param cache
+   *          source of state retained between analyses run by this entry point
+   */
+  public EntryPoint(AnalysisCache cache) {
+    this.cache = cache;
+  }
+
   /**
    * Convenient entry point for tools to run mutation analysis.
    *
@@ -79,9 +90,6 @@ public class EntryPoint {
 
     final ClassPath cp = data.getClassPath();
 
-    final Optional<Reader> reader = data.createHistoryReader();
-    final WriterFactory historyWriter = data.createHistoryWriter();
-
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
     final JavaAgent jac = new JarCreatingJarFinder(
@@ -99,16 +107,18 @@ public class EntryPoint {
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
         .usingClassPathJar(data.useClasspathJar());
-    final ProjectClassPaths cps = data.getMutationClassPaths();
-
-    final CodeSource code = new CodeSource(cps);
+    final CodeSource code = this.cache.codeSource(data);
 
     final Timings timings = new Timings();
-    final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-        baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+    final CoverageGenerator coverageDatabase = this.cache.coverage(data,
+        new DefaultCoverageGenerator(baseDir, coverageOptions, launchOptions,
+            code, settings.createCoverageExporter(), timings,
+            !data.isVerbose(), coverageShards(data),
+            this.cache.coverageHistory(data, coverageHistory(data))));
 
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+    final BinaryHistoryStore history = new BinaryHistoryStore(
+        Optional.ofNullable(data.getHistoryInputLocation()),
+        Optional.ofNullable(data.getHistoryOutputLocation()));
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
@@ -124,9 +134,42 @@ public class EntryPoint {
     } finally {
       jac.close();
       ja.close();
-      historyWriter.close();
+      closeHistory(history);
+      closeClassPath(cp);
+      closeClassPath(code.getClassPath());
+    }
+
+  }
+
+  private static BinaryCoverageHistory coverageHistory(ReportOptions data) {
+    return new BinaryCoverageHistory(
+        Optional.ofNullable(data.getHistoryInputLocation())
+            .map(BinaryCoverageHistory::alongside),
+        Optional.ofNullable(data.getHistoryOutputLocation())
+            .map(BinaryCoverageHistory::alongside));
+  }
+
+  private static void closeHistory(BinaryHistoryStore history) {
+    try {
+      history.close();
+    } catch (final IOException ex) {
+      Log.getLogger().warning("Could not write history: " + ex.getMessage());
     }
+  }
 
+  private static void closeClassPath(ClassPath cp) {
+    try {
+      cp.close();
+    } catch (final IOException ex) {
+      Log.getLogger().warning("Could not close class path: " + ex.getMessage());
+    }
+  }
+
+  private int coverageShards(ReportOptions data) {
+    if (data.isParallelCoverage()) {
+      return data.getNumberOfThreads();
+    }
+    return 1;
   }
 
   private void checkMatrixMode(ReportOptions data) {
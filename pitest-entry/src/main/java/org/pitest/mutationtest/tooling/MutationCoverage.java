@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +47,8 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.KillHistory;
+import org.pitest.mutationtest.build.MinionSettings;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
@@ -55,6 +58,7 @@ import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.execute.WorkerAgent;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
@@ -128,14 +132,22 @@ public class MutationCoverage {
         .withMutators(this.data.getMutators());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
+    final HistoryStore history = history();
+    final KillHistory kills = new KillHistory(history::getHistoricResults);
     final List<MutationResultListener> config = createConfig(t0, coverageData,
         stats, engine);
+    config.add(kills);
 
-    history().initialize();
+    history.initialize();
+
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+    final WorkerFactory wf = createWorkerFactory(mutationConfig, args,
+        makeTestPrioritiser(coverageData, kills));
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+        mutationConfig, wf, kills);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -151,7 +163,11 @@ public class MutationCoverage {
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
         numberOfThreads(), config);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      wf.shutdown();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
     LOG.info("Completed in " + timeSpan(t0));
@@ -254,41 +270,69 @@ private int numberOfThreads() {
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
-
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      final WorkerFactory wf, final KillHistory kills) {
 
     final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath()));
-
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
-        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
-
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
-
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+        this.code.getClassPath()));
+
+    // the byte source is shared by all discovery threads, so must be thread
+    // safe. Each thread gets its own caching wrapper around it, along with
+    // its own prioritiser and interceptors
+    final Supplier<MutationSource> sources = () -> {
+      final TestPrioritiser testPrioritiser = makeTestPrioritiser(
+          coverageData, kills);
+      final MutationInterceptor interceptor = this.settings.getInterceptor()
+          .createInterceptor(this.data, bas);
+      return new MutationSource(mutationConfig, testPrioritiser, bas,
+          interceptor);
+    };
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history()), coverageData);
 
-    final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
-
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        sources, grouper, numberOfThreads());
 
+    if (this.data.isDynamicDispatch()) {
+      return builder.createDispatchingUnits(this.code.getCodeUnderTestNames(),
+          numberOfThreads(), this.data.getMutationUnitSize());
+    }
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private TestPrioritiser makeTestPrioritiser(
+      final CoverageDatabase coverageData, final KillHistory kills) {
+    return this.settings.getTestPrioritiser().makeTestPrioritiser(
+        this.data.getFreeFormProperties(), this.code, coverageData, kills);
+  }
+
+  private WorkerFactory createWorkerFactory(final MutationConfig mutationConfig,
+      final EngineArguments args, final TestPrioritiser prioritiser) {
+    return new WorkerFactory(this.baseDir, coverage()
+        .getConfiguration(), mutationConfig, args,
+        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(),
+            MinionSettings.defaults().withReuseLimit(minionReuseLimit())
+                .withReprioritiser(prioritiser::reprioritise)
+                .withWorkerAgents(FCollection.map(this.data.getWorkerAgents(),
+                    WorkerAgent::parseAddress),
+                    this.data.getWorkerAgentSecret()));
+  }
+
+  private int minionReuseLimit() {
+    // without reuse a dynamically dispatched run would launch a minion per
+    // batch, so minions are kept for the whole run unless a limit is given
+    if (this.data.isDynamicDispatch() && (this.data.getMinionReuseLimit() <= 0)) {
+      return Integer.MAX_VALUE;
+    }
+    return this.data.getMinionReuseLimit();
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
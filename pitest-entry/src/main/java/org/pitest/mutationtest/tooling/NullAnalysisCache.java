@@ -0,0 +1,30 @@
+package org.pitest.mutationtest.tooling;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageHistory;
+import org.pitest.mutationtest.config.ReportOptions;
+
+/**
+ * Builds everything afresh for each analysis
+ */
+public class NullAnalysisCache implements AnalysisCache {
+
+  @Override
+  public CodeSource codeSource(ReportOptions data) {
+    return new CodeSource(data.getMutationClassPaths());
+  }
+
+  @Override
+  public CoverageGenerator coverage(ReportOptions data,
+      CoverageGenerator generator) {
+    return generator;
+  }
+
+  @Override
+  public CoverageHistory coverageHistory(ReportOptions data,
+      CoverageHistory history) {
+    return history;
+  }
+
+}
@@ -0,0 +1,238 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageHistory;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.process.LaunchOptions;
+import org.pitest.util.Unchecked;
+
+/**
+ * Retains the code source, class information and coverage of the last project
+ * analysed so they can be reused by the next analysis of the same project.
+ *
+ * <p>
+ * Class files on the classpath are checked for changes before each analysis.
+ * Class information is discarded for changed classes and their subclasses.
+ * Coverage is held per test class, keyed on the options that affect it. If no
+ * class has changed the whole coverage database is reused, otherwise coverage
+ * is gathered again only for test classes affected by the change. If any
+ * archive on the classpath changes everything is discarded.
+ */
+public class WarmAnalysisCache implements AnalysisCache {
+
+  private final Map<String, File> histories = new HashMap<>();
+
+  private String                  codeKey;
+  private CodeSource              code;
+  private ClassFileSnapshot       snapshot;
+
+  private String                  coverageKey;
+  private CoverageDatabase        coverage;
+
+  private String                            testCoverageKey;
+  private Map<ClassName, TestClassCoverage> testCoverage;
+
+  @Override
+  public synchronized CodeSource codeSource(ReportOptions data) {
+    final String key = codeKey(data);
+    final ClassFileSnapshot current = ClassFileSnapshot
+        .take(classPathElements(data));
+    if (!key.equals(this.codeKey)
+        || current.archivesChangedSince(this.snapshot)) {
+      this.codeKey = key;
+      this.code = new CodeSource(data.getMutationClassPaths());
+      this.coverage = null;
+      this.testCoverage = null;
+    } else {
+      final Set<ClassName> changed = current
+          .classesChangedSince(this.snapshot);
+      if (!changed.isEmpty()) {
+        this.code.invalidate(changed);
+        this.coverage = null;
+      }
+    }
+    this.snapshot = current;
+    return this.code;
+  }
+
+  @Override
+  public CoverageGenerator coverage(ReportOptions data,
+      CoverageGenerator generator) {
+    return new CachedCoverageGenerator(generator, coverageKey(data));
+  }
+
+  @Override
+  public CoverageHistory coverageHistory(ReportOptions data,
+      CoverageHistory history) {
+    return new RetainedCoverageHistory(history, coverageKey(data));
+  }
+
+  /**
+   * Points the history of analyses that do not configure one at a file
+   * retained for the life of this cache, so that mutants unaffected by a
+   * change need not be analysed again. This makes the analysis incremental, so
+   * should only be done when asked for.
+   *
+   * @param data
+   *          options of the analysis
+   */
+  public synchronized void retainHistory(ReportOptions data) {
+    if ((data.getHistoryInputLocation() != null)
+        || (data.getHistoryOutputLocation() != null)) {
+      return;
+    }
+    final File history = this.histories.computeIfAbsent(codeKey(data),
+        k -> createHistoryFile());
+    data.setHistoryInputLocation(history);
+    data.setHistoryOutputLocation(history);
+  }
+
+  private synchronized CoverageDatabase cachedCoverage(String key,
+      CoverageGenerator generator) {
+    if ((this.coverage == null) || !key.equals(this.coverageKey)) {
+      this.coverage = generator.calculateCoverage();
+      this.coverageKey = key;
+    }
+    return this.coverage;
+  }
+
+  private synchronized Map<ClassName, TestClassCoverage> retainedTestCoverage(
+      String key) {
+    if ((this.testCoverage == null) || !key.equals(this.testCoverageKey)) {
+      return null;
+    }
+    return this.testCoverage;
+  }
+
+  private synchronized void retainTestCoverage(String key,
+      Collection<TestClassCoverage> coverage) {
+    final Map<ClassName, TestClassCoverage> byClass = new LinkedHashMap<>();
+    for (final TestClassCoverage each : coverage) {
+      byClass.put(each.getTestClass(), each);
+    }
+    this.testCoverage = Collections.unmodifiableMap(byClass);
+    this.testCoverageKey = key;
+  }
+
+  private static File createHistoryFile() {
+    try {
+      final File file = File.createTempFile("pit-daemon-history", ".bin");
+      file.deleteOnExit();
+      return file;
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  private static Collection<File> classPathElements(ReportOptions data) {
+    if (data.getClassPathElements() != null) {
+      return FCollection.map(data.getClassPathElements(), File::new);
+    }
+    return ClassPath.getClassPathElementsAsFiles();
+  }
+
+  private static String codeKey(ReportOptions data) {
+    return "classPathElements=" + data.getClassPathElements()
+        + ", codePaths=" + data.getCodePaths()
+        + ", targetClasses=" + data.getTargetClasses()
+        + ", excludedClasses=" + data.getExcludedClasses()
+        + ", targetTests=" + data.getTargetTests()
+        + ", excludedTestClasses=" + data.getExcludedTestClasses();
+  }
+
+  /**
+   * Options that change the coverage gathered for the project
+   */
+  private static String coverageKey(ReportOptions data) {
+    return codeKey(data)
+        + ", jvmArgs=" + data.getJvmArgs()
+        + ", testPlugin=" + data.getTestPlugin()
+        + ", groupConfig=" + data.getGroupConfig()
+        + ", excludedRunners=" + data.getExcludedRunners()
+        + ", includedTestMethods=" + data.getIncludedTestMethods()
+        + ", skipFailingTests=" + data.skipFailingTests()
+        + ", dependencyDistance=" + data.getDependencyAnalysisMaxDistance();
+  }
+
+  /**
+   * Serves the per test class coverage of the last analysis from memory, so
+   * that only test classes affected by a change are run again.
+   */
+  private class RetainedCoverageHistory implements CoverageHistory {
+
+    private final CoverageHistory             child;
+    private final String                      key;
+    private Map<ClassName, TestClassCoverage> previous = Collections
+        .emptyMap();
+
+    RetainedCoverageHistory(CoverageHistory child, String key) {
+      this.child = child;
+      this.key = key;
+    }
+
+    @Override
+    public void initialize() {
+      this.previous = retainedTestCoverage(this.key);
+      if (this.previous == null) {
+        this.child.initialize();
+        this.previous = this.child.getHistoricCoverage();
+      }
+    }
+
+    @Override
+    public Map<ClassName, TestClassCoverage> getHistoricCoverage() {
+      return this.previous;
+    }
+
+    @Override
+    public void recordCoverage(Collection<TestClassCoverage> coverage) {
+      retainTestCoverage(this.key, coverage);
+      this.child.recordCoverage(coverage);
+    }
+
+  }
+
+  private class CachedCoverageGenerator implements CoverageGenerator {
+
+    private final CoverageGenerator child;
+    private final String            key;
+
+    CachedCoverageGenerator(CoverageGenerator child, String key) {
+      this.child = child;
+      this.key = key;
+    }
+
+    @Override
+    public CoverageDatabase calculateCoverage() {
+      return cachedCoverage(this.key, this.child);
+    }
+
+    @Override
+    public TestPluginArguments getConfiguration() {
+      return this.child.getConfiguration();
+    }
+
+    @Override
+    public LaunchOptions getLaunchOptions() {
+      return this.child.getLaunchOptions();
+    }
+
+  }
+
+}
@@ -18,24 +18,43 @@ import org.pitest.util.ManifestUtils;
 
 public class WrappingProcess {
 
-  private final int         port;
+  private final String[]    programArgs;
   private final ProcessArgs processArgs;
   private final Class<?>    minionClass;
 
   private JavaProcess       process;
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
-    this.port = port;
+    this(args, minionClass, "" + port);
+  }
+
+  /**
+   * @param port
+   *          port the minion should connect to
+   * @param workerId
+   *          id the minion sends when it connects, so that a single listener
+   *          can serve many minions
+   * @param args
+   *          how the minion process is launched
+   * @param minionClass
+   *          main class of the minion
+   */
+  public WrappingProcess(int port, int workerId, ProcessArgs args,
+      Class<?> minionClass) {
+    this(args, minionClass, "" + port, "" + workerId);
+  }
+
+  private WrappingProcess(ProcessArgs args, Class<?> minionClass,
+      String... programArgs) {
+    this.programArgs = programArgs;
     this.processArgs = args;
     this.minionClass = minionClass;
   }
 
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
-
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
-        this.minionClass, Arrays.asList(args),
+        this.minionClass, Arrays.asList(this.programArgs),
         this.processArgs.getJavaAgentFinder(),
         this.processArgs.getLaunchClassPath());
 
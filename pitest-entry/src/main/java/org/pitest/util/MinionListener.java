@@ -0,0 +1,188 @@
+package org.pitest.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Accepts connections from any number of minions on a single server socket,
+ * using a single thread. Each connection is identified on a thread of its
+ * own, so a minion that is slow to identify itself does not hold up others.
+ *
+ * Each minion is launched with a worker id obtained from {@link #expect()},
+ * which it sends as soon as it connects. The connection is then handed to the
+ * thread waiting on that id in {@link #accept(int, BooleanSupplier)}.
+ */
+public class MinionListener {
+
+  private static final Logger                           LOG               = Log
+      .getLogger();
+
+  private static final int                              HANDSHAKE_TIMEOUT = 10000;
+  private static final long                             POLL_INTERVAL     = 100;
+
+  private final SocketFinder                            sockets;
+  private final AtomicInteger                           nextId            = new AtomicInteger();
+  private final Map<Integer, CompletableFuture<Socket>> expected          = new ConcurrentHashMap<>();
+  private final ExecutorService                         handshakes        = Executors
+      .newCachedThreadPool(r -> {
+        final Thread t = new Thread(r);
+        t.setDaemon(true);
+        t.setName("pit minion handshake");
+        return t;
+      });
+
+  private ServerSocket                                  serverSocket;
+  private volatile boolean                              closed;
+
+  public MinionListener() {
+    this(new SocketFinder());
+  }
+
+  MinionListener(final SocketFinder sockets) {
+    this.sockets = sockets;
+  }
+
+  /**
+   * Port minions should connect to. The listener starts on first use.
+   *
+   * @return the port
+   */
+  public synchronized int getPort() {
+    if (this.closed) {
+      throw new PitError("Minion listener has been closed");
+    }
+    if (this.serverSocket == null) {
+      this.serverSocket = this.sockets.getNextAvailableServerSocket();
+      final Thread acceptor = new Thread(this::acceptConnections);
+      acceptor.setDaemon(true);
+      acceptor.setName("pit minion listener");
+      acceptor.start();
+    }
+    return this.serverSocket.getLocalPort();
+  }
+
+  /**
+   * Registers a new worker id that a minion may connect with
+   *
+   * @return the id
+   */
+  public int expect() {
+    getPort();
+    final int id = this.nextId.incrementAndGet();
+    this.expected.put(id, new CompletableFuture<Socket>());
+    return id;
+  }
+
+  /**
+   * Waits for the minion launched with the given id to connect.
+   *
+   * @param id
+   *          worker id returned by {@link #expect()}
+   * @param stillAlive
+   *          checked periodically so that we stop waiting for a minion that
+   *          died before connecting
+   * @return the minion's connection
+   * @throws IOException
+   *           if the minion does not connect
+   */
+  public Socket accept(final int id, final BooleanSupplier stillAlive)
+      throws IOException {
+    final CompletableFuture<Socket> connection = this.expected.get(id);
+    if (connection == null) {
+      throw new IllegalStateException("No minion expected with id " + id);
+    }
+    try {
+      while (true) {
+        try {
+          return connection.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+          // a connection that arrives after we give up is closed by the
+          // acceptor, as it can no longer complete the future
+          if ((this.closed || !stillAlive.getAsBoolean())
+              && connection.cancel(false)) {
+            throw new IOException("Minion " + id + " did not connect");
+          }
+        }
+      }
+    } catch (final InterruptedException e) {
+      connection.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for minion " + id);
+    } catch (final ExecutionException e) {
+      throw new IOException(e.getCause());
+    } finally {
+      this.expected.remove(id);
+    }
+  }
+
+  public synchronized void close() {
+    this.closed = true;
+    this.handshakes.shutdown();
+    if (this.serverSocket != null) {
+      try {
+        this.serverSocket.close();
+      } catch (final IOException e) {
+        LOG.log(Level.FINE, "Could not close minion listener", e);
+      }
+    }
+  }
+
+  private void acceptConnections() {
+    while (!this.closed) {
+      try {
+        final Socket socket = this.serverSocket.accept();
+        try {
+          this.handshakes.execute(() -> handshake(socket));
+        } catch (final RejectedExecutionException e) {
+          // closed while accepting
+          closeQuietly(socket);
+        }
+      } catch (final IOException e) {
+        if (!this.closed) {
+          LOG.log(Level.WARNING, "Error accepting minion connection", e);
+        }
+      }
+    }
+  }
+
+  private void handshake(final Socket socket) {
+    try {
+      socket.setSoTimeout(HANDSHAKE_TIMEOUT);
+      final int id = new DataInputStream(socket.getInputStream()).readInt();
+      socket.setSoTimeout(0);
+      final CompletableFuture<Socket> waiting = this.expected.get(id);
+      if ((waiting != null) && waiting.complete(socket)) {
+        return;
+      }
+      LOG.fine("Closing connection from unexpected minion " + id);
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Minion failed to identify itself", e);
+    }
+    closeQuietly(socket);
+  }
+
+  private static void closeQuietly(final Socket socket) {
+    try {
+      socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close minion connection", e);
+    }
+  }
+
+}
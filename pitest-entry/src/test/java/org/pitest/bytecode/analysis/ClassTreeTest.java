@@ -2,11 +2,15 @@ package org.pitest.bytecode.analysis;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.junit.Test;
 import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 
 public class ClassTreeTest {
 
@@ -30,6 +34,24 @@ public class ClassTreeTest {
     assertThat(testee.toString()).contains("ALOAD 0");
   }
 
+  @Test
+  public void shouldParseOnlyRequestedMethod() {
+    final Location b = Location.location(ClassName.fromClass(ParseMe.class),
+        MethodName.fromString("b"), "()I");
+    final Optional<MethodTree> testee = ClassTree
+        .methodFromBytes(bytesFor(ParseMe.class), b);
+    assertThat(testee.get().asLocation()).isEqualTo(b);
+    assertThat(testee.get().instructions()).isNotEmpty();
+  }
+
+  @Test
+  public void shouldReturnNoMethodWhenNoneMatchesLocation() {
+    final Location missing = Location.location(
+        ClassName.fromClass(ParseMe.class), MethodName.fromString("b"), "()V");
+    assertThat(ClassTree.methodFromBytes(bytesFor(ParseMe.class), missing))
+        .isEmpty();
+  }
+
   byte[] bytesFor(Class<?> clazz) {
     return this.source.getBytes(clazz.getName()).get();
   }
@@ -142,6 +142,52 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldOnlyReturnTestsForRequestedClass() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertEquals(Arrays.asList("barTest"), FCollection.map(
+        this.testee.getTestsForClass(this.bar), testInfoToString()));
+  }
+
+  @Test
+  public void shouldReturnTestsCoveringInstruction() {
+    final BlockLocation block = new BlockLocation(Location.location(this.foo,
+        MethodName.fromString("foo"), "V"), 0, 2, 4);
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest"), 0, true, Collections.singleton(block)));
+
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        this.testee.getTestsForInstructionLocation(new InstructionLocation(
+            block, 3)), testInfoToString()));
+    assertTrue(this.testee.getTestsForInstructionLocation(
+        new InstructionLocation(block, 5)).isEmpty());
+  }
+
+  @Test
+  public void shouldCombineTestsCoveringAnyOfSeveralInstructions() {
+    final Location method = Location.location(this.foo,
+        MethodName.fromString("foo"), "V");
+    final BlockLocation first = new BlockLocation(method, 0, 0, 1);
+    final BlockLocation second = new BlockLocation(method, 1, 2, 3);
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest"), 0, true, Collections.singleton(first)));
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest2"), 0, true, Arrays.asList(first, second)));
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest3"), 0, true, Collections.singleton(second)));
+
+    assertThat(FCollection.map(this.testee.getTestsForInstructionLocations(
+        Arrays.asList(new InstructionLocation(first, 1),
+            new InstructionLocation(second, 2))), testInfoToString()))
+        .containsExactlyInAnyOrder("fooTest", "fooTest2", "fooTest3");
+    assertThat(FCollection.map(this.testee.getTestsForInstructionLocation(
+        new InstructionLocation(first, 0)), testInfoToString()))
+        .containsExactlyInAnyOrder("fooTest", "fooTest2");
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -0,0 +1,100 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.coverage.CoverageMother.aCoverageResult;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassInfoSource;
+import org.pitest.classinfo.ClassName;
+
+public class TestClassCoverageTest {
+
+  private static final ClassName          TEST    = ClassName.fromString("FooTest");
+  private static final ClassName          FOO     = ClassName.fromString("Foo");
+  private static final ClassName          BAR     = ClassName.fromString("Bar");
+  private static final ClassName          HELPER  = ClassName.fromString("Helper");
+  private static final String             CP      = "cp";
+
+  private final Map<ClassName, ClassInfo> classes = new HashMap<>();
+  private final ClassInfoSource           source  = name -> Optional
+      .ofNullable(this.classes.get(name));
+
+  private TestClassCoverage               testee;
+
+  @Before
+  public void setUp() {
+    addClass(TEST, 1);
+    addClass(FOO, 2);
+    addClass(BAR, 3);
+    addClass(HELPER, 4);
+    final List<CoverageResult> results = Arrays.asList(
+        aCoverageResult().withVisitedBlocks(Arrays.asList(
+            aBlockLocation().withLocation(aLocation("Foo")).build(),
+            aBlockLocation().withLocation(aLocation("Bar")).build())).build(),
+        aCoverageResult().withVisitedBlocks(Arrays.asList(
+            aBlockLocation().withLocation(aLocation("Foo")).build())).build());
+    this.testee = TestClassCoverage.gathered(this.classes.get(TEST), results,
+        Arrays.asList(HELPER), this.source, CP);
+  }
+
+  @Test
+  public void shouldDependOnTestClassEachCoveredClassAndReferencedClasses() {
+    assertThat(this.testee.getDependencies()).containsExactly(
+        this.classes.get(TEST).getHierarchicalId(),
+        this.classes.get(FOO).getHierarchicalId(),
+        this.classes.get(BAR).getHierarchicalId(),
+        this.classes.get(HELPER).getHierarchicalId());
+  }
+
+  @Test
+  public void shouldBeUnchangedWhenNoDependencyChanges() {
+    assertThat(this.testee.isUnchangedIn(this.source, CP)).isTrue();
+  }
+
+  @Test
+  public void shouldBeChangedWhenReferencedClassChanges() {
+    addClass(HELPER, 42);
+    assertThat(this.testee.isUnchangedIn(this.source, CP)).isFalse();
+  }
+
+  @Test
+  public void shouldBeChangedWhenClassPathChanges() {
+    assertThat(this.testee.isUnchangedIn(this.source, "other")).isFalse();
+  }
+
+  @Test
+  public void shouldBeChangedWhenTestClassChanges() {
+    addClass(TEST, 42);
+    assertThat(this.testee.isUnchangedIn(this.source, CP)).isFalse();
+  }
+
+  @Test
+  public void shouldBeChangedWhenCoveredClassChanges() {
+    addClass(BAR, 42);
+    assertThat(this.testee.isUnchangedIn(this.source, CP)).isFalse();
+  }
+
+  @Test
+  public void shouldBeChangedWhenCoveredClassRemoved() {
+    this.classes.remove(FOO);
+    assertThat(this.testee.isUnchangedIn(this.source, CP)).isFalse();
+  }
+
+  private void addClass(ClassName name, long hash) {
+    this.classes.put(name, ClassInfoMother.make(new ClassIdentifier(hash,
+        name)));
+  }
+
+}
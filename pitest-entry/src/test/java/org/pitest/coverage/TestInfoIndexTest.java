@@ -0,0 +1,55 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class TestInfoIndexTest {
+
+  private final TestInfoIndex testee = new TestInfoIndex();
+
+  @Test
+  public void shouldAssignDenseIdsInOrderTestsAreSeen() {
+    assertEquals(0, this.testee.idFor(aTest("a")));
+    assertEquals(1, this.testee.idFor(aTest("b")));
+    assertEquals(2, this.testee.idFor(aTest("c")));
+  }
+
+  @Test
+  public void shouldReuseIdForTestWithSameName() {
+    final int id = this.testee.idFor(aTest("a"));
+    this.testee.idFor(aTest("b"));
+    assertEquals(id, this.testee.idFor(aTest("a")));
+  }
+
+  @Test
+  public void shouldViewSetIdsAsTests() {
+    final TestInfo a = aTest("a");
+    final TestInfo b = aTest("b");
+    final TestInfo c = aTest("c");
+    final BitSet ids = new BitSet();
+    ids.set(this.testee.idFor(a));
+    this.testee.idFor(b);
+    ids.set(this.testee.idFor(c));
+
+    assertThat(this.testee.asSet(ids)).containsExactly(a, c);
+    assertTrue(this.testee.asSet(ids).contains(c));
+    assertFalse(this.testee.asSet(ids).contains(b));
+  }
+
+  @Test
+  public void shouldViewEmptyIdsAsEmptySet() {
+    assertThat(this.testee.asSet(new BitSet())).isEmpty();
+  }
+
+  private static TestInfo aTest(final String name) {
+    return new TestInfo("FooTest", name, 0, Optional.empty(), 0);
+  }
+
+}
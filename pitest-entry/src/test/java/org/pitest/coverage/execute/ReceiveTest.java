@@ -1,15 +1,28 @@
 package org.pitest.coverage.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.Block;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
 
@@ -61,6 +74,52 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldDecodeBlocksHitInEachClassSentByCoveragePipe() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final CoveragePipe pipe = new CoveragePipe(bytes);
+    CodeCoverageStore.init(pipe);
+    try {
+      final int foo = CodeCoverageStore.registerClass("foo");
+      CodeCoverageStore.registerMethod(foo, "bar", "()V", 1, 70, blocks(70));
+      final boolean[] fooProbes = CodeCoverageStore
+          .getOrRegisterClassProbes(foo, 70);
+      final int unused = CodeCoverageStore.registerClass("unused");
+      CodeCoverageStore.registerMethod(unused, "bar", "()V", 1, 1, blocks(1));
+      CodeCoverageStore.getOrRegisterClassProbes(unused, 1);
+
+      CodeCoverageStore.markClassHit(foo, fooProbes);
+      fooProbes[3] = true;
+      fooProbes[70] = true;
+      pipe.recordTestOutcome(this.description, true, 42);
+      pipe.end(ExitCode.OK);
+
+      final SafeDataInputStream input = new SafeDataInputStream(
+          new ByteArrayInputStream(bytes.toByteArray()));
+      byte control = input.readByte();
+      while (control != Id.DONE) {
+        this.testee.apply(control, input);
+        control = input.readByte();
+      }
+    } finally {
+      CodeCoverageStore.resetAllStaticState();
+    }
+
+    final Location bar = Location.location(ClassName.fromString("foo"),
+        MethodName.fromString("bar"), "()V");
+    assertThat(this.result.getCoverage()).containsOnly(
+        new BlockLocation(bar, 2, 2, 2), new BlockLocation(bar, 69, 69, 69));
+    assertEquals(42, this.result.getExecutionTime());
+  }
+
+  private static List<Block> blocks(int count) {
+    final List<Block> blocks = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      blocks.add(new Block(i, i, Collections.<Integer> emptySet()));
+    }
+    return blocks;
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
@@ -68,9 +127,9 @@ public class ReceiveTest {
     this.testee.apply(Id.CLAZZ, this.is);
 
     when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1l,
-        CodeCoverageStore.encode(classId, probeNumber));
+    when(this.is.readInt()).thenReturn(classId, 1, CoveragePipe.END_OF_HITS,
+        executionTime);
+    when(this.is.readLong()).thenReturn(1L << probeNumber);
     when(this.is.readBoolean()).thenReturn(testPassed);
     this.testee.apply(Id.OUTCOME, this.is);
   }
@@ -0,0 +1,117 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+
+public class TestDependenciesTest {
+
+  @Rule
+  public TemporaryFolder       testFolder = new TemporaryFolder();
+
+  @Mock
+  private CodeSource           code;
+
+  private ClassByteArraySource source     = ClassloaderByteArraySource
+      .fromContext();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.code.getCodeUnderTestNames()).thenReturn(
+        Collections.singleton(ClassName.fromClass(Code.class)));
+    when(this.code.fetchClassBytes(any(ClassName.class))).thenAnswer(
+        invocation -> this.source.getBytes(((ClassName) invocation
+            .getArguments()[0]).asJavaName()));
+    when(this.code.getClassPath()).thenReturn(new ClassPath());
+  }
+
+  @Test
+  public void shouldFindTestSideClassesReferencedDirectlyAndIndirectly() {
+    final TestDependencies testee = new TestDependencies(this.code);
+    assertThat(testee.referencedBy(ClassName.fromClass(ATest.class)))
+        .contains(ClassName.fromClass(Helper.class),
+            ClassName.fromClass(Fixture.class));
+  }
+
+  @Test
+  public void shouldNotTrackCodeUnderTestOrArchivedClasses() {
+    final TestDependencies testee = new TestDependencies(this.code);
+    assertThat(testee.referencedBy(ClassName.fromClass(ATest.class)))
+        .doesNotContain(ClassName.fromClass(Code.class),
+            ClassName.fromClass(Assert.class),
+            ClassName.fromClass(ATest.class));
+  }
+
+  @Test
+  public void shouldChangeClassPathIdWhenResourceChanges() throws IOException {
+    final File root = this.testFolder.newFolder("resources");
+    when(this.code.getClassPath()).thenReturn(
+        new ClassPath(Collections.singletonList(root)));
+    final TestDependencies testee = new TestDependencies(this.code);
+
+    final String empty = testee.classPathId();
+    assertThat(testee.classPathId()).isEqualTo(empty);
+
+    Files.write(new File(root, "config.properties").toPath(),
+        "a=b".getBytes("UTF-8"));
+    assertThat(testee.classPathId()).isNotEqualTo(empty);
+  }
+
+  @Test
+  public void shouldNotChangeClassPathIdWhenClassFileChanges()
+      throws IOException {
+    final File root = this.testFolder.newFolder("classes");
+    when(this.code.getClassPath()).thenReturn(
+        new ClassPath(Collections.singletonList(root)));
+    final TestDependencies testee = new TestDependencies(this.code);
+
+    final String before = testee.classPathId();
+    Files.write(new File(root, "Foo.class").toPath(), "foo".getBytes("UTF-8"));
+    assertThat(testee.classPathId()).isEqualTo(before);
+  }
+
+  static class ATest {
+    private final Helper helper = new Helper();
+
+    public void test() {
+      Assert.assertNotNull(this.helper.help());
+      new Code().run();
+    }
+  }
+
+  static class Helper {
+    Fixture help() {
+      return new Fixture();
+    }
+  }
+
+  static class Fixture {
+
+  }
+
+  static class Code {
+    void run() {
+
+    }
+  }
+
+}
@@ -102,6 +102,25 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED, SURVIVED);
   }
 
+  @Test
+  public void shouldReportSameResultsWhenMutantsInsertedAsSchemata() {
+    this.data.setMutationEngine("gregor-schemata");
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldReportResultForEachMutantWhenIdenticalMutantsCombined() {
+    this.data.setMutators(asList("INLINE_CONSTS", "CRCR2"));
+    this.data.setFeatures(Collections.singletonList("+FTCE"));
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED, SURVIVED);
+  }
+
 
   @Test(expected = PitHelpError.class)
   public void shouldFailRunWithHelpfulMessageIfTestsNotGreen() {
@@ -43,6 +43,25 @@ public class MutationMetaDataTest {
 
   }
 
+  @Test
+  public void shouldReportDuplicatesWithResultOfTheirMutation() {
+    final MutationResult duplicate = makeResult("Foo", "b");
+    final MutationResult a = makeResult("Foo", "a");
+    final MutationResult withDuplicate = new MutationResult(
+        a.getDetails().withDuplicates(
+            Collections.singletonList(duplicate.getDetails())),
+        MutationStatusTestPair.notAnalysed(1, DetectionStatus.SURVIVED));
+
+    final MutationMetaData testee = new MutationMetaData(
+        Arrays.asList(withDuplicate));
+    final ClassMutationResults actual = testee.toClassResults().iterator()
+        .next();
+
+    assertThat(actual.getMutations()).containsExactly(withDuplicate,
+        new MutationResult(duplicate.getDetails(),
+            withDuplicate.getStatusTestPair()));
+  }
+
   @Test
   public void shouldNotCreateEmptyClassResultsObjects() {
     final MutationMetaData testee = new MutationMetaData(
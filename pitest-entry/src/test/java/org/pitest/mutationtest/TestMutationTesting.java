@@ -23,11 +23,15 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -40,6 +44,7 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.SystemTest;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.PathFilter;
@@ -54,6 +59,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.build.CompoundMutationInterceptor;
 import org.pitest.mutationtest.build.DefaultGrouper;
 import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.MinionSettings;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
@@ -66,10 +72,12 @@ import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.WorkerAgent;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
+import org.pitest.process.ProcessArgs;
 import org.pitest.simpletest.SimpleTestPlugin;
 import org.pitest.simpletest.TestAnnotationForTesting;
 import org.pitest.util.IsolationUtils;
@@ -290,6 +298,76 @@ public class TestMutationTesting {
     verifyResults(KILLED, MEMORY_ERROR);
   }
 
+  @Test
+  public void shouldAnalyseSuccessiveUnitsInReusedMinion() {
+    runReusingMinions(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseAllMutationsWhenDispatchedDynamically() {
+    final ReportOptions data = new ReportOptions();
+    data.setDynamicDispatch(true);
+    data.setMutationUnitSize(1);
+    data.setMinionReuseLimit(10);
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class, data,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseMutationsOnWorkerAgents() throws Exception {
+    final JavaAgent agentJar = new JarCreatingJarFinder();
+    final List<WorkerAgent> agents = Arrays.asList(startAgent(agentJar),
+        startAgent(agentJar));
+    try {
+      final ReportOptions data = new ReportOptions();
+      data.setMutationUnitSize(1);
+      data.setWorkerAgents(Arrays.asList("localhost:" + agents.get(0).getPort(),
+          "localhost:" + agents.get(1).getPort()));
+      data.setWorkerAgentSecret("secret");
+      run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class, data,
+          "RETURN_VALS");
+      verifyResults(SURVIVED, KILLED, KILLED);
+    } finally {
+      agents.forEach(WorkerAgent::shutdown);
+      agentJar.close();
+    }
+  }
+
+  private static WorkerAgent startAgent(final JavaAgent agentJar)
+      throws IOException {
+    final ProcessArgs args = ProcessArgs.withClassPath(new ClassPath())
+        .andLaunchOptions(new LaunchOptions(agentJar,
+            new DefaultJavaExecutableLocator(),
+            ReportOptions.DEFAULT_CHILD_JVM_ARGS,
+            new HashMap<String, String>()));
+    final WorkerAgent agent = new WorkerAgent(new ServerSocket(0, 0,
+        InetAddress.getLoopbackAddress()), args, "secret");
+    final Thread serving = new Thread(agent::serve);
+    serving.setDaemon(true);
+    serving.start();
+    return agent;
+  }
+
+  @Test
+  public void shouldCombineCoverageFromParallelCoverageMinions() {
+    final ReportOptions data = new ReportOptions();
+    data.setParallelCoverage(true);
+    data.setNumberOfThreads(2);
+    run(ThreeMutations.class, data, "RETURN_VALS",
+        ThreeMutationsTwoMeaningfullTests.class, NoMutationsTest.class);
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldReplaceReusedMinionAfterTimeout() {
+    runReusingMinions(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
   @Test
   public void shouldIsolateMutationsFromNestedClasses() {
     // see http://code.google.com/p/pitestrunner/issues/detail?id=17 for full
@@ -309,11 +387,37 @@ public class TestMutationTesting {
 
   private void run(final Class<?> clazz, final Class<?> test,
       final String ... mutators) {
+    run(clazz, test, new ReportOptions(), mutators);
+  }
 
+  private void runReusingMinions(final Class<?> clazz, final Class<?> test,
+      final String ... mutators) {
     final ReportOptions data = new ReportOptions();
+    data.setMutationUnitSize(1);
+    data.setMinionReuseLimit(10);
+    run(clazz, test, data, mutators);
+  }
+
+  private void run(final Class<?> clazz, final ReportOptions data,
+      final String mutator, final Class<?>... tests) {
+    final Set<Predicate<String>> targetTests = new HashSet<>();
+    for (final Class<?> each : tests) {
+      targetTests.add(isEqual(each.getName()));
+    }
+    data.setTargetTests(targetTests);
+    runAgainstTargetTests(clazz, data, mutator);
+  }
+
+  private void run(final Class<?> clazz, final Class<?> test,
+      final ReportOptions data, final String ... mutators) {
 
     final Set<Predicate<String>> tests = Collections.singleton(isEqual(test.getName()));
     data.setTargetTests(tests);
+    runAgainstTargetTests(clazz, data, mutators);
+  }
+
+  private void runAgainstTargetTests(final Class<?> clazz,
+      final ReportOptions data, final String ... mutators) {
     data.setDependencyAnalysisMaxDistance(-1);
 
     final Set<String> mutees = Collections.singleton(clazz.getName() + "*");
@@ -353,7 +457,8 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, false);
+        timings, false,
+        data.isParallelCoverage() ? data.getNumberOfThreads() : 1);
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage();
 
@@ -381,18 +486,27 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.isVerbose(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), MinionSettings.defaults()
+            .withReuseLimit(data.getMinionReuseLimit())
+            .withWorkerAgents(FCollection.map(data.getWorkerAgents(),
+                WorkerAgent::parseAddress), data.getWorkerAgentSecret()));
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
-        new NullAnalyser(), source, new DefaultGrouper(0));
+        new NullAnalyser(), source, new DefaultGrouper(data.getMutationUnitSize()));
 
-    final List<MutationAnalysisUnit> tus = builder
-        .createMutationTestUnits(codeClasses);
+    final List<MutationAnalysisUnit> tus = data.isDynamicDispatch()
+        ? builder.createDispatchingUnits(codeClasses, 2,
+            data.getMutationUnitSize())
+        : builder.createMutationTestUnits(codeClasses);
 
-    this.mae.run(tus);
+    try {
+      this.mae.run(tus);
+    } finally {
+      wf.shutdown();
+    }
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class CachingMutaterTest {
+
+  @Mock
+  private Mutater                  child;
+
+  private CachingMutater           testee;
+
+  private final MutationIdentifier one = aMutationId().withIndex(1).build();
+  private final MutationIdentifier two = aMutationId().withIndex(2).build();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new CachingMutater(this.child);
+  }
+
+  @Test
+  public void shouldCreateEachMutantOnlyOnce() {
+    final Mutant mutant = mutant(this.one);
+    when(this.child.getMutation(this.one)).thenReturn(mutant);
+
+    assertThat(this.testee.getMutation(this.one)).isSameAs(mutant);
+    assertThat(this.testee.getMutation(this.one)).isSameAs(mutant);
+    verify(this.child, times(1)).getMutation(this.one);
+  }
+
+  @Test
+  public void shouldRequestOnlyUncachedMutantsInOneBatch() {
+    final Mutant first = mutant(this.one);
+    final Mutant second = mutant(this.two);
+    when(this.child.getMutation(this.one)).thenReturn(first);
+    when(this.child.getMutations(Collections.singletonList(this.two)))
+        .thenReturn(Collections.singletonList(second));
+
+    this.testee.getMutation(this.one);
+    assertThat(this.testee.getMutations(Arrays.asList(this.two, this.one)))
+        .containsExactly(second, first);
+    verify(this.child).getMutations(Collections.singletonList(this.two));
+  }
+
+  private static Mutant mutant(MutationIdentifier id) {
+    return new Mutant(new MutationDetails(id, "file", "desc", 1, 0),
+        new byte[0]);
+  }
+
+}
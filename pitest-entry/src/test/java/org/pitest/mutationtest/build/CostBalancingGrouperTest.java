@@ -0,0 +1,114 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.LocationMother;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancingGrouperTest {
+
+  private CostBalancingGrouper testee;
+
+  @Test
+  public void shouldCreateSingleUnitPerClassWhenRunOnOneThread() {
+    this.testee = new CostBalancingGrouper(0, 1);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1000),
+            createDetails("foo", 1000), createDetails("bar", 1)));
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void shouldCreateMultipleTestUnitsWhenUnitSizeIsLessThanNumberOfMutations() {
+    this.testee = new CostBalancingGrouper(1, 1);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 0), createDetails("foo", 0),
+            createDetails("foo", 0)));
+    assertEquals(3, actual.size());
+  }
+
+  @Test
+  public void shouldSplitClassesCostingWellAboveAThreadsShare() {
+    this.testee = new CostBalancingGrouper(0, 4);
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 4; i++) {
+      mutations.add(createDetails("foo", 100));
+      mutations.add(createDetails("bar", 0));
+    }
+
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, mutations);
+
+    assertEquals(5, actual.size());
+    for (final List<MutationDetails> each : actual) {
+      assertThat(MutationCost.estimate(each))
+          .isLessThanOrEqualTo((MutationCost.estimate(mutations) + 3) / 4);
+    }
+  }
+
+  @Test
+  public void shouldNotSplitClassesCostingSlightlyMoreThanAThreadsShare() {
+    this.testee = new CostBalancingGrouper(0, 2);
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 4; i++) {
+      mutations.add(createDetails("foo", 100));
+      mutations.add(createDetails("bar", 0));
+    }
+
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, mutations);
+
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void shouldStillLimitUnitSizeOfClassesThatAreNotSplit() {
+    this.testee = new CostBalancingGrouper(1, 2);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 10), createDetails("foo", 10),
+            createDetails("bar", 10), createDetails("bar", 10)));
+    assertEquals(4, actual.size());
+  }
+
+  @Test
+  public void shouldNotSplitClassesCostingLessThanAThreadsShare() {
+    this.testee = new CostBalancingGrouper(0, 2);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 10), createDetails("foo", 10),
+            createDetails("bar", 10), createDetails("bar", 10)));
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void shouldNotSplitASingleMutantCostingMoreThanAThreadsShare() {
+    this.testee = new CostBalancingGrouper(0, 4);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1000),
+            createDetails("bar", 1)));
+    assertEquals(2, actual.size());
+  }
+
+  public static MutationDetails createDetails(final String clazz,
+      final int testTime) {
+    final LocationBuilder lb = LocationMother.aLocation().withClass(
+        ClassName.fromString(clazz));
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withLocation(lb).build(), "", "desc", 42, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+        "test", testTime, Optional.<ClassName> empty(), 1)));
+    return md;
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class DispatchingMutationTestUnitTest {
+
+  private final List<Collection<MutationDetails>> batches = new ArrayList<>();
+
+  @Test
+  public void shouldAnalyseBatchesUntilQueueIsEmpty() throws Exception {
+    final List<MutationDetails> mutations = Arrays.asList(
+        createDetails("foo"), createDetails("foo"), createDetails("bar"));
+    final DispatchingMutationTestUnit testee = new DispatchingMutationTestUnit(
+        new MutationQueue(mutations, 1), recordBatches());
+
+    final MutationMetaData actual = testee.call();
+
+    assertThat(this.batches).hasSize(3);
+    assertThat(detailsOf(actual)).containsOnlyElementsOf(mutations)
+    .hasSize(3);
+  }
+
+  @Test
+  public void shouldShareQueueBetweenUnits() throws Exception {
+    final List<MutationDetails> mutations = Arrays.asList(
+        createDetails("foo"), createDetails("foo"), createDetails("bar"));
+    final MutationQueue queue = new MutationQueue(mutations, 1);
+    final DispatchingMutationTestUnit first = new DispatchingMutationTestUnit(
+        queue, recordBatches());
+    final DispatchingMutationTestUnit second = new DispatchingMutationTestUnit(
+        queue, recordBatches());
+
+    final List<MutationDetails> actual = new ArrayList<>();
+    actual.addAll(detailsOf(first.call()));
+    actual.addAll(detailsOf(second.call()));
+
+    assertThat(actual).containsOnlyElementsOf(mutations).hasSize(3);
+  }
+
+  @Test
+  public void shouldPassOnResultsOfEachBatchAsItCompletes() throws Exception {
+    final List<MutationDetails> mutations = Arrays.asList(
+        createDetails("foo"), createDetails("foo"), createDetails("bar"));
+    final DispatchingMutationTestUnit testee = new DispatchingMutationTestUnit(
+        new MutationQueue(mutations, 1), recordBatches());
+
+    final List<MutationMetaData> reported = new ArrayList<>();
+    final MutationMetaData actual = testee.call(r -> {
+      assertThat(this.batches).hasSize(reported.size() + 1);
+      reported.add(r);
+    });
+
+    assertThat(reported).hasSize(3);
+    assertThat(actual.getMutations()).isEmpty();
+  }
+
+  private Function<Collection<MutationDetails>, MutationAnalysisUnit> recordBatches() {
+    return batch -> {
+      this.batches.add(batch);
+      final List<MutationResult> results = new ArrayList<>();
+      for (final MutationDetails each : batch) {
+        results.add(new MutationResult(each,
+            MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED)));
+      }
+      return new KnownStatusMutationTestUnit(results);
+    };
+  }
+
+  private static List<MutationDetails> detailsOf(final MutationMetaData data) {
+    final List<MutationDetails> details = new ArrayList<>();
+    for (final MutationResult each : data.getMutations()) {
+      details.add(each.getDetails());
+    }
+    return details;
+  }
+
+  private static MutationDetails createDetails(final String clazz) {
+    return CostBalancingGrouperTest.createDetails(clazz, 0);
+  }
+
+}
@@ -0,0 +1,160 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillHistoryTest {
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> historic = new HashMap<>();
+
+  private final List<ClassName>                                 read     = new ArrayList<>();
+
+  private final KillHistory testee = new KillHistory(c -> {
+    this.read.add(c);
+    return this.historic.entrySet().stream()
+        .filter(e -> e.getKey().getClassName().equals(c))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  });
+
+  @Test
+  public void shouldLeaveOrderUnchangedWhenNoKillsKnown() {
+    final List<TestInfo> tests = tests("a", "b", "c");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 1), tests)))
+        .containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void shouldRunTestsThatKilledMutantsInSameMethodFirst() {
+    this.historic.put(mutant("foo", "bar", 1).getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED,
+            Arrays.asList("c"), Arrays.asList("a")));
+    this.historic.put(mutant("foo", "bar", 2).getId(), killedBy("a"));
+
+    final List<TestInfo> tests = tests("a", "b", "c");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 3), tests)))
+        .containsExactly("c", "a", "b");
+  }
+
+  @Test
+  public void shouldFallBackToKillsInSameClass() {
+    this.historic.put(mutant("foo", "other", 1).getId(), killedBy("b"));
+    this.historic.put(mutant("elsewhere", "bar", 1).getId(), killedBy("c"));
+
+    final List<TestInfo> tests = tests("a", "b", "c");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 1), tests)))
+        .containsExactly("b", "a", "c");
+  }
+
+  @Test
+  public void shouldPreferMethodKillsOverClassKills() {
+    this.historic.put(mutant("foo", "other", 1).getId(), killedBy("b"));
+    this.historic.put(mutant("foo", "other", 2).getId(), killedBy("b"));
+    this.historic.put(mutant("foo", "bar", 1).getId(), killedBy("c"));
+
+    final List<TestInfo> tests = tests("a", "b", "c");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 2), tests)))
+        .containsExactly("c", "b", "a");
+  }
+
+  @Test
+  public void shouldLearnFromResultsAsTheyArrive() {
+    this.testee.prioritise(mutant("foo", "bar", 1), tests("a"));
+
+    final MutationDetails analysed = mutant("foo", "bar", 1);
+    analysed.addTestsInOrder(tests("a", "b", "c"));
+    this.testee.handleMutationResult(new ClassMutationResults(Collections
+        .singletonList(new MutationResult(analysed,
+            new MutationStatusTestPair(2, DetectionStatus.KILLED, "b")))));
+
+    final List<TestInfo> tests = tests("a", "b", "c");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 2), tests)))
+        .containsExactly("b", "a", "c");
+  }
+
+  @Test
+  public void shouldNotRecordHistoricResultsReportedAgain() {
+    this.historic.put(mutant("foo", "bar", 1).getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED,
+            Arrays.asList("b"), Arrays.asList("a")));
+    this.historic.put(mutant("foo", "bar", 2).getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED,
+            Arrays.asList("a"), Arrays.asList("b")));
+    this.testee.prioritise(mutant("foo", "bar", 3), tests("a"));
+
+    // incremental analysis reports the historic result without running tests
+    this.testee.handleMutationResult(new ClassMutationResults(Collections
+        .singletonList(new MutationResult(mutant("foo", "bar", 2),
+            new MutationStatusTestPair(0, DetectionStatus.KILLED,
+                Arrays.asList("a"), Arrays.asList("b"))))));
+
+    final List<TestInfo> tests = tests("b", "a");
+    assertThat(names(this.testee.prioritise(mutant("foo", "bar", 3), tests)))
+        .containsExactly("b", "a");
+  }
+
+  @Test
+  public void shouldNotModifyGivenTests() {
+    this.historic.put(mutant("foo", "bar", 1).getId(), killedBy("c"));
+
+    final List<TestInfo> tests = tests("a", "b", "c");
+    this.testee.prioritise(mutant("foo", "bar", 2), tests);
+    assertThat(names(tests)).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void shouldOnlyReadHistoryOfClassesBeingPrioritised() {
+    this.historic.put(mutant("foo", "bar", 1).getId(), killedBy("c"));
+    this.historic.put(mutant("elsewhere", "bar", 1).getId(), killedBy("c"));
+
+    this.testee.prioritise(mutant("foo", "bar", 2), tests("a"));
+    this.testee.prioritise(mutant("foo", "bar", 3), tests("a"));
+
+    assertThat(this.read).containsExactly(mutant("foo", "bar", 1)
+        .getClassName());
+  }
+
+  private static MutationStatusTestPair killedBy(String... tests) {
+    return new MutationStatusTestPair(tests.length, DetectionStatus.KILLED,
+        Arrays.asList(tests), Collections.<String> emptyList());
+  }
+
+  private static MutationDetails mutant(String clazz, String method,
+      int index) {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation(clazz).withMethod(method)).withIndex(index)
+        .build(), "file", "desc", 1, 0);
+  }
+
+  private static List<TestInfo> tests(String... names) {
+    final List<TestInfo> tests = new ArrayList<>();
+    for (final String each : names) {
+      tests.add(new TestInfo("Test", each, 1, Optional.empty(), 1));
+    }
+    return tests;
+  }
+
+  private static List<String> names(List<TestInfo> tests) {
+    return tests.stream().map(TestInfo::getName).collect(Collectors.toList());
+  }
+
+}
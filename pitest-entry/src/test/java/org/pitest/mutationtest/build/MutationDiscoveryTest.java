@@ -3,6 +3,7 @@ package org.pitest.mutationtest.build;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.logging.Logger;
@@ -211,6 +212,19 @@ public class MutationDiscoveryTest {
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  public void combinesIdenticalMutantsWhenTceEnabled() {
+    this.data.setMutators(Arrays.asList("MATH", "AOR_1"));
+    final Collection<MutationDetails> foundByDefault = findMutants(AddsNumbers.class);
+
+    this.data.setFeatures(Collections.singletonList("+FTCE"));
+    final Collection<MutationDetails> foundWithTce = findMutants(AddsNumbers.class);
+
+    assertThat(foundByDefault).hasSize(2);
+    assertThat(foundWithTce).hasSize(1);
+    assertThat(foundWithTce.iterator().next().getDuplicates()).hasSize(1);
+  }
+
   public static class AnnotatedToAvoidMethod {
     public int a() {
       return 1;
@@ -285,6 +299,12 @@ public class MutationDiscoveryTest {
     }
   }
 
+  static class AddsNumbers {
+    public int a(int a, int b) {
+      return a + b;
+    }
+  }
+
   class AlreadyReturnsConstZero {
     public int a() {
       return 0;
@@ -0,0 +1,106 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationQueueTest {
+
+  private static final ClassName FOO = ClassName.fromString("foo");
+  private static final ClassName BAR = ClassName.fromString("bar");
+
+  @Test
+  public void shouldReturnEmptyBatchWhenNoMutationsRemain() {
+    final MutationQueue testee = new MutationQueue(new ArrayList<>(), 10);
+    assertThat(testee.poll(null)).isEmpty();
+  }
+
+  @Test
+  public void shouldLimitBatchesToBatchSize() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 0), createDetails("foo", 0),
+        createDetails("foo", 0)), 2);
+    assertThat(testee.poll(null)).hasSize(2);
+    assertThat(testee.poll(FOO)).hasSize(1);
+    assertThat(testee.poll(FOO)).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyIncludeOneClassInABatch() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 0), createDetails("bar", 0)), 10);
+    assertThat(testee.poll(null)).hasSize(1);
+    assertThat(testee.poll(null)).hasSize(1);
+  }
+
+  @Test
+  public void shouldPreferPreviouslyAnalysedClass() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 1000), createDetails("foo", 1000),
+        createDetails("bar", 0), createDetails("bar", 0)), 1);
+    assertThat(classesOf(testee.poll(BAR))).containsOnly(BAR);
+    assertThat(classesOf(testee.poll(BAR))).containsOnly(BAR);
+  }
+
+  @Test
+  public void shouldStartWithClassWithMostWorkLeft() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("bar", 0), createDetails("bar", 0),
+        createDetails("foo", 1000)), 1);
+    assertThat(classesOf(testee.poll(null))).containsOnly(FOO);
+  }
+
+  @Test
+  public void shouldMoveToClassWithMostWorkLeftOncePreferredClassExhausted() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 0), createDetails("bar", 0),
+        createDetails("baz", 10), createDetails("baz", 10)), 1);
+    assertThat(classesOf(testee.poll(FOO))).containsOnly(FOO);
+    assertThat(classesOf(testee.poll(FOO))).containsOnly(
+        ClassName.fromString("baz"));
+  }
+
+  @Test
+  public void shouldGiveThreadsWithoutAClassDifferentClassesWhileAnyAreUnstarted() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 1000), createDetails("foo", 1000),
+        createDetails("foo", 1000), createDetails("bar", 10),
+        createDetails("bar", 10), createDetails("baz", 0)), 1);
+    assertThat(classesOf(testee.poll(null))).containsOnly(FOO);
+    assertThat(classesOf(testee.poll(null))).containsOnly(BAR);
+    assertThat(classesOf(testee.poll(null))).containsOnly(
+        ClassName.fromString("baz"));
+  }
+
+  @Test
+  public void shouldShareClassWithMostWorkLeftOnceAllClassesStarted() {
+    final MutationQueue testee = new MutationQueue(Arrays.asList(
+        createDetails("foo", 1000), createDetails("foo", 1000),
+        createDetails("foo", 1000), createDetails("bar", 10),
+        createDetails("bar", 10)), 1);
+    assertThat(classesOf(testee.poll(null))).containsOnly(FOO);
+    assertThat(classesOf(testee.poll(null))).containsOnly(BAR);
+    assertThat(classesOf(testee.poll(null))).containsOnly(FOO);
+  }
+
+  private static List<ClassName> classesOf(
+      final List<MutationDetails> mutations) {
+    final List<ClassName> classes = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      classes.add(each.getClassName());
+    }
+    return classes;
+  }
+
+  private static MutationDetails createDetails(final String clazz,
+      final int testTime) {
+    return CostBalancingGrouperTest.createDetails(clazz, testTime);
+  }
+
+}
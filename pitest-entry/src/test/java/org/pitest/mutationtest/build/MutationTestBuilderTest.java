@@ -3,19 +3,26 @@ package org.pitest.mutationtest.build;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -80,6 +87,96 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldGiveEachDiscoveryThreadItsOwnMutationSource() {
+    final Map<MutationSource, Set<Thread>> threadsUsingSource = new ConcurrentHashMap<>();
+    final Supplier<MutationSource> sources = () -> {
+      final MutationSource s = mock(MutationSource.class);
+      threadsUsingSource.put(s, ConcurrentHashMap.newKeySet());
+      when(s.createMutations(any(ClassName.class))).thenAnswer(invocation -> {
+        threadsUsingSource.get(s).add(Thread.currentThread());
+        final ClassName clazz = (ClassName) invocation.getArguments()[0];
+        return Arrays.asList(createDetails(clazz.asJavaName()));
+      });
+      return s;
+    };
+
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      classes.add(ClassName.fromString("foo" + i));
+    }
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        sources, new DefaultGrouper(0), 4);
+
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(classes);
+
+    assertEquals(20, actual.size());
+    for (final Set<Thread> threads : threadsUsingSource.values()) {
+      assertEquals(1, threads.size());
+    }
+  }
+
+  @Test
+  public void shouldDiscoverMutationsInParallelInSameOrderAsSerially() {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      final ClassName clazz = ClassName.fromString("foo" + i);
+      classes.add(clazz);
+      when(this.source.createMutations(clazz)).thenReturn(
+          Arrays.asList(createDetails(clazz.asJavaName()),
+              createDetails(clazz.asJavaName())));
+    }
+    final List<MutationDetails> serial = new ArrayList<>();
+    final List<MutationDetails> parallel = new ArrayList<>();
+
+    new MutationTestBuilder(this.wf, recordingAnalyser(serial),
+        () -> this.source, new DefaultGrouper(0), 1)
+    .createMutationTestUnits(classes);
+    new MutationTestBuilder(this.wf, recordingAnalyser(parallel),
+        () -> this.source, new DefaultGrouper(0), 4)
+    .createMutationTestUnits(classes);
+
+    assertEquals(serial, parallel);
+  }
+
+  @Test
+  public void shouldCreateOneDispatchingUnitPerThread() {
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo"), createDetails("foo"),
+            createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createDispatchingUnits(Arrays.asList(ClassName.fromString("foo")), 2,
+            1);
+    assertEquals(2, actual.size());
+  }
+
+  @Test
+  public void shouldNotCreateMoreDispatchingUnitsThanMutations() {
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createDispatchingUnits(Arrays.asList(ClassName.fromString("foo")), 4,
+            1);
+    assertEquals(1, actual.size());
+  }
+
+  @Test
+  public void shouldCreateNoDispatchingUnitsWhenNoMutationsFound() {
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Collections.<MutationDetails> emptyList());
+    assertTrue(this.testee.createDispatchingUnits(
+        Arrays.asList(ClassName.fromString("foo")), 2, 1).isEmpty());
+  }
+
+  private static MutationAnalyser recordingAnalyser(
+      final List<MutationDetails> seen) {
+    return mutations -> {
+      seen.addAll(mutations);
+      return new NullAnalyser().analyse(mutations);
+    };
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -4,14 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -78,6 +82,18 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldReportPriorityBasedOnRecordedTestTimes() {
+    final MutationDetails mutation = MutationDetailsMother.aMutationDetail()
+        .build();
+    mutation.addTestsInOrder(Arrays.asList(
+        new TestInfo("foo", "one", 10, Optional.<ClassName> empty(), 1),
+        new TestInfo("foo", "two", 20, Optional.<ClassName> empty(), 1)));
+    this.testee = new MutationTestUnit(Collections.singletonList(mutation),
+        this.tests, null);
+    assertThat(this.testee.priority()).isEqualTo(31);
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
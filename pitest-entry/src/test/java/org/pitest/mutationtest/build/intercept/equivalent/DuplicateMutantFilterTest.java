@@ -0,0 +1,140 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class DuplicateMutantFilterTest {
+
+  ClassByteArraySource  source = ClassloaderByteArraySource.fromContext();
+  DuplicateMutantFilter testee = new DuplicateMutantFilter();
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldCombineMutantsThatProduceIdenticalCode() {
+    // both replace the addition with a subtraction
+    final GregorMutater mutator = createMutator("MATH", "AOR_1");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(AddsNumbers.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = intercept(AddsNumbers.class,
+        mutations, mutator);
+
+    assertThat(actual).containsExactly(mutations.get(0));
+    assertThat(actual.iterator().next().getDuplicates())
+        .containsExactly(mutations.get(1));
+  }
+
+  @Test
+  public void shouldNotCombineMutantsThatProduceDifferentCode() {
+    final GregorMutater mutator = createMutator("AOR_1", "AOR_2");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(AddsNumbers.class));
+
+    final Collection<MutationDetails> actual = intercept(AddsNumbers.class,
+        mutations, mutator);
+
+    assertThat(actual).containsExactlyElementsOf(mutations);
+    assertThat(actual).allMatch(m -> m.getDuplicates().isEmpty());
+  }
+
+  @Test
+  public void shouldNotCombineIdenticalMutantsInDifferentMethods() {
+    final GregorMutater mutator = createMutator("AOR_1");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(AddsNumbersTwice.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = intercept(
+        AddsNumbersTwice.class, mutations, mutator);
+
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldFilterMutantsIdenticalToUnmutatedCode() {
+    final GregorMutater mutator = createMutator("AOR_1");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(AddsNumbers.class));
+
+    final Collection<MutationDetails> actual = intercept(AddsNumbers.class,
+        mutations, unmutated(mutator, AddsNumbers.class));
+
+    assertThat(actual).isEmpty();
+  }
+
+  private Collection<MutationDetails> intercept(Class<?> clazz,
+      List<MutationDetails> mutations, Mutater mutator) {
+    this.testee.begin(forClass(clazz));
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations,
+        mutator);
+    this.testee.end();
+    return actual;
+  }
+
+  private Mutater unmutated(final GregorMutater child, Class<?> clazz) {
+    final byte[] original = this.source.getBytes(clazz.getName()).get();
+    return new Mutater() {
+      @Override
+      public Mutant getMutation(MutationIdentifier id) {
+        return new Mutant(child.getMutation(id).getDetails(), original);
+      }
+
+      @Override
+      public List<MutationDetails> findMutations(ClassName classToMutate) {
+        return child.findMutations(classToMutate);
+      }
+    };
+  }
+
+  GregorMutater createMutator(String... names) {
+    final List<MethodMutatorFactory> mutators = new ArrayList<>();
+    for (final String each : names) {
+      mutators.addAll(Mutator.byName(each));
+    }
+    return new GregorMutater(this.source, m -> true, mutators);
+  }
+
+  ClassTree forClass(Class<?> clazz) {
+    final byte[] bs = this.source.getBytes(clazz.getName()).get();
+    return ClassTree.fromBytes(bs);
+  }
+
+  static class AddsNumbers {
+    int add(int a, int b) {
+      return a + b;
+    }
+  }
+
+  static class AddsNumbersTwice {
+    int add(int a, int b) {
+      return a + b;
+    }
+
+    int addAgain(int a, int b) {
+      return a + b;
+    }
+  }
+
+}
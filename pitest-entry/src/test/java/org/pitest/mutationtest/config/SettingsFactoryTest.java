@@ -17,6 +17,8 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
+import org.pitest.mutationtest.build.KillHistoryTestPrioritiserFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
@@ -53,6 +55,23 @@ public class SettingsFactoryTest {
     this.testee.createEngine();
   }
 
+  @Test
+  public void shouldReturnDefaultTestPrioritiserWhenNoneRequested() {
+    assertTrue(this.testee.getTestPrioritiser() instanceof DefaultTestPrioritiserFactory);
+  }
+
+  @Test
+  public void shouldReturnTestPrioritiserWhenRequestedPrioritiserIsKnown() {
+    this.options.setTestPrioritiser("killHistory");
+    assertTrue(this.testee.getTestPrioritiser() instanceof KillHistoryTestPrioritiserFactory);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldThrowErrorWhenRequestedTestPrioritiserNotKnown() {
+    this.options.setTestPrioritiser("unknown");
+    this.testee.getTestPrioritiser();
+  }
+
   @Test
   public void shouldReturnListenerWhenRequestedListenerIsKnown() {
     this.options.addOutputFormats(Arrays.asList("XML"));
@@ -0,0 +1,148 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.util.ExitCode;
+
+public class MinionPoolTest {
+
+  private MinionPool   testee;
+
+  @Mock
+  private PooledMinion minion;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new MinionPool(null, 10);
+  }
+
+  @Test
+  public void shouldReuseMinionThatExitedCleanly() throws Exception {
+    when(this.minion.mutationsAnalysed()).thenReturn(1);
+    this.testee.release(this.minion, ExitCode.OK);
+    assertThat(this.testee.acquire()).isSameAs(this.minion);
+    verify(this.minion, never()).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionThatTimedOut() {
+    when(this.minion.mutationsAnalysed()).thenReturn(1);
+    this.testee.release(this.minion, ExitCode.TIMEOUT);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionThatRanOutOfMemory() {
+    when(this.minion.mutationsAnalysed()).thenReturn(1);
+    this.testee.release(this.minion, ExitCode.OUT_OF_MEMORY);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionOnceReuseLimitReached() {
+    when(this.minion.mutationsAnalysed()).thenReturn(10);
+    this.testee.release(this.minion, ExitCode.OK);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldShutdownIdleMinionsWhenPoolShutdown() {
+    when(this.minion.mutationsAnalysed()).thenReturn(1);
+    this.testee.release(this.minion, ExitCode.OK);
+    this.testee.shutdown();
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldNotReturnMinionsToPoolAfterShutdown() {
+    when(this.minion.mutationsAnalysed()).thenReturn(1);
+    this.testee.shutdown();
+    this.testee.release(this.minion, ExitCode.OK);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldSkipWorkerAgentsThatCannotBeReached() throws Exception {
+    try (ServerSocket reachable = new ServerSocket(0, 1,
+        InetAddress.getLoopbackAddress())) {
+      final FutureTask<Socket> handshake = answerHandshake(reachable);
+      final MinionPool remote = MinionPool.remote(Arrays.asList(
+          unreachable(), addressOf(reachable)), "secret", 10);
+      final PooledMinion acquired = remote.acquire();
+      try (Socket connection = handshake.get(5, TimeUnit.SECONDS)) {
+        assertThat(connection.isConnected()).isTrue();
+      }
+      acquired.shutdown();
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldFailWhenNoWorkerAgentCanBeReached() throws Exception {
+    MinionPool.remote(Collections.singletonList(unreachable()), "secret", 10)
+        .acquire();
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldFailWhenWorkerAgentRejectsSecret() throws Exception {
+    final WorkerAgent agent = new WorkerAgent(new ServerSocket(0, 0,
+        InetAddress.getLoopbackAddress()), null, "secret");
+    final Thread serving = new Thread(agent::serve);
+    serving.setDaemon(true);
+    serving.start();
+    try {
+      MinionPool.remote(Collections.singletonList(new InetSocketAddress(
+          InetAddress.getLoopbackAddress(), agent.getPort())), "wrong", 10)
+          .acquire();
+    } finally {
+      agent.shutdown();
+    }
+  }
+
+  private static FutureTask<Socket> answerHandshake(ServerSocket agent) {
+    final FutureTask<Socket> handshake = new FutureTask<>(() -> {
+      final Socket connection = agent.accept();
+      if ("secret".equals(new DataInputStream(connection.getInputStream())
+          .readUTF())) {
+        connection.getOutputStream().write(1);
+        connection.getOutputStream().flush();
+      }
+      return connection;
+    });
+    final Thread t = new Thread(handshake);
+    t.setDaemon(true);
+    t.start();
+    return handshake;
+  }
+
+  private static InetSocketAddress unreachable() throws IOException {
+    try (ServerSocket closed = new ServerSocket(0, 1,
+        InetAddress.getLoopbackAddress())) {
+      return addressOf(closed);
+    }
+  }
+
+  private static InetSocketAddress addressOf(ServerSocket socket) {
+    return new InetSocketAddress(InetAddress.getLoopbackAddress(),
+        socket.getLocalPort());
+  }
+
+}
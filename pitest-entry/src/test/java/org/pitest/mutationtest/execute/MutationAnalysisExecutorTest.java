@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.report.MutationTestResultMother.createDetails;
+import static org.pitest.mutationtest.report.MutationTestResultMother.createMetaData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<String> handled = Collections
+      .synchronizedList(new ArrayList<>());
+
+  @Test
+  public void shouldPassResultsToListenersInCompletionOrder() {
+    final CountDownLatch fastUnitReported = new CountDownLatch(1);
+    final MutationAnalysisUnit slow = unit(() -> {
+      fastUnitReported.await(10, TimeUnit.SECONDS);
+      return metaData("slow");
+    });
+    final MutationAnalysisUnit fast = unit(() -> metaData("fast"));
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(recordingListener(fastUnitReported)));
+    testee.run(Arrays.asList(slow, fast));
+
+    assertThat(this.handled).containsExactly("fast", "slow");
+  }
+
+  @Test
+  public void shouldPassPartialResultsToListenersBeforeUnitCompletes() {
+    final CountDownLatch partialReported = new CountDownLatch(1);
+    final MutationAnalysisUnit unit = new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        throw new AssertionError("partial results not requested");
+      }
+
+      @Override
+      public MutationMetaData call(Consumer<MutationMetaData> partialResults)
+          throws Exception {
+        partialResults.accept(metaData("partial"));
+        assertThat(partialReported.await(10, TimeUnit.SECONDS)).isTrue();
+        return metaData("final");
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(recordingListener(partialReported)));
+    testee.run(Collections.singletonList(unit));
+
+    assertThat(this.handled).containsExactly("partial", "final");
+  }
+
+  private MutationResultListener recordingListener(final CountDownLatch latch) {
+    return new MutationResultListener() {
+      @Override
+      public void runStart() {
+      }
+
+      @Override
+      public void handleMutationResult(ClassMutationResults results) {
+        MutationAnalysisExecutorTest.this.handled
+            .add(results.getMutations().iterator().next().getDetails()
+                .getFilename());
+        latch.countDown();
+      }
+
+      @Override
+      public void runEnd() {
+      }
+    };
+  }
+
+  private static MutationMetaData metaData(String name) {
+    return createMetaData(new MutationResult(createDetails(name),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.KILLED)));
+  }
+
+  private static MutationAnalysisUnit unit(
+      final Callable<MutationMetaData> analysis) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        return analysis.call();
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,143 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class PooledMutationTestProcessTest {
+
+  private PooledMutationTestProcess testee;
+
+  @Mock
+  private MinionPool                pool;
+
+  @Mock
+  private PooledMinion              lost;
+
+  @Mock
+  private PooledMinion              replacement;
+
+  private MutationDetails           reported;
+  private MutationDetails           unreported;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    this.reported = MutationDetailsMother.aMutationDetail()
+        .withId(aMutationId().withIndex(1)).build();
+    this.unreported = MutationDetailsMother.aMutationDetail()
+        .withId(aMutationId().withIndex(2)).build();
+    final List<MutationDetails> mutations = Arrays.asList(this.reported,
+        this.unreported);
+    this.testee = new PooledMutationTestProcess(this.pool,
+        new MinionArguments(mutations, null, null, null, null, false, false,
+            null), mutations.size());
+    when(this.pool.acquire()).thenReturn(this.lost, this.replacement);
+  }
+
+  @Test
+  public void shouldNotRetryWhenMinionWasNotLost() throws Exception {
+    when(this.lost.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenReturn(ExitCode.UNKNOWN_ERROR);
+    this.testee.start();
+    assertThat(this.testee.waitToDie()).isEqualTo(ExitCode.UNKNOWN_ERROR);
+    verify(this.replacement, never()).analyse(any(MinionArguments.class),
+        anyInt(), any(ReceiveStrategy.class));
+  }
+
+  @Test
+  public void shouldRetryUnreportedMutationsWhenMinionLost() throws Exception {
+    when(this.lost.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenAnswer(invocation -> {
+          report((ReceiveStrategy) invocation.getArguments()[2], this.reported);
+          return ExitCode.UNKNOWN_ERROR;
+        });
+    when(this.lost.wasLost()).thenReturn(true);
+    when(this.replacement.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenReturn(ExitCode.OK);
+
+    this.testee.start();
+    assertThat(this.testee.waitToDie()).isEqualTo(ExitCode.OK);
+
+    final ArgumentCaptor<MinionArguments> retried = ArgumentCaptor
+        .forClass(MinionArguments.class);
+    verify(this.replacement).analyse(retried.capture(), anyInt(),
+        any(ReceiveStrategy.class));
+    assertThat(retried.getValue().mutations).containsExactly(this.unreported);
+    verify(this.pool).release(this.lost, ExitCode.UNKNOWN_ERROR);
+    verify(this.pool).release(this.replacement, ExitCode.OK);
+  }
+
+  @Test
+  public void shouldKeepResultsReportedBeforeMinionLost() throws Exception {
+    when(this.lost.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenAnswer(invocation -> {
+          report((ReceiveStrategy) invocation.getArguments()[2], this.reported);
+          return ExitCode.UNKNOWN_ERROR;
+        });
+    when(this.lost.wasLost()).thenReturn(true);
+    when(this.replacement.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenReturn(ExitCode.OK);
+
+    this.testee.start();
+    this.testee.waitToDie();
+
+    final MutationStatusMap results = new MutationStatusMap();
+    results.setStatusForMutations(Arrays.asList(this.reported,
+        this.unreported), DetectionStatus.NOT_STARTED);
+    this.testee.results(results);
+    assertThat(results.getUnrunMutations()).containsExactly(this.unreported);
+  }
+
+  @Test
+  public void shouldGiveUpAfterMaximumRetries() throws Exception {
+    when(this.lost.analyse(any(MinionArguments.class), anyInt(),
+        any(ReceiveStrategy.class))).thenReturn(ExitCode.UNKNOWN_ERROR);
+    when(this.lost.wasLost()).thenReturn(true);
+    when(this.pool.acquire()).thenReturn(this.lost);
+
+    this.testee.start();
+    assertThat(this.testee.waitToDie()).isEqualTo(ExitCode.UNKNOWN_ERROR);
+    verify(this.pool, times(PooledMutationTestProcess.MAX_RETRIES + 1))
+        .release(this.lost, ExitCode.UNKNOWN_ERROR);
+  }
+
+  private static void report(final ReceiveStrategy receive,
+      final MutationDetails mutation) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final SafeDataOutputStream os = new SafeDataOutputStream(bytes);
+    MinionProtocol.writeIdentifier(os, mutation.getId());
+    MinionProtocol.writeStatus(os,
+        MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED));
+    os.flush();
+    receive.apply(Id.REPORT, new SafeDataInputStream(
+        new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+}
@@ -0,0 +1,112 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.coverage.CoverageMother.aCoverageResult;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.testapi.Description;
+
+public class BinaryCoverageHistoryTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File           file;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.testFolder.getRoot(), "history.coverage");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveCoverage() {
+    final BlockLocation block = new BlockLocation(aLocation("Foo")
+        .withMethod("bar").build(), 2, 5, 9);
+    final CoverageResult result = aCoverageResult()
+        .withTestUnitDescription(new Description("aTest", "FooTest"))
+        .withExecutionTime(42).withGreenSuite(true)
+        .withVisitedBlocks(Arrays.asList(block)).build();
+    final HierarchicalClassId test = new HierarchicalClassId(
+        new ClassIdentifier(1, ClassName.fromString("FooTest")), "a1");
+    final HierarchicalClassId foo = new HierarchicalClassId(
+        new ClassIdentifier(2, ClassName.fromString("Foo")), "b2");
+
+    new BinaryCoverageHistory(Optional.<File> empty(), Optional.of(this.file))
+        .recordCoverage(Collections.singletonList(new TestClassCoverage(
+            test.getName(), "cp1", Arrays.asList(test, foo),
+            Arrays.asList(result, result))));
+
+    final TestClassCoverage actual = read().getHistoricCoverage()
+        .get(test.getName());
+    assertThat(actual.getClassPathId()).isEqualTo("cp1");
+    assertThat(actual.getDependencies()).containsExactly(test, foo);
+    assertThat(actual.getResults()).hasSize(2);
+    final CoverageResult actualResult = actual.getResults().get(1);
+    assertThat(actualResult.getTestUnitDescription()).isEqualTo(
+        result.getTestUnitDescription());
+    assertThat(actualResult.getExecutionTime()).isEqualTo(42);
+    assertThat(actualResult.isGreenTest()).isTrue();
+    final BlockLocation actualBlock = actualResult.getCoverage().iterator()
+        .next();
+    assertThat(actualBlock).isEqualTo(block);
+    assertThat(actualBlock.getFirstInsnInBlock()).isEqualTo(5);
+    assertThat(actualBlock.getLastInsnInBlock()).isEqualTo(9);
+  }
+
+  @Test
+  public void shouldReplaceExistingCoverageWhenRecording() {
+    final BinaryCoverageHistory history = new BinaryCoverageHistory(
+        Optional.of(this.file), Optional.of(this.file));
+    history.recordCoverage(Collections.singletonList(coverageFor("FooTest")));
+    history.recordCoverage(Collections.singletonList(coverageFor("BarTest")));
+
+    assertThat(read().getHistoricCoverage()).containsOnlyKeys(
+        ClassName.fromString("BarTest"));
+  }
+
+  @Test
+  public void shouldIgnoreCorruptFiles() throws IOException {
+    Files.write(this.file.toPath(), "not coverage".getBytes("UTF-8"));
+    assertThat(read().getHistoricCoverage()).isEmpty();
+  }
+
+  @Test
+  public void shouldHaveNoCoverageWhenNoFileExists() {
+    assertThat(read().getHistoricCoverage()).isEmpty();
+  }
+
+  private TestClassCoverage coverageFor(String testClass) {
+    final CoverageResult result = aCoverageResult()
+        .withTestUnitDescription(new Description("aTest", testClass))
+        .withVisitedBlocks(Arrays.asList(aBlockLocation().build())).build();
+    return new TestClassCoverage(ClassName.fromString(testClass), "cp",
+        Collections.<HierarchicalClassId> emptyList(),
+        Collections.singletonList(result));
+  }
+
+  private BinaryCoverageHistory read() {
+    final BinaryCoverageHistory history = new BinaryCoverageHistory(
+        Optional.of(this.file), Optional.<File> empty());
+    history.initialize();
+    return history;
+  }
+
+}
@@ -0,0 +1,246 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class BinaryHistoryStoreTest {
+
+  private static final String COV        = BigInteger.TEN.toString(16);
+
+  @Rule
+  public TemporaryFolder      testFolder = new TemporaryFolder();
+
+  @Mock
+  private CoverageDatabase    coverage;
+
+  private File                history;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.TEN);
+    this.history = new File(this.testFolder.getRoot(), "history.bin");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() throws IOException {
+    final ClassHistory foo = new ClassHistory(new HierarchicalClassId(
+        new ClassIdentifier(42, ClassName.fromString("foo")), "a1"), COV);
+    final ClassHistory bar = new ClassHistory(new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("bar")), ""), COV);
+
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordClassPath(Arrays.asList(foo.getId(), bar.getId()),
+        this.coverage);
+    writer.close();
+
+    final Map<ClassName, ClassHistory> expected = new HashMap<>();
+    expected.put(foo.getName(), foo);
+    expected.put(bar.getName(), bar);
+    assertThat(readOnly().getHistoricClassPath()).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() throws IOException {
+    final MutationResult killed = result("foo", 1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, Arrays.asList("killer"),
+        Arrays.asList("a", "b")));
+    final MutationResult survived = result("bar", 2,
+        MutationStatusTestPair.notAnalysed(3, DetectionStatus.SURVIVED));
+
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordResult(killed);
+    writer.recordResult(survived);
+    writer.close();
+
+    final BinaryHistoryStore testee = readOnly();
+    assertThat(testee.getHistoricResults().get(killed.getDetails().getId()))
+        .isEqualTo(killed.getStatusTestPair());
+    assertThat(testee.getHistoricResults().get(survived.getDetails().getId()))
+        .isEqualTo(survived.getStatusTestPair());
+    assertThat(testee.getHistoricResults()).hasSize(2);
+  }
+
+  @Test
+  public void shouldRetrieveResultsWrittenInSeveralBatches()
+      throws IOException {
+    final Map<MutationIdentifier, MutationStatusTestPair> expected = new HashMap<>();
+    final BinaryHistoryStore writer = writeOnly();
+    for (int i = 0; i != 2500; i++) {
+      final MutationResult r = result("foo" + (i % 3), i,
+          new MutationStatusTestPair(1, DetectionStatus.KILLED, "test" + i));
+      expected.put(r.getDetails().getId(), r.getStatusTestPair());
+      writer.recordResult(r);
+    }
+    writer.close();
+
+    assertThat(readOnly().getHistoricResults()).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldRetrieveResultsForSingleClass() throws IOException {
+    final MutationResult foo = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+    final MutationResult bar = result("bar", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordResult(foo);
+    writer.recordResult(bar);
+    writer.close();
+
+    assertThat(readOnly().getHistoricResults(ClassName.fromString("foo")))
+        .containsOnlyKeys(foo.getDetails().getId());
+  }
+
+  @Test
+  public void shouldReturnNoResultForUnknownMutation() throws IOException {
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordResult(result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test")));
+    writer.close();
+
+    final BinaryHistoryStore testee = readOnly();
+    assertThat(testee.getHistoricResults().get(aMutationId()
+        .withLocation(aLocation("foo")).withIndex(2).build())).isNull();
+    assertThat(testee.getHistoricResults().get(aMutationId()
+        .withLocation(aLocation("bar")).withIndex(1).build())).isNull();
+  }
+
+  @Test
+  public void shouldReadAndWriteSameFile() throws IOException {
+    final MutationResult first = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordResult(first);
+    writer.close();
+
+    final BinaryHistoryStore testee = new BinaryHistoryStore(
+        Optional.of(this.history), Optional.of(this.history));
+    testee.initialize();
+    final MutationResult second = result("foo", 2,
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, "test"));
+    testee.recordResult(second);
+    assertThat(testee.getHistoricResults().get(first.getDetails().getId()))
+        .isEqualTo(first.getStatusTestPair());
+    testee.close();
+
+    assertThat(readOnly().getHistoricResults()).containsOnlyKeys(
+        second.getDetails().getId());
+  }
+
+  @Test
+  public void shouldReplaceOutputWhenNothingRecorded() throws IOException {
+    final BinaryHistoryStore writer = writeOnly();
+    writer.recordResult(result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test")));
+    writer.close();
+
+    final BinaryHistoryStore testee = writeOnly();
+    testee.close();
+
+    assertThat(readOnly().getHistoricResults()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotRewriteOutputWhenClosedTwice() throws IOException {
+    final BinaryHistoryStore testee = writeOnly();
+    testee.recordResult(result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test")));
+    testee.close();
+    testee.close();
+
+    assertThat(readOnly().getHistoricResults()).hasSize(1);
+  }
+
+  @Test
+  public void shouldReadHistoryWrittenInObjectStreamFormat()
+      throws IOException {
+    final MutationResult mr = result("foo", 1,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+    try (PrintWriter out = new PrintWriter(new OutputStreamWriter(
+        new FileOutputStream(this.history), "UTF-8"))) {
+      final WriterFactory writerFactory = new WriterFactory() {
+        @Override
+        public PrintWriter create() {
+          return out;
+        }
+
+        @Override
+        public void close() {
+        }
+      };
+      final ObjectOutputStreamHistoryStore legacy = new ObjectOutputStreamHistoryStore(
+          writerFactory, Optional.<Reader> empty());
+      legacy.recordClassPath(Collections.<HierarchicalClassId> emptyList(),
+          this.coverage);
+      legacy.recordResult(mr);
+    }
+
+    assertThat(readOnly().getHistoricResults().get(mr.getDetails().getId()))
+        .isEqualTo(mr.getStatusTestPair());
+  }
+
+  @Test
+  public void shouldIgnoreCorruptFiles() throws IOException {
+    Files.write(this.history.toPath(),
+        "rubbish that is not a history file".getBytes("UTF-8"));
+    assertThat(readOnly().getHistoricResults()).isEmpty();
+  }
+
+  private BinaryHistoryStore writeOnly() {
+    return new BinaryHistoryStore(Optional.<File> empty(),
+        Optional.of(this.history));
+  }
+
+  private BinaryHistoryStore readOnly() {
+    final BinaryHistoryStore store = new BinaryHistoryStore(
+        Optional.of(this.history), Optional.<File> empty());
+    store.initialize();
+    return store;
+  }
+
+  private static MutationResult result(String clazz, int index,
+      MutationStatusTestPair status) {
+    final MutationIdentifier id = aMutationId().withLocation(aLocation(clazz))
+        .withIndex(index).build();
+    return new MutationResult(new MutationDetails(id, "file", "desc", 1, 0),
+        status);
+  }
+
+}
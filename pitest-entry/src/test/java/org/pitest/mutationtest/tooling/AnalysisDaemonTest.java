@@ -0,0 +1,183 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.CoverageSummary;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.statistics.Score;
+
+public class AnalysisDaemonTest {
+
+  private static final String      TOKEN    = "token";
+
+  @Rule
+  public TemporaryFolder           folder   = new TemporaryFolder();
+
+  private final List<List<String>> received = new ArrayList<>();
+  private final List<File>         baseDirs = new ArrayList<>();
+
+  private ServerSocket             socket;
+  private Thread                   daemon;
+  private AnalysisDaemonClient     client;
+
+  @Before
+  public void setUp() throws IOException {
+    this.socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+    final AnalysisDaemon testee = new AnalysisDaemon(this.socket, (baseDir, args) -> {
+      this.baseDirs.add(baseDir);
+      this.received.add(Arrays.asList(args));
+      if (args.length == 0) {
+        return AnalysisResult.fail(new IllegalArgumentException(
+            "no arguments"));
+      }
+      return AnalysisResult.success(new CombinedStatistics(
+          new MutationStatistics(Collections.<Score> emptyList(), 10, 7, 10,
+              0), new CoverageSummary(10, 5)));
+    }, TOKEN, 500);
+    this.daemon = new Thread(testee::serve);
+    this.daemon.start();
+    this.client = clientWithToken(TOKEN);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (!this.socket.isClosed()) {
+      this.socket.close();
+    }
+    this.daemon.join(10000);
+  }
+
+  @Test
+  public void shouldRunAnalysesWithSuppliedArguments() {
+    final AnalysisDaemonClient.Response response = this.client.run(base(),
+        "--a", "b");
+    assertThat(response.isOk()).isTrue();
+    assertThat(response.getMessage()).contains("Killed 7 (70%)");
+    assertThat(this.received).containsExactly(Arrays.asList("--a", "b"));
+  }
+
+  @Test
+  public void shouldServeSeveralRequests() {
+    this.client.run(base(), "one");
+    this.client.run(base(), "two");
+    assertThat(this.received).containsExactly(Arrays.asList("one"),
+        Arrays.asList("two"));
+  }
+
+  @Test
+  public void shouldReportFailedAnalyses() {
+    final AnalysisDaemonClient.Response response = this.client.run(base());
+    assertThat(response.isOk()).isFalse();
+    assertThat(response.getMessage()).isEqualTo("no arguments");
+  }
+
+  @Test
+  public void shouldPassClientBaseDirectoryToAnalysis() {
+    this.client.run(base(), "one");
+    assertThat(this.baseDirs).containsExactly(base().getAbsoluteFile());
+  }
+
+  @Test
+  public void shouldResolveRelativePathsAgainstBaseDirectory() {
+    final File base = base().getAbsoluteFile();
+    final File absolute = new File("history").getAbsoluteFile();
+    final ReportOptions data = new ReportOptions();
+    data.setReportDir("target/pit-reports");
+    data.setSourceDirs(Arrays.asList(new File("src")));
+    data.setClassPathElements(Arrays.asList("classes",
+        absolute.getPath()));
+    data.setHistoryInputLocation(absolute);
+
+    AnalysisDaemon.resolvePaths(base, data);
+
+    assertThat(data.getReportDir()).isEqualTo(
+        new File(base, "target/pit-reports").getPath());
+    assertThat(data.getSourceDirs()).containsExactly(new File(base, "src"));
+    assertThat(data.getClassPathElements()).containsExactly(
+        new File(base, "classes").getPath(), absolute.getPath());
+    assertThat(data.getHistoryInputLocation()).isEqualTo(absolute);
+    assertThat(data.getHistoryOutputLocation()).isNull();
+  }
+
+  @Test
+  public void shouldRefuseRequestsWithWrongToken() {
+    final AnalysisDaemonClient.Response response = clientWithToken("wrong")
+        .run(base(), "one");
+    assertThat(response.isOk()).isFalse();
+    assertThat(this.received).isEmpty();
+  }
+
+  @Test
+  public void shouldNotShutdownForRequestWithWrongToken() {
+    assertThat(clientWithToken("wrong").shutdown().isOk()).isFalse();
+    assertThat(this.socket.isClosed()).isFalse();
+  }
+
+  @Test(timeout = 5000)
+  public void shouldServeOtherClientsAfterSilentClientTimesOut()
+      throws IOException {
+    try (Socket silent = new Socket(InetAddress.getLoopbackAddress(),
+        this.socket.getLocalPort())) {
+      assertThat(this.client.run(base(), "one").isOk()).isTrue();
+    }
+  }
+
+  @Test
+  public void shouldWriteTokenOnlyOwnerCanRead() throws IOException {
+    Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews()
+        .contains("posix"));
+    final File file = new File(this.folder.getRoot(), "token");
+    final String token = AnalysisDaemon.writeToken(file);
+
+    assertThat(AnalysisDaemon.readToken(file)).isEqualTo(token);
+    assertThat(Files.getPosixFilePermissions(file.toPath())).isEqualTo(
+        EnumSet.of(PosixFilePermission.OWNER_READ,
+            PosixFilePermission.OWNER_WRITE));
+  }
+
+  @Test
+  public void shouldWriteNewTokenEachTime() throws IOException {
+    final File file = new File(this.folder.getRoot(), "token");
+    assertThat(AnalysisDaemon.writeToken(file)).isNotEqualTo(
+        AnalysisDaemon.writeToken(file));
+  }
+
+  @Test
+  public void shouldStopServingWhenShutdownRequested() throws Exception {
+    assertThat(this.client.shutdown().isOk()).isTrue();
+    this.daemon.join(10000);
+    assertThat(this.daemon.isAlive()).isFalse();
+    assertThat(this.socket.isClosed()).isTrue();
+  }
+
+  private AnalysisDaemonClient clientWithToken(String token) {
+    return new AnalysisDaemonClient(InetAddress.getLoopbackAddress()
+        .getHostAddress(), this.socket.getLocalPort(), token);
+  }
+
+  private static File base() {
+    return new File("project");
+  }
+
+}
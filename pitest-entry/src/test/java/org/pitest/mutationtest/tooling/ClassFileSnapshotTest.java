@@ -0,0 +1,85 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+
+public class ClassFileSnapshotTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File           classes;
+
+  @Before
+  public void setUp() throws IOException {
+    this.classes = this.testFolder.newFolder("classes");
+  }
+
+  @Test
+  public void shouldReportNoChangesWhenNothingChanged() throws IOException {
+    classFile("com/example/Foo.class", "foo");
+    final ClassFileSnapshot before = snapshot();
+    assertThat(snapshot().classesChangedSince(before)).isEmpty();
+  }
+
+  @Test
+  public void shouldReportModifiedClasses() throws IOException {
+    final File foo = classFile("com/example/Foo.class", "foo");
+    classFile("com/example/Bar.class", "bar");
+    final ClassFileSnapshot before = snapshot();
+
+    Files.write(foo.toPath(), "changed".getBytes("UTF-8"));
+    foo.setLastModified(foo.lastModified() + 2000);
+
+    assertThat(snapshot().classesChangedSince(before))
+        .containsExactly(ClassName.fromString("com.example.Foo"));
+  }
+
+  @Test
+  public void shouldReportAddedAndRemovedClasses() throws IOException {
+    final File foo = classFile("com/example/Foo.class", "foo");
+    final ClassFileSnapshot before = snapshot();
+
+    foo.delete();
+    classFile("com/example/Bar$Inner.class", "bar");
+
+    assertThat(snapshot().classesChangedSince(before)).containsOnly(
+        ClassName.fromString("com.example.Foo"),
+        ClassName.fromString("com.example.Bar$Inner"));
+  }
+
+  @Test
+  public void shouldDetectChangedArchives() throws IOException {
+    final File jar = this.testFolder.newFile("lib.jar");
+    final ClassFileSnapshot before = ClassFileSnapshot.take(Collections
+        .singletonList(jar));
+    assertThat(ClassFileSnapshot.take(Collections.singletonList(jar))
+        .archivesChangedSince(before)).isFalse();
+
+    Files.write(jar.toPath(), "changed".getBytes("UTF-8"));
+    assertThat(ClassFileSnapshot.take(Collections.singletonList(jar))
+        .archivesChangedSince(before)).isTrue();
+  }
+
+  private ClassFileSnapshot snapshot() {
+    return ClassFileSnapshot.take(Collections.singletonList(this.classes));
+  }
+
+  private File classFile(String path, String content) throws IOException {
+    final File file = new File(this.classes, path);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes("UTF-8"));
+    return file;
+  }
+
+}
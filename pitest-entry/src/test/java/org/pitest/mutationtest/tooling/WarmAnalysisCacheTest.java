@@ -0,0 +1,166 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageHistory;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestClassCoverage;
+import org.pitest.mutationtest.config.ReportOptions;
+
+public class WarmAnalysisCacheTest {
+
+  private final WarmAnalysisCache testee = new WarmAnalysisCache();
+
+  @Rule
+  public TemporaryFolder          testFolder = new TemporaryFolder();
+
+  @Mock
+  private CoverageGenerator       generator;
+
+  @Mock
+  private CoverageDatabase        coverage;
+
+  @Mock
+  private CoverageHistory         history;
+
+  private ReportOptions           data;
+
+  private File                    foo;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    when(this.generator.calculateCoverage()).thenReturn(this.coverage);
+    final File classes = this.testFolder.newFolder("classes");
+    this.foo = new File(classes, "com/example/Foo.class");
+    this.foo.getParentFile().mkdirs();
+    Files.write(this.foo.toPath(), "foo".getBytes("UTF-8"));
+
+    this.data = new ReportOptions();
+    this.data.setClassPathElements(Collections.singletonList(classes
+        .getAbsolutePath()));
+    this.data.setTargetClasses(Collections.singletonList("com.example.*"));
+  }
+
+  @Test
+  public void shouldReuseCodeSourceForSameProject() {
+    final CodeSource first = this.testee.codeSource(this.data);
+    assertThat(this.testee.codeSource(this.data)).isSameAs(first);
+  }
+
+  @Test
+  public void shouldCreateNewCodeSourceWhenProjectChanges() {
+    final CodeSource first = this.testee.codeSource(this.data);
+    this.data.setTargetClasses(Collections.singletonList("com.other.*"));
+    assertThat(this.testee.codeSource(this.data)).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenNoClassesChange() {
+    runAnalysis();
+    runAnalysis();
+    verify(this.generator, times(1)).calculateCoverage();
+  }
+
+  @Test
+  public void shouldRecalculateCoverageWhenAClassChanges() throws IOException {
+    runAnalysis();
+    Files.write(this.foo.toPath(), "changed".getBytes("UTF-8"));
+    runAnalysis();
+    verify(this.generator, times(2)).calculateCoverage();
+  }
+
+  @Test
+  public void shouldRecalculateCoverageWhenCoverageOptionsChange() {
+    runAnalysis();
+    this.data.addChildJVMArgs(Collections.singletonList("-Xmx1g"));
+    runAnalysis();
+    verify(this.generator, times(2)).calculateCoverage();
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenOtherOptionsChange() {
+    runAnalysis();
+    this.data.setMutationThreshold(42);
+    runAnalysis();
+    verify(this.generator, times(1)).calculateCoverage();
+  }
+
+  @Test
+  public void shouldServeTestCoverageRecordedByPreviousAnalysis() {
+    final TestClassCoverage recorded = new TestClassCoverage(
+        ClassName.fromString("com.example.FooTest"), "cp",
+        Collections.<HierarchicalClassId> emptyList(),
+        Collections.<CoverageResult> emptyList());
+    this.testee.codeSource(this.data);
+    this.testee.coverageHistory(this.data, this.history).recordCoverage(
+        Collections.singletonList(recorded));
+
+    final CoverageHistory next = this.testee.coverageHistory(this.data,
+        this.history);
+    next.initialize();
+
+    assertThat(next.getHistoricCoverage()).containsEntry(
+        recorded.getTestClass(), recorded);
+    verify(this.history, never()).initialize();
+    verify(this.history).recordCoverage(Collections.singletonList(recorded));
+  }
+
+  @Test
+  public void shouldReadDelegateHistoryWhenNoneRetained() {
+    this.testee.codeSource(this.data);
+    final CoverageHistory history = this.testee.coverageHistory(this.data,
+        this.history);
+    history.initialize();
+    verify(this.history).initialize();
+  }
+
+  @Test
+  public void shouldRetainHistoryBetweenAnalysesWhenNoneConfigured() {
+    this.testee.retainHistory(this.data);
+    final File history = this.data.getHistoryInputLocation();
+    assertThat(history).isNotNull();
+    assertThat(this.data.getHistoryOutputLocation()).isEqualTo(history);
+
+    final ReportOptions again = new ReportOptions();
+    again.setClassPathElements(this.data.getClassPathElements());
+    again.setTargetClasses(this.data.getTargetClasses());
+    this.testee.retainHistory(again);
+    assertThat(again.getHistoryInputLocation()).isEqualTo(history);
+  }
+
+  @Test
+  public void shouldNotReplaceConfiguredHistory() {
+    final File configured = new File("configured");
+    this.data.setHistoryOutputLocation(configured);
+    this.testee.retainHistory(this.data);
+    assertThat(this.data.getHistoryInputLocation()).isNull();
+    assertThat(this.data.getHistoryOutputLocation()).isEqualTo(configured);
+  }
+
+  private void runAnalysis() {
+    this.testee.codeSource(this.data);
+    this.testee.coverage(this.data, this.generator).calculateCoverage();
+  }
+
+}
@@ -0,0 +1,87 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MinionListenerTest {
+
+  private final MinionListener testee = new MinionListener();
+
+  @After
+  public void tearDown() {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldServeAllMinionsFromOnePort() {
+    final int port = this.testee.getPort();
+    this.testee.expect();
+    this.testee.expect();
+    assertThat(this.testee.getPort()).isEqualTo(port);
+  }
+
+  @Test
+  public void shouldHandOverConnectionsByWorkerId() throws IOException {
+    final int first = this.testee.expect();
+    final int second = this.testee.expect();
+
+    try (Socket a = connect(second); Socket b = connect(first)) {
+      a.getOutputStream().write(2);
+      b.getOutputStream().write(1);
+      a.getOutputStream().flush();
+      b.getOutputStream().flush();
+
+      try (Socket forFirst = this.testee.accept(first, () -> true);
+          Socket forSecond = this.testee.accept(second, () -> true)) {
+        assertThat(forFirst.getInputStream().read()).isEqualTo(1);
+        assertThat(forSecond.getInputStream().read()).isEqualTo(2);
+      }
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldStopWaitingForMinionThatHasDied() throws IOException {
+    this.testee.accept(this.testee.expect(), () -> false);
+  }
+
+  @Test
+  public void shouldCloseConnectionsFromMinionsNoLongerExpected()
+      throws IOException {
+    final int id = this.testee.expect();
+    try {
+      this.testee.accept(id, () -> false);
+    } catch (final IOException ex) {
+      // expected
+    }
+    try (Socket s = connect(id)) {
+      s.setSoTimeout(5000);
+      assertThat(s.getInputStream().read()).isEqualTo(-1);
+    }
+  }
+
+  @Test(timeout = 5000)
+  public void shouldNotWaitForSilentConnectionBeforeAcceptingOthers()
+      throws IOException {
+    final int id = this.testee.expect();
+    try (Socket silent = new Socket("localhost", this.testee.getPort());
+        Socket s = connect(id);
+        Socket accepted = this.testee.accept(id, () -> true)) {
+      assertThat(accepted.isConnected()).isTrue();
+    }
+  }
+
+  private Socket connect(int id) throws IOException {
+    final Socket s = new Socket("localhost", this.testee.getPort());
+    final DataOutputStream os = new DataOutputStream(s.getOutputStream());
+    os.writeInt(id);
+    os.flush();
+    return s;
+  }
+
+}
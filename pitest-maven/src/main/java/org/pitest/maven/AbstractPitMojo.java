@@ -88,7 +88,10 @@ public class AbstractPitMojo extends AbstractMojo {
   private File                        reportsDirectory;
 
   /**
-   * File to write history information to for incremental analysis
+   * File to write history information to for incremental analysis. History is
+   * written in a binary format that versions of pitest before 1.5.3 cannot
+   * read, so a file in the older format that is also the input file is
+   * replaced in the binary format by the first run
    */
   @Parameter(property = "historyOutputFile")
   private File                        historyOutputFile;
@@ -372,6 +375,45 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "useClasspathJar", defaultValue = "false")
   private boolean                     useClasspathJar;
 
+  /**
+   * Number of mutations a minion may analyse before it is replaced. If zero
+   * a new minion is launched for each mutation test unit.
+   */
+  @Parameter(property = "minionReuseLimit", defaultValue = "0")
+  private int                         minionReuseLimit;
+
+  /**
+   * Split coverage collection between as many minions as there are threads
+   */
+  @Parameter(property = "parallelCoverage", defaultValue = "false")
+  private boolean                     parallelCoverage;
+
+  /**
+   * Name of the test prioritiser to use, for example killHistory
+   */
+  @Parameter(property = "testPrioritiser")
+  private String                      testPrioritiser;
+
+  /**
+   * Have each thread pull batches of mutations from a shared queue instead of
+   * fixing units of work before analysis starts
+   */
+  @Parameter(property = "dynamicDispatch", defaultValue = "false")
+  private boolean                     dynamicDispatch;
+
+  /**
+   * host:port addresses of worker agents to analyse mutations on. If not set
+   * mutations are analysed locally
+   */
+  @Parameter(property = "workerAgents")
+  private ArrayList<String>           workerAgents;
+
+  /**
+   * Shared secret the worker agents were started with
+   */
+  @Parameter(property = "workerAgentSecret")
+  private String                      workerAgentSecret;
+
   private final GoalStrategy          goalStrategy;
 
   public AbstractPitMojo() {
@@ -717,6 +759,30 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.useClasspathJar;
   }
 
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
+  public boolean isParallelCoverage() {
+    return this.parallelCoverage;
+  }
+
+  public String getTestPrioritiser() {
+    return this.testPrioritiser;
+  }
+
+  public boolean isDynamicDispatch() {
+    return this.dynamicDispatch;
+  }
+
+  public List<String> getWorkerAgents() {
+    return withoutNulls(this.workerAgents);
+  }
+
+  public String getWorkerAgentSecret() {
+    return this.workerAgentSecret;
+  }
+
   static class RunDecision {
     private List<String> reasons = new ArrayList<>(4);
 
@@ -108,6 +108,10 @@ public class MojoToReportOptionsConverter {
     data.setExcludedTestClasses(globStringsToPredicates(this.mojo
         .getExcludedTestClasses()));
     data.setNumberOfThreads(this.mojo.getThreads());
+    data.setMinionReuseLimit(this.mojo.getMinionReuseLimit());
+    data.setParallelCoverage(this.mojo.isParallelCoverage());
+    data.setTestPrioritiser(this.mojo.getTestPrioritiser());
+    data.setDynamicDispatch(this.mojo.isDynamicDispatch());
     data.setExcludedRunners(this.mojo.getExcludedRunners());
 
     data.setReportDir(this.mojo.getReportsDirectory().getAbsolutePath());
@@ -115,6 +119,10 @@ public class MojoToReportOptionsConverter {
     if (this.mojo.getJvmArgs() != null) {
       data.addChildJVMArgs(this.mojo.getJvmArgs());
     }
+    if (this.mojo.getWorkerAgents() != null) {
+      data.setWorkerAgents(this.mojo.getWorkerAgents());
+    }
+    data.setWorkerAgentSecret(this.mojo.getWorkerAgentSecret());
 
     data.setMutators(determineMutators());
     data.setFeatures(determineFeatures());
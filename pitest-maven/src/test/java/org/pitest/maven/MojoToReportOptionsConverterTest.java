@@ -138,6 +138,41 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(42, actual.getNumberOfThreads());
   }
 
+  public void testParsesMinionReuseLimit() {
+    final ReportOptions actual = parseConfig("<minionReuseLimit>42</minionReuseLimit>");
+    assertEquals(42, actual.getMinionReuseLimit());
+  }
+
+  public void testParsesParallelCoverage() {
+    final ReportOptions actual = parseConfig("<parallelCoverage>true</parallelCoverage>");
+    assertTrue(actual.isParallelCoverage());
+  }
+
+  public void testParsesDynamicDispatch() {
+    final ReportOptions actual = parseConfig("<dynamicDispatch>true</dynamicDispatch>");
+    assertTrue(actual.isDynamicDispatch());
+  }
+
+  public void testParsesListOfWorkerAgents() {
+    final String xml = "<workerAgents>" + //
+        "                      <param>hosta:8765</param>" + //
+        "                      <param>hostb:8766</param>" + //
+        "                  </workerAgents>";
+    final ReportOptions actual = parseConfig(xml);
+    assertEquals(Arrays.asList("hosta:8765", "hostb:8766"),
+        actual.getWorkerAgents());
+  }
+
+  public void testParsesWorkerAgentSecret() {
+    final ReportOptions actual = parseConfig("<workerAgentSecret>s3cret</workerAgentSecret>");
+    assertEquals("s3cret", actual.getWorkerAgentSecret());
+  }
+
+  public void testParsesTestPrioritiser() {
+    final ReportOptions actual = parseConfig("<testPrioritiser>killHistory</testPrioritiser>");
+    assertEquals("killHistory", actual.getTestPrioritiser());
+  }
+
   public void testParsesTimeOutFactor() {
     final ReportOptions actual = parseConfig("<timeoutFactor>1.32</timeoutFactor>");
     assertEquals(1.32f, actual.getTimeoutFactor(), 0.1);
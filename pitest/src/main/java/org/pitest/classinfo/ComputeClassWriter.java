@@ -60,6 +60,29 @@ public class ComputeClassWriter extends ClassWriter {
     this.cache = cache;
   }
 
+  /**
+   * Creates a writer that copies any methods passed through unchanged
+   * directly from the bytes of the given reader.
+   *
+   * @param reader
+   *          reader for the class being transformed, whose constant pool and
+   *          unchanged methods are copied
+   * @param bytes
+   *          source of the bytes of other classes, used to find common super
+   *          classes
+   * @param cache
+   *          previously calculated common super classes
+   * @param flags
+   *          ClassWriter flags
+   */
+  public ComputeClassWriter(final ClassReader reader,
+      final ClassByteArraySource bytes, final Map<String, String> cache,
+      final int flags) {
+    super(reader, flags);
+    this.bytes = bytes;
+    this.cache = cache;
+  }
+
   @Override
   protected String getCommonSuperClass(final String type1, final String type2) {
     final String key = type1 + "!_!" + type2;
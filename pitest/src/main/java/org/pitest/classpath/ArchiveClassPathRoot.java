@@ -14,6 +14,7 @@
  */
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,7 +23,9 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -31,48 +34,50 @@ import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 /**
- * ClassPathRoot wrapping a jar or zip file
+ * ClassPathRoot wrapping a jar or zip file.
+ *
+ * The archive is opened on first use and held open, along with an index of
+ * its entries, until close is called. It will be reopened if used again after
+ * being closed.
  */
-public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
+public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot,
+    Closeable {
+
+  private final File            file;
 
-  private final File file;
+  private ZipFile               zip;
+  private Map<String, ZipEntry> entries;
 
   public ArchiveClassPathRoot(final File file) {
     this.file = file;
   }
 
   @Override
-  public InputStream getData(final String name) throws IOException {
-    try (ZipFile zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
-      if (entry == null) {
-        return null;
-      }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
+  public synchronized InputStream getData(final String name) throws IOException {
+    final ZipEntry entry = getEntries().get(name.replace('.', '/') + ".class");
+    if (entry == null) {
+      return null;
     }
+    return StreamUtil.copyStream(this.zip.getInputStream(entry));
   }
 
   @Override
-  public URL getResource(final String name) throws MalformedURLException {
-    final ZipFile zip = getRoot();
-    try {
-      final ZipEntry entry = zip.getEntry(name);
-      if (entry != null) {
-        return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
-      } else {
-        return null;
-      }
-    } finally {
-      closeQuietly(zip);
+  public synchronized URL getResource(final String name) throws MalformedURLException {
+    final ZipEntry entry = getEntries().get(name);
+    if (entry != null) {
+      return new URL("jar:file:" + this.zip.getName() + "!/" + entry.getName());
+    } else {
+      return null;
     }
-
   }
 
-  private static void closeQuietly(final ZipFile zip) {
-    try {
-      zip.close();
-    } catch (final IOException e) {
-      throw Unchecked.translateCheckedException(e);
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.zip != null) {
+      this.entries = null;
+      final ZipFile toClose = this.zip;
+      this.zip = null;
+      toClose.close();
     }
   }
 
@@ -82,22 +87,14 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
   }
 
   @Override
-  public Collection<String> classNames() {
+  public synchronized Collection<String> classNames() {
     final List<String> names = new ArrayList<>();
-    final ZipFile root = getRoot();
-    try {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
-      while (entries.hasMoreElements()) {
-        final ZipEntry entry = entries.nextElement();
-        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
-          names.add(stringToClassName(entry.getName()));
-        }
+    for (final ZipEntry entry : getEntries().values()) {
+      if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+        names.add(stringToClassName(entry.getName()));
       }
-      return names;
-    } finally {
-      closeQuietly(root);
     }
-
+    return names;
   }
 
   private String stringToClassName(final String name) {
@@ -110,7 +107,25 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
-  private ZipFile getRoot() {
+  private Map<String, ZipEntry> getEntries() {
+    if (this.zip == null) {
+      this.zip = openRoot();
+      this.entries = indexEntries(this.zip);
+    }
+    return this.entries;
+  }
+
+  private static Map<String, ZipEntry> indexEntries(final ZipFile zip) {
+    final Map<String, ZipEntry> index = new LinkedHashMap<>(zip.size());
+    final Enumeration<? extends ZipEntry> entries = zip.entries();
+    while (entries.hasMoreElements()) {
+      final ZipEntry entry = entries.nextElement();
+      index.put(entry.getName(), entry);
+    }
+    return index;
+  }
+
+  private ZipFile openRoot() {
     try {
       return new ZipFile(this.file);
     } catch (final IOException ex) {
@@ -15,6 +15,7 @@
 
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,7 +40,7 @@ import org.pitest.util.StreamUtil;
 
 import static org.pitest.util.ManifestUtils.CLASSPATH_JAR_FILE_PREFIX;
 
-public class ClassPath {
+public class ClassPath implements Closeable {
 
   private static final Logger         LOG = Log.getLogger();
 
@@ -145,6 +146,15 @@ public class ClassPath {
     maybeJar.ifPresent(file -> elements.addAll(ManifestUtils.readClasspathManifest(file)));
   }
 
+  /**
+   * Releases any open archives. The class path remains usable, archives are
+   * reopened if needed.
+   */
+  @Override
+  public void close() throws IOException {
+    this.root.close();
+  }
+
   public Collection<String> findClasses(final Predicate<String> nameFilter) {
     return FCollection.filter(classNames(), nameFilter);
   }
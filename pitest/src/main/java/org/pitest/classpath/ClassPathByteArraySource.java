@@ -21,6 +21,10 @@ import org.pitest.classinfo.ClassByteArraySource;
 import java.util.Optional;
 import org.pitest.util.Log;
 
+/**
+ * Reads class bytes from a ClassPath. Safe to share between threads, as the
+ * roots it reads from hold no unsynchronized mutable state.
+ */
 public class ClassPathByteArraySource implements ClassByteArraySource {
 
   private static final Logger LOG = Log.getLogger();
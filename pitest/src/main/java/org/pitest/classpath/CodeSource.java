@@ -75,6 +75,17 @@ public class CodeSource implements ClassInfoSource {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Discards information held about the given classes, so that changes to them
+   * are seen by later queries.
+   *
+   * @param changed
+   *          classes that have changed since they were read
+   */
+  public void invalidate(final Collection<ClassName> changed) {
+    this.classRepository.invalidate(changed);
+  }
+
   // not used but keep to allow plugins to query bytecode
   public Optional<byte[]> fetchClassBytes(final ClassName clazz) {
     return this.classRepository.querySource(clazz);
@@ -1,5 +1,6 @@
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,7 +15,7 @@ import org.pitest.functional.FCollection;
 import java.util.Optional;
 
 public class CompoundClassPathRoot implements ClassPathRoot,
-    Iterable<ClassPathRoot> {
+    Iterable<ClassPathRoot>, Closeable {
 
   private final List<ClassPathRoot> roots = new ArrayList<>();
 
@@ -77,6 +78,26 @@ public class CompoundClassPathRoot implements ClassPathRoot,
     return Optional.ofNullable(classpath.toString());
   }
 
+  /**
+   * Closes any roots that hold resources open, such as archives.
+   */
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+    for (final ClassPathRoot each : this.roots) {
+      if (each instanceof Closeable) {
+        try {
+          ((Closeable) each).close();
+        } catch (final IOException ex) {
+          failure = ex;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
   @Override
   public Iterator<ClassPathRoot> iterator() {
     return this.roots.iterator();
@@ -1,5 +1,6 @@
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
@@ -16,11 +17,11 @@ import java.util.Optional;
  * root to avoid expensive IO operations at the
  * cost of higher memory consumption
  */
-public class NameCachingRoot implements ClassPathRoot {
+public class NameCachingRoot implements ClassPathRoot, Closeable {
 
   private final ClassPathRoot child;
 
-  private SoftReference<Collection<String>> cache;
+  private volatile SoftReference<Collection<String>> cache;
 
   public NameCachingRoot(ClassPathRoot child) {
     this.child = child;
@@ -42,8 +43,10 @@ public class NameCachingRoot implements ClassPathRoot {
 
   @Override
   public Collection<String> classNames() {
-    if (this.cache != null) {
-      final Collection<String> cachedNames = this.cache.get();
+    // read once, as close may clear the cache from another thread
+    final SoftReference<Collection<String>> cached = this.cache;
+    if (cached != null) {
+      final Collection<String> cachedNames = cached.get();
       if (cachedNames != null) {
         return cachedNames;
       }
@@ -58,6 +61,16 @@ public class NameCachingRoot implements ClassPathRoot {
     return this.child.cacheLocation();
   }
 
+  @Override
+  public void close() throws IOException {
+    // the root may be reused after it is closed, by which time classes may
+    // have been added or removed
+    this.cache = null;
+    if (this.child instanceof Closeable) {
+      ((Closeable) this.child).close();
+    }
+  }
+
   public static Function<ClassPathRoot, ClassPathRoot> toCachingRoot() {
      return a -> {
       // ugly hack to determine where caching will be useful
@@ -47,6 +47,14 @@ public final class TestInfo implements Serializable {
     return this.name;
   }
 
+  public String getDefiningClass() {
+    return this.definingClass;
+  }
+
+  public Optional<ClassName> getTestee() {
+    return Optional.ofNullable(this.testee);
+  }
+
   public int getTime() {
     return this.time;
   }
@@ -19,6 +19,7 @@ package org.pitest.coverage.analysis;
 
 import java.util.List;
 
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -50,6 +51,9 @@ import sun.pitest.CodeCoverageStore;
  *
  *   private void bar(){
  *     byte[] localRefToProbes = $$pitCoverageProbes;
+ *     if (localRefToProbes[0] == 0) {
+ *       CodeCoverageStore.markClassHit(thisClassID, localRefToProbes);
+ *     }
  *     //line of code
  *     localRefToProbes[1] = 1; //assuming above line was probe 1
  *   }
@@ -99,13 +103,20 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
     this.mv.visitFieldInsn(Opcodes.GETSTATIC, className,
         CodeCoverageStore.PROBE_FIELD_NAME, "[Z");
-
-    //Make sure that we recorded that the class was hit
     this.mv.visitInsn(DUP);
-    this.mv.visitInsn(ICONST_0);
-    this.mv.visitInsn(ICONST_1);
-    this.mv.visitInsn(BASTORE);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+
+    //Make sure that we recorded that the class was hit, telling the store
+    //only the first time in each test
+    final Label alreadyHit = new Label();
+    this.mv.visitInsn(ICONST_0);
+    this.mv.visitInsn(BALOAD);
+    this.mv.visitJumpInsn(IFNE, alreadyHit);
+    pushConstant(this.classId);
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        "markClassHit", "(I[Z)V", false);
+    this.mv.visitLabel(alreadyHit);
   }
 
   @Override
@@ -1,7 +1,6 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.coverage.analysis.Block;
@@ -11,10 +10,22 @@ import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.HitVisitor;
 
+/**
+ * Sends coverage to the parent process.
+ *
+ * The probes hit by a test are sent as a bitmap for each class. Each bitmap
+ * is the class id, a count of words, and then the words. Bit n of word w is
+ * set if probe (w * 64) + n + 1 was hit. The list of classes ends with
+ * {@link #END_OF_HITS}.
+ */
 public class CoveragePipe implements CoverageReceiver {
 
+  public static final int            END_OF_HITS = -1;
+
   private final SafeDataOutputStream dos;
+  private final HitVisitor           hitWriter   = this::writeClassHits;
 
   public CoveragePipe(final OutputStream dos) {
     this.dos = new SafeDataOutputStream(dos);
@@ -23,14 +34,10 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    CodeCoverageStore.visitHits(this.hitWriter);
+    this.dos.writeInt(END_OF_HITS);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
     
@@ -38,6 +45,23 @@ public class CoveragePipe implements CoverageReceiver {
 
   }
 
+  private void writeClassHits(final int classId, final boolean[] probes) {
+    // first slot only records that the class was hit
+    final int probeCount = probes.length - 1;
+    this.dos.writeInt(classId);
+    this.dos.writeInt((probeCount + 63) / 64);
+    long word = 0;
+    for (int i = 0; i != probeCount; i++) {
+      if (probes[i + 1]) {
+        word |= 1L << (i & 63);
+      }
+      if (((i & 63) == 63) || (i == (probeCount - 1))) {
+        this.dos.writeLong(word);
+        word = 0;
+      }
+    }
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.engine;
+
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * A single version of a class containing several mutants, each of which is
+ * switched on by setting sun.pitest.ActiveMutant to its id. While no mutant
+ * is active the class behaves as the original.
+ */
+public final class MetaMutant {
+
+  private final ClassName                       className;
+  private final byte[]                          bytes;
+  private final Map<MutationIdentifier, Integer> ids;
+
+  public MetaMutant(final ClassName className, final byte[] bytes,
+      final Map<MutationIdentifier, Integer> ids) {
+    this.className = className;
+    this.bytes = bytes;
+    this.ids = ids;
+  }
+
+  public ClassName getClassName() {
+    return this.className;
+  }
+
+  /**
+   * @return the bytes of the class
+   */
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  public boolean contains(final MutationIdentifier mutant) {
+    return this.ids.containsKey(mutant);
+  }
+
+  /**
+   * @param mutant
+   *          a mutant the class contains
+   * @return the id that switches on the given mutant
+   */
+  public int idFor(final MutationIdentifier mutant) {
+    return this.ids.get(mutant);
+  }
+
+  @Override
+  public String toString() {
+    return "MetaMutant [className=" + this.className + ", mutants="
+        + this.ids.keySet() + "]";
+  }
+
+}
@@ -14,7 +14,10 @@
  */
 package org.pitest.mutationtest.engine;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 
@@ -32,6 +35,37 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates mutants matching each of the given MutationIdentifiers.
+   * Implementations may share work between mutants of the same class.
+   *
+   * @param ids
+   *          the mutants to create
+   * @return a Mutant for each id, in the order they were supplied
+   */
+  default List<Mutant> getMutations(Collection<MutationIdentifier> ids) {
+    final List<Mutant> mutants = new ArrayList<>(ids.size());
+    for (final MutationIdentifier each : ids) {
+      mutants.add(getMutation(each));
+    }
+    return mutants;
+  }
+
+  /**
+   * Creates a single version of a class in which each of the given mutants
+   * is switched on at runtime by sun.pitest.ActiveMutant, so that moving
+   * between mutants does not require the class to be redefined. Mutants that
+   * cannot be switched in this way are left out.
+   *
+   * @param ids
+   *          mutants, all of the same class
+   * @return the meta mutant, or empty if this mutater does not create them
+   */
+  default Optional<MetaMutant> getMetaMutant(
+      Collection<MutationIdentifier> ids) {
+    return Optional.empty();
+  }
+
   /**
    * Scans for possible mutants in the given class
    *
@@ -17,6 +17,7 @@ package org.pitest.mutationtest.engine;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,9 +38,10 @@ public final class MutationDetails implements Serializable {
   private final int                 block;
   private final int                 lineNumber;
   private final String              description;
-  private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
+  private volatile ArrayList<TestInfo> testsInOrder = new ArrayList<>();
   private final boolean             isInFinallyBlock;
   private final PoisonStatus        poison;
+  private final List<MutationDetails> duplicates;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -49,6 +51,14 @@ public final class MutationDetails implements Serializable {
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block,
       final boolean isInFinallyBlock, final PoisonStatus poison) {
+    this(id, filename, description, lineNumber, block, isInFinallyBlock,
+        poison, Collections.<MutationDetails> emptyList());
+  }
+
+  private MutationDetails(final MutationIdentifier id, final String filename,
+      final String description, final int lineNumber, final int block,
+      final boolean isInFinallyBlock, final PoisonStatus poison,
+      final List<MutationDetails> duplicates) {
     this.id = id;
     this.description = Objects.requireNonNull(description);
     this.filename = defaultFilenameIfNotSupplued(filename);
@@ -56,6 +66,7 @@ public final class MutationDetails implements Serializable {
     this.block = block;
     this.isInFinallyBlock = isInFinallyBlock;
     this.poison = poison;
+    this.duplicates = duplicates;
   }
 
   @Override
@@ -67,11 +78,25 @@ public final class MutationDetails implements Serializable {
   }
 
   public MutationDetails withDescription(String desc) {
-    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison);
+    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, this.duplicates);
   }
 
   public MutationDetails withPoisonStatus(PoisonStatus poisonStatus) {
-    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus);
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus, this.duplicates);
+  }
+
+  /**
+   * Returns a copy of this mutation that stands in for the given mutations,
+   * which were found to be identical to it. They are not analysed, but are
+   * reported with the result of this mutation.
+   *
+   * @param duplicates
+   *          mutations identical to this one
+   * @return a copy of this mutation with the given duplicates
+   */
+  public MutationDetails withDuplicates(Collection<MutationDetails> duplicates) {
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, this.poison,
+        Collections.unmodifiableList(new ArrayList<>(duplicates)));
   }
 
   /**
@@ -182,6 +207,18 @@ public final class MutationDetails implements Serializable {
     this.testsInOrder.trimToSize();
   }
 
+  /**
+   * Replaces the list of covering tests with a reordered one. The list is
+   * swapped rather than modified, so code already reading the old list is not
+   * affected.
+   *
+   * @param tests
+   *          The covering tests in their new order
+   */
+  public void reorderTestsInOrder(final List<TestInfo> tests) {
+    this.testsInOrder = new ArrayList<>(tests);
+  }
+
   /**
    * Indicates if this mutation might poison state within the jvm (e.g affect
    * the values of static variable)
@@ -258,6 +295,20 @@ public final class MutationDetails implements Serializable {
   public boolean isInFinallyBlock() {
     return this.isInFinallyBlock;
   }
+
+  public PoisonStatus getPoisonStatus() {
+    return this.poison;
+  }
+
+  /**
+   * Returns mutations that were found to be identical to this one and so
+   * share its result
+   *
+   * @return identical mutations, which are not analysed themselves
+   */
+  public List<MutationDetails> getDuplicates() {
+    return this.duplicates;
+  }
   
   private String defaultFilenameIfNotSupplued(String filename) {
     // the BuildVerifier should throw an error if classes are compiled 
@@ -21,6 +21,7 @@ import java.util.function.Predicate;
 
 import org.pitest.functional.FCollection;
 import java.util.Optional;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.blocks.BlockCounter;
@@ -72,6 +73,11 @@ class ClassContext implements BlockCounter {
     this.sourceFile = source;
   }
 
+  public boolean isTargetedMethod(final Location location) {
+    return this.target.map(id -> id.getLocation().equals(location))
+        .orElse(true);
+  }
+
   public boolean shouldMutate(final MutationIdentifier newId) {
     return getTargetMutation().filter(idMatches(newId)).isPresent();
   }
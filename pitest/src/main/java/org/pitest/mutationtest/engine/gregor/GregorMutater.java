@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,24 +37,37 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MetaMutant;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
+import sun.pitest.ActiveMutant;
+
 public class GregorMutater implements Mutater {
 
   private final Map<String, String>       computeCache   = new HashMap<>();
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<>();
+  private final boolean                   schemata;
+  private int                             lastMetaId     = ActiveMutant.NONE;
 
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
+    this(byteSource, filter, mutators, false);
+  }
+
+  public GregorMutater(final ClassByteArraySource byteSource,
+      final Predicate<MethodInfo> filter,
+      final Collection<MethodMutatorFactory> mutators,
+      final boolean schemata) {
     this.filter = filter;
     this.mutators.addAll(mutators);
     this.byteSource = byteSource;
+    this.schemata = schemata;
   }
 
   @Override
@@ -90,16 +104,91 @@ public class GregorMutater implements Mutater {
 
   @Override
   public Mutant getMutation(final MutationIdentifier id) {
+    final byte[] bytes = this.byteSource.getBytes(id.getClassName()
+        .asJavaName()).get();
+    return createMutant(new ClassReader(bytes), FrameOptions.pickFlags(bytes),
+        id);
+  }
+
+  /**
+   * Consecutive ids for the same class share a single parse of that class.
+   * Only the mutated method of each mutant is rewritten, the other methods
+   * are copied unchanged.
+   */
+  @Override
+  public List<Mutant> getMutations(final Collection<MutationIdentifier> ids) {
+    final List<Mutant> mutants = new ArrayList<>(ids.size());
+    ClassName current = null;
+    ClassReader reader = null;
+    int flags = 0;
+    for (final MutationIdentifier each : ids) {
+      if (!each.getClassName().equals(current)) {
+        current = each.getClassName();
+        final byte[] bytes = this.byteSource.getBytes(current.asJavaName())
+            .get();
+        reader = new ClassReader(bytes);
+        flags = FrameOptions.pickFlags(bytes);
+      }
+      mutants.add(createMutant(reader, flags, each));
+    }
+    return mutants;
+  }
+
+  /**
+   * Only available in schemata mode. Mutants in constructors and static
+   * initializers are left out, as are all mutants of classes too old to carry
+   * stack map frames.
+   */
+  @Override
+  public Optional<MetaMutant> getMetaMutant(
+      final Collection<MutationIdentifier> ids) {
+    if (!this.schemata || ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final ClassName clazz = ids.iterator().next().getClassName();
+    final List<MutationIdentifier> included = new ArrayList<>(ids.size());
+    for (final MutationIdentifier each : ids) {
+      if (!each.getClassName().equals(clazz)) {
+        return Optional.empty();
+      }
+      if (canSwitch(each)) {
+        included.add(each);
+      }
+    }
+
+    final byte[] bytes = this.byteSource.getBytes(clazz.asJavaName()).get();
+    if (included.isEmpty() || !FrameOptions.needsFrames(bytes)) {
+      return Optional.empty();
+    }
+
+    final List<Mutant> mutants = getMutations(included);
+    final Map<MutationIdentifier, Mutant> byId = new LinkedHashMap<>();
+    for (int i = 0; i != included.size(); i++) {
+      byId.put(included.get(i), mutants.get(i));
+    }
+
+    final int firstId = this.lastMetaId + 1;
+    this.lastMetaId = this.lastMetaId + included.size();
+    return new MetaMutantWriter(this.byteSource, this.computeCache).write(
+        clazz, bytes, byId, firstId);
+  }
+
+  private static boolean canSwitch(final MutationIdentifier id) {
+    // a dispatch at the start of a constructor would precede the call to
+    // super, and static initializers run only once
+    final String method = id.getLocation().getMethodName().name();
+    return !method.equals("<init>") && !method.equals("<clinit>");
+  }
+
+  private Mutant createMutant(final ClassReader reader, final int flags,
+      final MutationIdentifier id) {
 
     final ClassContext context = new ClassContext();
     context.setTargetMutation(Optional.ofNullable(id));
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
-
-    final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
+        this.computeCache, flags);
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
@@ -35,22 +35,37 @@ public class GregorMutationEngine implements MutationEngine {
 
   private final Set<MethodMutatorFactory> mutationOperators = new LinkedHashSet<>();
   private final Predicate<MethodInfo>     methodFilter;
+  private final boolean                   schemata;
 
   public GregorMutationEngine(final MutationEngineConfiguration config) {
+    this(config, false);
+  }
+
+  /**
+   * @param config
+   *          mutators and method filter to use
+   * @param schemata
+   *          if true, mutaters created by this engine can combine the mutants
+   *          of a class into a meta mutant
+   */
+  public GregorMutationEngine(final MutationEngineConfiguration config,
+      final boolean schemata) {
     this.methodFilter = config.methodFilter();
     this.mutationOperators.addAll(config.mutators());
+    this.schemata = schemata;
   }
 
   @Override
   public Mutater createMutator(final ClassByteArraySource byteSource) {
     return new GregorMutater(byteSource, this.methodFilter,
-        this.mutationOperators);
+        this.mutationOperators, this.schemata);
   }
 
   @Override
   public String toString() {
     return "GregorMutationEngine [filter=" + this.methodFilter
-        + ", mutationOperators=" + this.mutationOperators + "]";
+        + ", mutationOperators=" + this.mutationOperators + ", schemata="
+        + this.schemata + "]";
   }
 
   @Override
@@ -64,7 +79,7 @@ public class GregorMutationEngine implements MutationEngine {
 
   @Override
   public String getName() {
-    return "gregor";
+    return this.schemata ? "gregor-schemata" : "gregor";
   }
 
 }
@@ -0,0 +1,199 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodTooLargeException;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MetaMutant;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Combines mutants of a class into a single meta mutant.
+ *
+ * <p>
+ * Classes cannot gain members when redefined, so each mutant cannot be moved
+ * into a method of its own. Instead, each method containing mutants is given
+ * a copy of its body per mutant, taken from that mutant's class, and a switch
+ * on entry that picks the copy for the active mutant or falls through to the
+ * original body. Frames are then recomputed for the whole class.
+ *
+ * <p>
+ * As each copy grows the method, at most {@link #MAX_COPIES_PER_METHOD}
+ * mutants of a method are included. Methods that still grow too large are
+ * left out entirely. Mutants that are left out are not part of the meta
+ * mutant, so are run individually.
+ */
+class MetaMutantWriter {
+
+  static final int                   MAX_COPIES_PER_METHOD = 64;
+
+  private static final Logger        LOG                   = Log.getLogger();
+
+  private final ClassByteArraySource byteSource;
+  private final Map<String, String>  computeCache;
+
+  MetaMutantWriter(final ClassByteArraySource byteSource,
+      final Map<String, String> computeCache) {
+    this.byteSource = byteSource;
+    this.computeCache = computeCache;
+  }
+
+  /**
+   * @param original
+   *          bytes of the unmutated class
+   * @param mutants
+   *          mutants of the class, in order
+   * @param firstId
+   *          id to switch on the first mutant. Each later mutant is given the
+   *          next id. Must be above ActiveMutant.NONE.
+   */
+  Optional<MetaMutant> write(final ClassName clazz, final byte[] original,
+      final Map<MutationIdentifier, Mutant> mutants, final int firstId) {
+    final Set<Location> tooLarge = new HashSet<>();
+    while (true) {
+      final Map<Integer, Mutant> included = new LinkedHashMap<>();
+      final Map<MutationIdentifier, Integer> ids = new LinkedHashMap<>();
+      final Map<Location, Integer> copies = new HashMap<>();
+      int id = firstId;
+      for (final Map.Entry<MutationIdentifier, Mutant> each : mutants
+          .entrySet()) {
+        final Location location = each.getKey().getLocation();
+        if (!tooLarge.contains(location) && (copies.merge(location, 1,
+            Integer::sum) <= MAX_COPIES_PER_METHOD)) {
+          included.put(id, each.getValue());
+          ids.put(each.getKey(), id);
+        }
+        id++;
+      }
+      if (included.isEmpty()) {
+        return Optional.empty();
+      }
+
+      try {
+        return Optional.of(new MetaMutant(clazz, weave(original, included),
+            ids));
+      } catch (final MethodTooLargeException ex) {
+        // give up on schemata for this method, but not the rest of the class
+        LOG.info("Method " + ex.getMethodName() + " of " + clazz
+            + " is too large to hold copies of its mutants, so they will be"
+            + " run individually");
+        tooLarge.add(new Location(clazz,
+            MethodName.fromString(ex.getMethodName()), ex.getDescriptor()));
+      } catch (final RuntimeException ex) {
+        LOG.fine("Could not create meta mutant for " + clazz + " " + ex);
+        return Optional.empty();
+      }
+    }
+  }
+
+  private byte[] weave(final byte[] original,
+      final Map<Integer, Mutant> mutants) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(original).accept(node, ClassReader.SKIP_FRAMES);
+
+    final Map<Location, Map<Integer, Mutant>> byMethod = new LinkedHashMap<>();
+    for (final Map.Entry<Integer, Mutant> each : mutants.entrySet()) {
+      byMethod.computeIfAbsent(locationOf(each.getValue()),
+          l -> new LinkedHashMap<>()).put(each.getKey(), each.getValue());
+    }
+
+    for (final MethodNode method : node.methods) {
+      final Map<Integer, Mutant> inMethod = byMethod.get(new Location(
+          ClassName.fromString(node.name), MethodName.fromString(method.name),
+          method.desc));
+      if (inMethod != null) {
+        addCopies(method, inMethod);
+      }
+    }
+
+    final ClassWriter w = new ComputeClassWriter(this.byteSource,
+        this.computeCache, ClassWriter.COMPUTE_FRAMES);
+    node.accept(w);
+    return w.toByteArray();
+  }
+
+  private static void addCopies(final MethodNode method,
+      final Map<Integer, Mutant> mutants) {
+    final int[] keys = new int[mutants.size()];
+    final LabelNode[] starts = new LabelNode[mutants.size()];
+    final LabelNode originalStart = new LabelNode();
+
+    final InsnList copies = new InsnList();
+    int i = 0;
+    for (final Map.Entry<Integer, Mutant> each : mutants.entrySet()) {
+      // each copy is read from its own parse, so shares no labels with the
+      // original or with other copies
+      final MethodNode copy = readMethod(each.getValue().getBytes(), method);
+      keys[i] = each.getKey();
+      starts[i] = new LabelNode();
+      copies.add(starts[i]);
+      copies.add(copy.instructions);
+      method.tryCatchBlocks.addAll(copy.tryCatchBlocks);
+      method.maxLocals = Math.max(method.maxLocals, copy.maxLocals);
+      i++;
+    }
+
+    final InsnList dispatch = new InsnList();
+    dispatch.add(new FieldInsnNode(Opcodes.GETSTATIC, ActiveMutant.CLASS_NAME,
+        ActiveMutant.FIELD_NAME, "I"));
+    dispatch.add(new LookupSwitchInsnNode(originalStart, keys, starts));
+    dispatch.add(originalStart);
+
+    method.instructions.insert(dispatch);
+    method.instructions.add(copies);
+  }
+
+  private static MethodNode readMethod(final byte[] bytes,
+      final MethodNode target) {
+    final List<MethodNode> found = new ArrayList<>(1);
+    final ClassVisitor oneMethod = new ClassVisitor(ASMVersion.ASM_VERSION) {
+      @Override
+      public MethodVisitor visitMethod(final int access, final String name,
+          final String descriptor, final String signature,
+          final String[] exceptions) {
+        if (target.name.equals(name) && target.desc.equals(descriptor)) {
+          final MethodNode node = new MethodNode(access, name, descriptor,
+              signature, exceptions);
+          found.add(node);
+          return node;
+        }
+        return null;
+      }
+    };
+    new ClassReader(bytes).accept(oneMethod, ClassReader.SKIP_FRAMES);
+    return found.get(0);
+  }
+
+  private static Location locationOf(final Mutant mutant) {
+    return mutant.getDetails().getId().getLocation();
+  }
+
+}
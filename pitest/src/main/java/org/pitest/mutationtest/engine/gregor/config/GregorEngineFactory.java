@@ -28,6 +28,16 @@ import org.pitest.util.Glob;
 
 public final class GregorEngineFactory implements MutationEngineFactory {
 
+  private final boolean schemata;
+
+  public GregorEngineFactory() {
+    this(false);
+  }
+
+  GregorEngineFactory(final boolean schemata) {
+    this.schemata = schemata;
+  }
+
   @Override
   public MutationEngine createEngine(EngineArguments args) {
     return createEngineWithMutators(args.excludedMethods(),
@@ -41,7 +51,7 @@ public final class GregorEngineFactory implements MutationEngineFactory {
     final Predicate<MethodInfo> filter = Prelude.not(stringToMethodInfoPredicate(excludedMethods));
     final DefaultMutationEngineConfiguration config = new DefaultMutationEngineConfiguration(
         filter, mutators);
-    return new GregorMutationEngine(config);
+    return new GregorMutationEngine(config, this.schemata);
   }
 
   private static Collection<? extends MethodMutatorFactory> createMutatorListFromArrayOrUseDefaults(
@@ -0,0 +1,32 @@
+package org.pitest.mutationtest.engine.gregor.config;
+
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationEngineFactory;
+import org.pitest.mutationtest.engine.MutationEngine;
+
+/**
+ * Creates the same mutants as the gregor engine, but lets each minion insert
+ * the mutants of a class in a single redefinition and switch between them
+ * with a flag, instead of redefining the class once per mutant.
+ */
+public final class GregorSchemataEngineFactory implements
+    MutationEngineFactory {
+
+  private final GregorEngineFactory child = new GregorEngineFactory(true);
+
+  @Override
+  public MutationEngine createEngine(EngineArguments args) {
+    return this.child.createEngine(args);
+  }
+
+  @Override
+  public String name() {
+    return "gregor-schemata";
+  }
+
+  @Override
+  public String description() {
+    return "Gregor mutants, inserted into each class as a single meta mutant";
+  }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -28,14 +29,17 @@ public class DefaultReporter implements Reporter {
   private final SafeDataOutputStream w;
 
   DefaultReporter(final OutputStream w) {
-    this.w = new SafeDataOutputStream(w);
+    this.w = new SafeDataOutputStream(new BufferedOutputStream(w));
   }
 
+  // The parent must know which mutant was running if this process dies, so
+  // describe is always flushed. Reports are sent with the next describe or
+  // with done.
   @Override
   public synchronized void describe(final MutationIdentifier i)
       throws IOException {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    MinionProtocol.writeIdentifier(this.w, i);
     this.w.flush();
   }
 
@@ -43,9 +47,8 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) throws IOException {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
-    this.w.flush();
+    MinionProtocol.writeIdentifier(this.w, i);
+    MinionProtocol.writeStatus(this.w, mutationDetected);
   }
 
   @Override
@@ -31,6 +31,19 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  void restoreLastClass() {
+    if (this.lastMutatedClass == null) {
+      return;
+    }
+    try {
+      restoreForLoader(this.lastUsedLoader);
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    this.lastMutatedClass = null;
+    this.lastClassPreMutation = null;
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
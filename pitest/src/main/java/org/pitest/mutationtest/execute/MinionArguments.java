@@ -50,6 +50,21 @@ public class MinionArguments implements Serializable {
     this.pitConfig = pitConfig;
   }
 
+  /**
+   * Arguments to analyse the given mutations with the same settings as this
+   * instance.
+   *
+   * @param mutations
+   *          mutations to analyse
+   * @return arguments for the given mutations
+   */
+  public MinionArguments withMutations(
+      final Collection<MutationDetails> mutations) {
+    return new MinionArguments(mutations, this.testClasses, this.engine,
+        this.engineArgs, this.timeoutStrategy, this.verbose,
+        this.fullMutationMatrix, this.pitConfig);
+  }
+
   public boolean isVerbose() {
     return this.verbose;
   }
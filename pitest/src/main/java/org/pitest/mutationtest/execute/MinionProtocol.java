@@ -0,0 +1,213 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Binary encoding of the messages exchanged between the coordinator and a
+ * mutation test minion.
+ *
+ * <p>
+ * Class, method, mutator and test names are sent as interned strings, so each
+ * is sent in full only once per connection. Plugin configuration sent with
+ * each batch is still Java serialized, as its types are open ended.
+ */
+public final class MinionProtocol {
+
+  static final int VERSION = 1;
+
+  private MinionProtocol() {
+  }
+
+  public static void writeArguments(final SafeDataOutputStream os,
+      final MinionArguments args) {
+    os.writeInt(VERSION);
+    os.writeInt(args.mutations.size());
+    for (final MutationDetails each : args.mutations) {
+      writeDetails(os, each);
+    }
+    os.writeInt(args.testClasses.size());
+    for (final ClassName each : args.testClasses) {
+      os.writeInternedString(each.asJavaName());
+    }
+    os.write(new Settings(args));
+  }
+
+  public static MinionArguments readArguments(final SafeDataInputStream is) {
+    final int version = is.readInt();
+    if (version != VERSION) {
+      throw new PitError("Minion protocol version " + version
+          + " does not match expected version " + VERSION);
+    }
+    final int mutationCount = is.readInt();
+    final List<MutationDetails> mutations = new ArrayList<>(mutationCount);
+    for (int i = 0; i != mutationCount; i++) {
+      mutations.add(readDetails(is));
+    }
+    final int testClassCount = is.readInt();
+    final List<ClassName> testClasses = new ArrayList<>(testClassCount);
+    for (int i = 0; i != testClassCount; i++) {
+      testClasses.add(ClassName.fromString(is.readInternedString()));
+    }
+    final Settings settings = is.read(Settings.class);
+    return new MinionArguments(mutations, testClasses, settings.engine,
+        settings.engineArgs, settings.timeoutStrategy, settings.verbose,
+        settings.fullMutationMatrix, settings.pitConfig);
+  }
+
+  public static void writeIdentifier(final SafeDataOutputStream os,
+      final MutationIdentifier id) {
+    final Location location = id.getLocation();
+    os.writeInternedString(location.getClassName().asJavaName());
+    os.writeInternedString(location.getMethodName().name());
+    os.writeInternedString(location.getMethodDesc());
+    os.writeInt(id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      os.writeInt(each);
+    }
+    os.writeInternedString(id.getMutator());
+  }
+
+  public static MutationIdentifier readIdentifier(final SafeDataInputStream is) {
+    final Location location = new Location(
+        ClassName.fromString(is.readInternedString()),
+        MethodName.fromString(is.readInternedString()),
+        is.readInternedString());
+    final int indexCount = is.readInt();
+    final List<Integer> indexes = new ArrayList<>(indexCount);
+    for (int i = 0; i != indexCount; i++) {
+      indexes.add(is.readInt());
+    }
+    return new MutationIdentifier(location, indexes, is.readInternedString());
+  }
+
+  public static void writeStatus(final SafeDataOutputStream os,
+      final MutationStatusTestPair status) {
+    os.writeInternedString(status.getStatus().name());
+    os.writeInt(status.getNumberOfTestsRun());
+    writeNames(os, status.getKillingTests());
+    writeNames(os, status.getSucceedingTests());
+  }
+
+  public static MutationStatusTestPair readStatus(final SafeDataInputStream is) {
+    final DetectionStatus status = DetectionStatus.valueOf(is
+        .readInternedString());
+    final int testsRun = is.readInt();
+    final List<String> killing = readNames(is);
+    final List<String> succeeding = readNames(is);
+    return new MutationStatusTestPair(testsRun, status, killing, succeeding);
+  }
+
+  private static void writeDetails(final SafeDataOutputStream os,
+      final MutationDetails details) {
+    writeIdentifier(os, details.getId());
+    os.writeInternedString(details.getFilename());
+    os.writeString(details.getDescription());
+    os.writeInt(details.getLineNumber());
+    os.writeInt(details.getBlock());
+    os.writeBoolean(details.isInFinallyBlock());
+    os.writeInternedString(details.getPoisonStatus().name());
+    os.writeInt(details.getTestsInOrder().size());
+    for (final TestInfo each : details.getTestsInOrder()) {
+      os.writeInternedString(each.getDefiningClass());
+      os.writeInternedString(each.getName());
+      os.writeInt(each.getTime());
+      os.writeInt(each.getNumberOfBlocksCovered());
+      os.writeInternedString(each.getTestee().map(ClassName::asJavaName)
+          .orElse(null));
+    }
+  }
+
+  private static MutationDetails readDetails(final SafeDataInputStream is) {
+    final MutationIdentifier id = readIdentifier(is);
+    final String filename = is.readInternedString();
+    final String description = is.readString();
+    final int lineNumber = is.readInt();
+    final int block = is.readInt();
+    final boolean inFinallyBlock = is.readBoolean();
+    final PoisonStatus poison = PoisonStatus.valueOf(is.readInternedString());
+    final MutationDetails details = new MutationDetails(id, filename,
+        description, lineNumber, block, inFinallyBlock, poison);
+
+    final int testCount = is.readInt();
+    final List<TestInfo> tests = new ArrayList<>(testCount);
+    for (int i = 0; i != testCount; i++) {
+      final String definingClass = is.readInternedString();
+      final String name = is.readInternedString();
+      final int time = is.readInt();
+      final int blocks = is.readInt();
+      final Optional<ClassName> testee = Optional.ofNullable(
+          is.readInternedString()).map(ClassName::fromString);
+      tests.add(new TestInfo(definingClass, name, time, testee, blocks));
+    }
+    details.addTestsInOrder(tests);
+    return details;
+  }
+
+  private static void writeNames(final SafeDataOutputStream os,
+      final List<String> names) {
+    if (names == null) {
+      os.writeInt(-1);
+      return;
+    }
+    os.writeInt(names.size());
+    for (final String each : names) {
+      os.writeInternedString(each);
+    }
+  }
+
+  private static List<String> readNames(final SafeDataInputStream is) {
+    final int size = is.readInt();
+    if (size == -1) {
+      return null;
+    }
+    final List<String> names = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      names.add(is.readInternedString());
+    }
+    return names;
+  }
+
+  /**
+   * The parts of MinionArguments without a binary encoding
+   */
+  private static final class Settings implements Serializable {
+
+    private static final long           serialVersionUID = 1L;
+
+    private final String                engine;
+    private final EngineArguments       engineArgs;
+    private final TimeoutLengthStrategy timeoutStrategy;
+    private final boolean               verbose;
+    private final boolean               fullMutationMatrix;
+    private final TestPluginArguments   pitConfig;
+
+    Settings(final MinionArguments args) {
+      this.engine = args.engine;
+      this.engineArgs = args.engineArgs;
+      this.timeoutStrategy = args.timeoutStrategy;
+      this.verbose = args.verbose;
+      this.fullMutationMatrix = args.fullMutationMatrix;
+      this.pitConfig = args.pitConfig;
+    }
+  }
+
+}
@@ -14,6 +14,8 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
@@ -31,7 +33,6 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
@@ -46,6 +47,7 @@ import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
+import org.pitest.util.Id;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.SafeDataInputStream;
@@ -58,46 +60,49 @@ public class MutationTestMinion {
   // Size is arbitrary but assumed to be large enough to cover likely max number of inner classes
   private static final int CACHE_SIZE = 12;
 
-  private final SafeDataInputStream dis;
-  private final Reporter            reporter;
-  private final MinionSettings      plugins;
+  private final SafeDataInputStream  dis;
+  private final Reporter             reporter;
+  private final MinionSettings       plugins;
+  private final ClassLoader          loader;
+  private final ClassByteArraySource byteSource;
+  private final HotSwap              hotswap;
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.loader = IsolationUtils.getContextClassLoader();
+    this.byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
+        this.loader), CACHE_SIZE);
+    this.hotswap = new HotSwap(this.byteSource);
   }
 
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
-          .read(MinionArguments.class);
+      final MinionArguments paramsFromParent = MinionProtocol
+          .readArguments(this.dis);
 
       Log.setVerbose(paramsFromParent.isVerbose());
 
-      final ClassLoader loader = IsolationUtils.getContextClassLoader();
-
-      final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
-          loader), CACHE_SIZE);
-
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
-
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+      final MutationTestWorker worker = new MutationTestWorker(this.hotswap,
+          engine.createMutator(this.byteSource), this.loader, paramsFromParent.fullMutationMatrix);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
+      final List<TestUnit> tests = findTestsForTestClasses(this.loader,
           paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
 
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
               tests, this.reporter));
 
+      // the minion may be asked to analyse another batch, so must not leave
+      // the last mutant in place
+      this.hotswap.restoreLastClass();
+
       this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -126,15 +131,22 @@ public class MutationTestMinion {
     Socket s = null;
     try {
       s = new Socket("localhost", port);
+      if (args.length > 1) {
+        identify(s, Integer.parseInt(args[1]));
+      }
       final SafeDataInputStream dis = new SafeDataInputStream(
-          s.getInputStream());
+          new BufferedInputStream(s.getInputStream()));
 
       final Reporter reporter = new DefaultReporter(s.getOutputStream());
       addMemoryWatchDog(reporter);
       final ClientPluginServices plugins = new ClientPluginServices(IsolationUtils.getContextClassLoader());
       final MinionSettings factory = new MinionSettings(plugins);
       final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter);
-      instance.run();
+      // the parent process sends one batch of work at a time and either
+      // follows it with another batch or tells us to shut down
+      while (dis.readByte() == Id.RUN) {
+        instance.run();
+      }
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -160,6 +172,17 @@ public class MutationTestMinion {
         .or(new Glob("javassist/*")), JavassistInputStreamInterceptorAdapater.inputStreamAdapterSupplier(JavassistInterceptor.class)));
   }
 
+  /**
+   * Sends the worker id we were launched with, so that a parent listening for
+   * many minions on one socket knows which minion has connected
+   */
+  private static void identify(final Socket s, final int workerId)
+      throws IOException {
+    final DataOutputStream os = new DataOutputStream(s.getOutputStream());
+    os.writeInt(workerId);
+    os.flush();
+  }
+
   private static void safelyCloseSocket(final Socket s) {
     if (s != null) {
       try {
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,6 +30,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MetaMutant;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -44,6 +46,8 @@ import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
 
+import sun.pitest.ActiveMutant;
+
 public class MutationTestWorker {
 
   private static final Logger                               LOG   = Log
@@ -53,6 +57,9 @@ public class MutationTestWorker {
   private static final boolean                              DEBUG = LOG
       .isLoggable(Level.FINE);
 
+  // limits the number of mutants held in memory at once
+  private static final int                                  MAX_BATCH_SIZE = 50;
+
   private final Mutater                                     mutater;
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
@@ -70,26 +77,88 @@ public class MutationTestWorker {
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
+    for (final List<MutationDetails> batch : batchByClass(range)) {
+      final List<MutationDetails> remaining = runMetaMutant(r, testSource,
+          batch);
+      final List<Mutant> mutants = this.mutater.getMutations(remaining
+          .stream()
+          .map(MutationDetails::getId)
+          .collect(Collectors.toList()));
+      for (int i = 0; i != remaining.size(); i++) {
+        runMutation(r, testSource, remaining.get(i), mutants.get(i),
+            ActiveMutant.NONE);
       }
-      final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
-            + " ms.");
+    }
+
+  }
+
+  /**
+   * Inserts all mutants of the batch that the mutater can combine into the
+   * class at once, then tests each by switching it on in turn.
+   *
+   * @return the mutants of the batch that were not tested
+   */
+  private List<MutationDetails> runMetaMutant(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final List<MutationDetails> batch) throws IOException {
+    final Optional<MetaMutant> meta = this.mutater.getMetaMutant(batch
+        .stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
+    if (!meta.isPresent() || !this.hotswap.apply(meta.get().getClassName(),
+        this.loader, meta.get().getBytes())) {
+      return batch;
+    }
+
+    final List<MutationDetails> remaining = new ArrayList<>();
+    for (final MutationDetails each : batch) {
+      if (meta.get().contains(each.getId())) {
+        runMutation(r, testSource, each,
+            new Mutant(each, meta.get().getBytes()),
+            meta.get().idFor(each.getId()));
+      } else {
+        remaining.add(each);
       }
     }
+    return remaining;
+  }
 
+  private void runMutation(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutation, final Mutant mutatedClass,
+      final int activeId) throws IOException {
+    if (DEBUG) {
+      LOG.fine("Running mutation " + mutation);
+    }
+    final long t0 = System.currentTimeMillis();
+    processMutation(r, testSource, mutation, mutatedClass, activeId);
+    if (DEBUG) {
+      LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
+          + " ms.");
+    }
+  }
+
+  private static List<List<MutationDetails>> batchByClass(
+      final Collection<MutationDetails> range) {
+    final List<List<MutationDetails>> batches = new ArrayList<>();
+    List<MutationDetails> current = null;
+    for (final MutationDetails each : range) {
+      if ((current == null) || (current.size() == MAX_BATCH_SIZE)
+          || !current.get(0).getClassName().equals(each.getClassName())) {
+        current = new ArrayList<>();
+        batches.add(current);
+      }
+      current.add(each);
+    }
+    return batches;
   }
 
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
-      final MutationDetails mutationDetails) throws IOException {
+      final MutationDetails mutationDetails, final Mutant mutatedClass,
+      final int activeId) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -105,7 +174,7 @@ public class MutationTestWorker {
     r.describe(mutationId);
 
     final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+        mutationDetails, mutatedClass, relevantTests, activeId);
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -115,12 +184,14 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final int activeId) {
     final MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info("No test coverage for mutation  " + mutationId + " in "
           + mutatedClass.getDetails().getMethod());
       mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
+    } else if (activeId != ActiveMutant.NONE) {
+      mutationDetected = handleSwitchedMutation(activeId, relevantTests);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
           relevantTests);
@@ -155,6 +226,17 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private MutationStatusTestPair handleSwitchedMutation(final int activeId,
+      final List<TestUnit> relevantTests) {
+    // the meta mutant is already in place, so there is nothing to hotswap
+    ActiveMutant.activate(activeId);
+    try {
+      return doTestsDetectMutation(createNewContainer(), relevantTests);
+    } finally {
+      ActiveMutant.clear();
+    }
+  }
+
   private static Container createNewContainer() {
     final Container c = new UnContainer() {
       @Override
@@ -14,10 +14,13 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
@@ -26,8 +29,45 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
+/**
+ * Runs a test on a thread of its own, so thread local state set by one test
+ * (spring contexts, mocks, MDC) cannot leak into the next mutant's run, and
+ * stops waiting for it once its allowed time has passed.
+ *
+ * <p>
+ * On JDKs that support them the thread is virtual, which is cheap enough to
+ * start once per test. Otherwise a new platform thread is started. The time
+ * limits of all tests are enforced by a single shared watchdog thread.
+ */
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
+  private static final String                      THREAD_NAME = "mutationTestThread";
+
+  private static final ScheduledThreadPoolExecutor WATCHDOG    = createWatchdog();
+
+  // Thread.ofVirtual and Thread.Builder, looked up as they are not available
+  // before java 21
+  private static final Method                      OF_VIRTUAL;
+  private static final Method                      BUILDER_NAME;
+  private static final Method                      UNSTARTED;
+
+  static {
+    Method ofVirtual = null;
+    Method name = null;
+    Method unstarted = null;
+    try {
+      final Class<?> builder = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      name = builder.getMethod("name", String.class);
+      unstarted = builder.getMethod("unstarted", Runnable.class);
+    } catch (final ReflectiveOperationException ex) {
+      // platform threads only
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = name;
+    UNSTARTED = unstarted;
+  }
+
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
@@ -49,7 +89,7 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
     final FutureTask<?> future = createFutureForChildTestUnit(rc);
     executeFutureWithTimeOut(maxTime, future, rc);
-    if (!future.isDone()) {
+    if (future.isCancelled() || !future.isDone()) {
       this.timeOutSideEffect.apply();
     }
 
@@ -57,26 +97,58 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
   private void executeFutureWithTimeOut(final long maxTime,
       final FutureTask<?> future, final ResultCollector rc) {
+    // the test thread is left to run on, as before, but the future is
+    // cancelled so that the wait ends
+    final ScheduledFuture<?> timeout = WATCHDOG.schedule(
+        () -> future.cancel(false), maxTime, TimeUnit.MILLISECONDS);
     try {
-      future.get(maxTime, TimeUnit.MILLISECONDS);
-    } catch (final TimeoutException ex) {
+      future.get();
+    } catch (final CancellationException ex) {
       // swallow
     } catch (final InterruptedException e) {
       // swallow
     } catch (final ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
+    } finally {
+      timeout.cancel(false);
     }
   }
 
   private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
     final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
-    final Thread thread = new Thread(future);
-    thread.setDaemon(true);
-    thread.setName("mutationTestThread");
-    thread.start();
+    newTestThread(future).start();
     return future;
   }
 
+  private static Thread newTestThread(final Runnable runnable) {
+    if (OF_VIRTUAL != null) {
+      try {
+        final Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null),
+            THREAD_NAME);
+        return (Thread) UNSTARTED.invoke(builder, runnable);
+      } catch (final ReflectiveOperationException ex) {
+        throw Unchecked.translateCheckedException(ex);
+      }
+    }
+    final Thread thread = new Thread(runnable);
+    thread.setDaemon(true);
+    thread.setName(THREAD_NAME);
+    return thread;
+  }
+
+  private static ScheduledThreadPoolExecutor createWatchdog() {
+    final ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(
+        1, r -> {
+          final Thread t = new Thread(r);
+          t.setDaemon(true);
+          t.setName("mutationTestWatchdog");
+          return t;
+        });
+    // most tests complete in time, so their timeouts should not pile up
+    watchdog.setRemoveOnCancelPolicy(true);
+    return watchdog;
+  }
+
   private Runnable createRunnable(final ResultCollector rc) {
     return () -> {
       try {
@@ -1,7 +1,10 @@
 package org.pitest.sequence;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class SequenceQuery<T> {
@@ -138,18 +141,55 @@ public class SequenceQuery<T> {
 
 }
 
+/**
+ * Simulates the NFA built from a query.
+ *
+ * <p>
+ * The epsilon closure reached after each consuming state is worked out once
+ * when the matcher is compiled, and the current set of states is held in
+ * arrays allocated once per call to matches, so no work is done per item
+ * beyond testing the states that are live.
+ */
 class NFASequenceMatcher<T> implements SequenceMatcher<T> {
 
-  private final boolean debug;
-  private final Match<T> ignore;
-  private final State<T> start;
+  private final boolean    debug;
+  private final Match<T>   ignore;
 
+  // the consuming states, indexed by id
+  private final Match<T>[] consumers;
+  // ids of the consuming states reached after each consuming state
+  private final int[][]    successors;
+  // whether the end of the query is reached after each consuming state
+  private final boolean[]  successorsMatch;
+  private final int[]      startStates;
+  private final boolean    startMatches;
+
+  @SuppressWarnings("unchecked")
   NFASequenceMatcher(Match<T> ignore, State<T> state, boolean debug) {
     this.ignore = ignore;
-    this.start = state;
     this.debug = debug;
-  }
 
+    final Map<Consume<T>, Integer> ids = new IdentityHashMap<>();
+    final List<Consume<T>> consumes = new ArrayList<>();
+    final Closure start = closure(state, ids, consumes);
+    this.startStates = start.states;
+    this.startMatches = start.matches;
+
+    // consumes grows as closures reach states not yet seen
+    final List<Closure> closures = new ArrayList<>();
+    for (int i = 0; i != consumes.size(); i++) {
+      closures.add(closure(consumes.get(i).out, ids, consumes));
+    }
+
+    this.consumers = new Match[consumes.size()];
+    this.successors = new int[consumes.size()][];
+    this.successorsMatch = new boolean[consumes.size()];
+    for (int i = 0; i != consumes.size(); i++) {
+      this.consumers[i] = consumes.get(i).c;
+      this.successors[i] = closures.get(i).states;
+      this.successorsMatch[i] = closures.get(i).matches;
+    }
+  }
 
   @Override
   public boolean matches(List<T> sequence) {
@@ -158,53 +198,99 @@ class NFASequenceMatcher<T> implements SequenceMatcher<T> {
 
   @Override
   public boolean matches(List<T> sequence, Context<T> context) {
-    Set<State<T>> currentState = new HashSet<>();
-    addstate(currentState, this.start);
+    int[] current = new int[this.consumers.length];
+    int[] next = new int[this.consumers.length];
+    final int[] addedInStep = new int[this.consumers.length];
+
+    System.arraycopy(this.startStates, 0, current, 0, this.startStates.length);
+    int currentCount = this.startStates.length;
+    boolean matched = this.startMatches;
+    int step = 0;
 
     for (final T t : sequence) {
+      if (currentCount == 0 && !matched) {
+        // nothing further can match
+        return false;
+      }
+
       context.moveForward();
 
       if (this.ignore.test(context, t)) {
         continue;
       }
 
-      final Set<State<T>> nextStates = step(context, currentState, t);
-      currentState = nextStates;
+      step++;
+      int nextCount = 0;
+      matched = false;
+      for (int i = 0; i != currentCount; i++) {
+        final int each = current[i];
+        if (this.consumers[each].test(context, t)) {
+          matched |= this.successorsMatch[each];
+          for (final int successor : this.successors[each]) {
+            if (addedInStep[successor] != step) {
+              addedInStep[successor] = step;
+              next[nextCount++] = successor;
+            }
+          }
+        }
+      }
+
+      final int[] swap = current;
+      current = next;
+      next = swap;
+      currentCount = nextCount;
     }
-    return isMatch(currentState);
+    return matched;
   }
 
+  private static <T> Closure closure(State<T> state,
+      Map<Consume<T>, Integer> ids, List<Consume<T>> consumes) {
+    final List<Integer> states = new ArrayList<>();
+    final boolean matches = addClosure(state, ids, consumes, states,
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    final int[] asArray = new int[states.size()];
+    for (int i = 0; i != asArray.length; i++) {
+      asArray[i] = states.get(i);
+    }
+    return new Closure(asArray, matches);
+  }
 
-  private static <T> void addstate(Set<State<T>> set, State<T> state) {
-    if (state == null) {
-      return;
+  private static <T> boolean addClosure(State<T> state,
+      Map<Consume<T>, Integer> ids, List<Consume<T>> consumes,
+      List<Integer> states, Set<State<T>> visited) {
+    if (state == null || !visited.add(state)) {
+      return false;
     }
     if (state instanceof Split) {
       final Split<T> split = (Split<T>) state;
-      addstate(set, split.out1);
-      addstate(set, split.out2);
-    } else {
-      set.add(state);
+      final boolean left = addClosure(split.out1, ids, consumes, states,
+          visited);
+      final boolean right = addClosure(split.out2, ids, consumes, states,
+          visited);
+      return left || right;
     }
-
-  }
-
-  private static <T> Set<State<T>> step(Context<T> context, Set<State<T>> currentState, T c) {
-
-    final Set<State<T>> nextStates = new HashSet<>();
-    for (final State<T> each : currentState) {
-      if (each instanceof Consume) {
-        final Consume<T> consume = (Consume<T>) each;
-        if (consume.c.test(context, c)) {
-          addstate(nextStates, consume.out);
-        }
+    if (state instanceof Consume) {
+      final Consume<T> consume = (Consume<T>) state;
+      Integer id = ids.get(consume);
+      if (id == null) {
+        id = consumes.size();
+        ids.put(consume, id);
+        consumes.add(consume);
       }
+      states.add(id);
+      return false;
     }
-    return nextStates;
+    return state == EndMatch.MATCH;
   }
 
-  private static <T> boolean isMatch(Set<State<T>> currentState) {
-    return currentState.contains(EndMatch.MATCH);
+  private static final class Closure {
+    private final int[]   states;
+    private final boolean matches;
+
+    Closure(int[] states, boolean matches) {
+      this.states = states;
+      this.matches = matches;
+    }
   }
 
 }
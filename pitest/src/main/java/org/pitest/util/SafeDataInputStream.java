@@ -21,10 +21,13 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class SafeDataInputStream {
 
   private final DataInputStream dis;
+  private final List<String>    interned = new ArrayList<>();
 
   public SafeDataInputStream(final InputStream is) {
     this.dis = new DataInputStream(is);
@@ -46,6 +49,17 @@ public class SafeDataInputStream {
     }
   }
 
+  public String readInternedString() {
+    final int id = readInt();
+    if (id == -1) {
+      return null;
+    }
+    if (id == this.interned.size()) {
+      this.interned.add(readString());
+    }
+    return this.interned.get(id);
+  }
+
   public byte[] readBytes() {
     try {
       final int length = this.dis.readInt();
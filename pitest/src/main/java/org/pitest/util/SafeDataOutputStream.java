@@ -21,10 +21,13 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 public class SafeDataOutputStream {
 
-  private final DataOutputStream dos;
+  private final DataOutputStream     dos;
+  private final Map<String, Integer> interned = new HashMap<>();
 
   public SafeDataOutputStream(final OutputStream os) {
     this.dos = new DataOutputStream(os);
@@ -47,6 +50,30 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes a string that is likely to be sent many times. The first time a
+   * string is written it is sent in full and given the next id. Later writes
+   * send only the id. Must be read with SafeDataInputStream.readInternedString
+   * on a stream that has read everything written to this one.
+   *
+   * @param str
+   *          string to write, may be null
+   */
+  public void writeInternedString(final String str) {
+    if (str == null) {
+      writeInt(-1);
+      return;
+    }
+    final Integer id = this.interned.get(str);
+    if (id != null) {
+      writeInt(id);
+    } else {
+      final int next = this.interned.size();
+      this.interned.put(str, next);
+      writeInt(next);
+      writeString(str);
+    }
+  }
 
   public void writeBytes(final byte[] data) {
     try {
@@ -0,0 +1,33 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Holds the id of the mutant under test when classes have been rewritten as
+ * mutant schemata. Instrumented methods compare it against the ids of the
+ * mutants they contain on entry.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME = ActiveMutant.class.getName()
+                                            .replace('.', '/');
+  public static final String FIELD_NAME = "id";
+
+  public static final int    NONE       = 0;
+
+  // volatile so that threads already running when a mutant is activated,
+  // such as those of pools created by earlier tests, see the change
+  public static volatile int id         = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static void activate(final int mutant) {
+    id = mutant;
+  }
+
+  public static void clear() {
+    id = NONE;
+  }
+
+}
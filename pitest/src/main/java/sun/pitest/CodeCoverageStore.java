@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.pitest.coverage.analysis.Block;
@@ -57,6 +56,12 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // classes hit since the last reset, so that harvesting and resetting after
+  // each test need not visit every instrumented class
+  private static int[]                         dirtyIds          = new int[64];
+  private static boolean[][]                   dirtyProbes       = new boolean[64][];
+  private static int                           dirtyCount        = 0;
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -64,33 +69,66 @@ public final class CodeCoverageStore {
   private CodeCoverageStore() {
   }
 
+  /**
+   * Called by instrumented code the first time a class is hit after a reset.
+   *
+   * @param classId
+   *          id of the class, as returned by {@link #registerClass(String)}
+   * @param probes
+   *          the probe array of the class
+   */
+  public static synchronized void markClassHit(final int classId,
+      final boolean[] probes) {
+    // may have been marked by another thread since it checked
+    if (probes[CLASS_HIT_INDEX]) {
+      return;
+    }
+    // a method running when the class was last reset may have set probes
+    // without marking the class, so those hits belong to an earlier test
+    Arrays.fill(probes, false);
+    probes[CLASS_HIT_INDEX] = true;
+    if (dirtyCount == dirtyIds.length) {
+      dirtyIds = Arrays.copyOf(dirtyIds, dirtyCount * 2);
+      dirtyProbes = Arrays.copyOf(dirtyProbes, dirtyCount * 2);
+    }
+    dirtyIds[dirtyCount] = classId;
+    dirtyProbes[dirtyCount] = probes;
+    dirtyCount++;
+  }
+
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[0]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
-      }
+    for (int i = 0; i != dirtyCount; i++) {
+      Arrays.fill(dirtyProbes[i], false);
+      dirtyProbes[i] = null;
     }
+    dirtyCount = 0;
   }
 
   public static synchronized Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-      // final int[] mapping = classProbeToBlockMapping.get(classId);
+    visitHits((classId, bs) -> {
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId));
         }
       }
-    }
+    });
     return blockHits;
   }
 
+  /**
+   * Passes the probes of each class hit since the last reset to the visitor,
+   * without boxing or copying them.
+   *
+   * @param visitor
+   *          called once for each class hit
+   */
+  public static synchronized void visitHits(final HitVisitor visitor) {
+    for (int i = 0; i != dirtyCount; i++) {
+      visitor.visitClass(dirtyIds[i], dirtyProbes[i]);
+    }
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -147,8 +185,10 @@ public final class CodeCoverageStore {
     return ret;
   }
 
-  public static void resetAllStaticState() {
+  public static synchronized void resetAllStaticState() {
     CLASS_HITS.clear();
+    Arrays.fill(dirtyProbes, null);
+    dirtyCount = 0;
   }
 
 }
@@ -0,0 +1,15 @@
+package sun.pitest;
+
+public interface HitVisitor {
+
+  /**
+   * @param classId
+   *          id of the class, as returned by
+   *          {@link CodeCoverageStore#registerClass(String)}
+   * @param probes
+   *          hit flags for the class. The first slot is set if any probe was
+   *          hit. The array must not be retained.
+   */
+  void visitClass(int classId, boolean[] probes);
+
+}
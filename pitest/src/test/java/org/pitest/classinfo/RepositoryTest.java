@@ -19,11 +19,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.Serializable;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -283,6 +285,39 @@ public class RepositoryTest {
     verify(this.hashFunction).hash(any(byte[].class));
   }
 
+  @Test
+  public void shouldRereadInvalidatedClassesAndTheirSubclasses() {
+    final ClassByteArraySource spied = spy(new ClassloaderByteArraySource(
+        IsolationUtils.getContextClassLoader()));
+    this.testee = new Repository(spied);
+    this.testee.fetchClass(Bottom.class).get().descendsFrom(Top.class);
+    this.testee.fetchClass(String.class);
+
+    this.testee.invalidate(Collections.singleton(ClassName
+        .fromClass(Middle.class)));
+    this.testee.fetchClass(Bottom.class).get().descendsFrom(Top.class);
+    this.testee.fetchClass(String.class);
+
+    verify(spied, times(2)).getBytes(nameOf(Bottom.class));
+    verify(spied, times(2)).getBytes(nameOf(Middle.class));
+    verify(spied, times(1)).getBytes(nameOf(Top.class));
+    verify(spied, times(1)).getBytes(nameOf(String.class));
+  }
+
+  @Test
+  public void shouldLookAgainForUnknownClassesWhenInvalidated() {
+    this.testee = new Repository(this.source);
+    when(this.source.getBytes(anyString())).thenReturn(Optional.<byte[]> empty());
+    this.testee.fetchClass(ClassName.fromString("foo"));
+    this.testee.invalidate(Collections.<ClassName> emptyList());
+    this.testee.fetchClass(ClassName.fromString("foo"));
+    verify(this.source, times(2)).getBytes("foo");
+  }
+
+  private static String nameOf(final Class<?> clazz) {
+    return ClassName.fromClass(clazz).asJavaName();
+  }
+
   private String getOuterClassNameFor(final Class<?> clazz) {
     return this.testee.fetchClass(clazz).get().getOuterClass().get()
         .getName().asInternalName();
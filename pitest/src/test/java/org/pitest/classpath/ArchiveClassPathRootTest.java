@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -41,6 +42,11 @@ public class ArchiveClassPathRootTest {
     this.testee = new ArchiveClassPathRoot(new File("mytests.jar"));
   }
 
+  @After
+  public void tearDown() throws IOException {
+    this.testee.close();
+  }
+
   @Test
   public void classNamesShouldReturnAllClassNamesIArchive() {
     final Collection<String> expected = Arrays.asList(
@@ -70,6 +76,20 @@ public class ArchiveClassPathRootTest {
     }
   }
 
+  @Test
+  public void shouldReopenArchiveWhenUsedAfterClose() throws Exception {
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    this.testee.close();
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+  }
+
+  @Test
+  public void shouldAllowRepeatedClose() throws Exception {
+    this.testee.classNames();
+    this.testee.close();
+    this.testee.close();
+  }
+
   @Test
   public void getResourceShouldReturnNullForAnUnknownResource()
       throws Exception {
@@ -2,6 +2,8 @@ package org.pitest.mutationtest.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -27,6 +29,25 @@ public class MutationDetailsTest {
     assertThat(actual.mayPoisonJVM()).isTrue();
   }
   
+  @Test
+  public void shouldKeepDuplicatesWhenCopied() {
+    final MutationDetails duplicate = MutationDetailsMother.aMutationDetail()
+        .build();
+    final MutationDetails testee = MutationDetailsMother.aMutationDetail()
+        .build().withDuplicates(Collections.singletonList(duplicate));
+
+    assertThat(testee.withDescription("foo").getDuplicates())
+        .containsExactly(duplicate);
+    assertThat(testee.withPoisonStatus(PoisonStatus.MAY_POISON_JVM)
+        .getDuplicates()).containsExactly(duplicate);
+  }
+
+  @Test
+  public void shouldHaveNoDuplicatesByDefault() {
+    assertThat(MutationDetailsMother.aMutationDetail().build()
+        .getDuplicates()).isEmpty();
+  }
+
   @Test
   public void shouldDefaultFilenameWhenNoneKnown() {
     final MutationDetails testee = MutationDetailsMother
@@ -0,0 +1,215 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.MetaMutant;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+import sun.pitest.ActiveMutant;
+
+public class MetaMutantWriterTest extends MutatorTestBase {
+
+  @Before
+  public void setUp() {
+    this.engine = new GregorMutater(new ClassPathByteArraySource(), i -> true,
+        Mutator.all(), true);
+  }
+
+  @Test
+  public void shouldNotCreateMetaMutantsWhenNotInSchemataMode() {
+    createTesteeWith(Mutator.all());
+    final List<MutationDetails> mutations = findMutationsFor(
+        HasMutantsInSeveralMethods.class);
+    assertThat(this.engine.getMetaMutant(idsOf(mutations))).isEmpty();
+  }
+
+  @Test
+  public void shouldBehaveAsOriginalWhenNoMutantActive() throws Exception {
+    final MetaMutant meta = createMetaMutant(HasMutantsInSeveralMethods.class);
+    final Mutant anyMutant = new Mutant(
+        findMutationsFor(HasMutantsInSeveralMethods.class).get(0),
+        meta.getBytes());
+
+    assertEquals(new HasMutantsInSeveralMethods().call(),
+        mutateAndCall(activating(ActiveMutant.NONE,
+            new HasMutantsInSeveralMethods()), anyMutant));
+  }
+
+  @Test
+  public void shouldBehaveAsEachMutantWhenItIsActive() throws Exception {
+    final List<MutationDetails> mutations = findMutationsFor(
+        HasMutantsInSeveralMethods.class);
+    final MetaMutant meta = createMetaMutant(HasMutantsInSeveralMethods.class);
+
+    for (final MutationDetails each : mutations) {
+      final Mutant individual = this.engine.getMutation(each.getId());
+      final String expected = outcomeOf(new HasMutantsInSeveralMethods(),
+          individual);
+      assertEquals(each.toString(), expected,
+          outcomeOf(activating(meta.idFor(each.getId()),
+              new HasMutantsInSeveralMethods()),
+              new Mutant(each, meta.getBytes())));
+    }
+  }
+
+  @Test
+  public void shouldLeaveOutMutantsInConstructors() {
+    final List<MutationDetails> mutations = findMutationsFor(
+        HasMutantInConstructor.class);
+    final MetaMutant meta = createMetaMutant(HasMutantInConstructor.class);
+
+    for (final MutationDetails each : mutations) {
+      assertEquals(each.toString(), !each.getMethod().name().equals("<init>"),
+          meta.contains(each.getId()));
+    }
+  }
+
+  @Test
+  public void shouldGiveMutantsOfDifferentBatchesDifferentIds() {
+    final MetaMutant first = createMetaMutant(HasMutantInConstructor.class);
+    final MetaMutant second = createMetaMutant(HasMutantInConstructor.class);
+    final MutationIdentifier id = findMutationsFor(
+        HasMutantInConstructor.class).stream()
+        .map(MutationDetails::getId)
+        .filter(first::contains)
+        .findFirst().get();
+
+    assertThat(first.idFor(id)).isNotEqualTo(second.idFor(id));
+  }
+
+  @Test
+  public void shouldLimitNumberOfMutantsIncludedForEachMethod() {
+    final List<MutationDetails> mutations = findMutationsFor(
+        HasManyMutantsInOneMethod.class).stream()
+        .filter(m -> m.getMethod().name().equals("call"))
+        .collect(Collectors.toList());
+    assertThat(mutations.size()).isGreaterThan(
+        MetaMutantWriter.MAX_COPIES_PER_METHOD);
+
+    final MetaMutant meta = createMetaMutant(HasManyMutantsInOneMethod.class);
+
+    assertThat(mutations.stream().filter(m -> meta.contains(m.getId()))
+        .count()).isEqualTo(MetaMutantWriter.MAX_COPIES_PER_METHOD);
+  }
+
+  private MetaMutant createMetaMutant(final Class<?> clazz) {
+    final Optional<MetaMutant> meta = this.engine.getMetaMutant(idsOf(
+        findMutationsFor(clazz)));
+    assertThat(meta).isPresent();
+    return meta.get();
+  }
+
+  private String outcomeOf(final Callable<String> callable,
+      final Mutant mutant) {
+    try {
+      return mutateAndCall(callable, mutant);
+    } catch (final RuntimeException ex) {
+      return ex.getClass().getName();
+    }
+  }
+
+  private static List<MutationIdentifier> idsOf(
+      final List<MutationDetails> mutations) {
+    return mutations.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+  }
+
+  private static Callable<String> activating(final int id,
+      final Callable<String> child) {
+    return new Activating(id, child);
+  }
+
+  // loaded by the same loader as the meta mutant, so sets the ActiveMutant it
+  // reads
+  private static class Activating implements Callable<String> {
+    private final int              id;
+    private final Callable<String> child;
+
+    Activating(final int id, final Callable<String> child) {
+      this.id = id;
+      this.child = child;
+    }
+
+    @Override
+    public String call() throws Exception {
+      ActiveMutant.activate(this.id);
+      try {
+        return this.child.call();
+      } finally {
+        ActiveMutant.clear();
+      }
+    }
+  }
+
+  private static class HasMutantsInSeveralMethods implements
+      Callable<String> {
+
+    @Override
+    public String call() {
+      return add(2, 3) + ":" + compare(2, 3) + ":" + recover(4);
+    }
+
+    private int add(final int a, final int b) {
+      return a + b;
+    }
+
+    private boolean compare(final int a, final int b) {
+      return a < b;
+    }
+
+    private int recover(final int a) {
+      try {
+        if (a > 3) {
+          throw new IllegalStateException();
+        }
+        return a * 2;
+      } catch (final IllegalStateException ex) {
+        return a - 1;
+      }
+    }
+
+  }
+
+  private static class HasManyMutantsInOneMethod implements Callable<String> {
+
+    private int a = 1;
+    private int b = 2;
+
+    @Override
+    public String call() {
+      return "" + (((this.a + this.b) - (this.a * this.b))
+          + ((this.a / this.b) - (this.a % this.b))
+          + ((this.a & this.b) - (this.a | this.b)));
+    }
+
+  }
+
+  private static class HasMutantInConstructor implements Callable<String> {
+
+    private final int value;
+
+    HasMutantInConstructor() {
+      this.value = 1 + 2;
+    }
+
+    @Override
+    public String call() {
+      return "" + (this.value + 1);
+    }
+
+  }
+
+}
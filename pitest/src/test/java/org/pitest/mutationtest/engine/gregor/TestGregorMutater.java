@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.engine.gregor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -22,9 +23,16 @@ import static org.junit.Assert.assertTrue;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -340,6 +348,34 @@ public class TestGregorMutater extends MutatorTestBase {
                                                                     // target?
   }
 
+  @Test
+  public void shouldCreateSameMutantsInABatchAsIndividually() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    final List<Mutant> batch = this.engine.getMutations(actualDetails.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()));
+    assertEquals(2, batch.size());
+    for (int i = 0; i != actualDetails.size(); i++) {
+      final Mutant individual = this.engine.getMutation(actualDetails.get(i).getId());
+      assertEquals(actualDetails.get(i), batch.get(i).getDetails());
+      assertArrayEquals(individual.getBytes(), batch.get(i).getBytes());
+    }
+  }
+
+  @Test
+  public void shouldCopyMethodsWithoutTheMutationUnchanged() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    final Mutant mutant = getFirstMutant(actualDetails);
+    final byte[] original = ClassloaderByteArraySource.fromContext()
+        .getBytes(HasTwoMutableMethods.class.getName()).get();
+    assertEquals(methodAsText(original, "(I)I"),
+        methodAsText(mutant.getBytes(), "(I)I"));
+    assertThat(methodAsText(mutant.getBytes(), "()I"))
+        .isNotEqualTo(methodAsText(original, "()I"));
+  }
+
   @Test
   public void shouldNotMutateCompilerGeneratedConditionalsInStringSwitch() {
     createTesteeWith(new ResourceFolderByteArraySource(),
@@ -349,6 +385,16 @@ public class TestGregorMutater extends MutatorTestBase {
   }
 
 
+  private static String methodAsText(final byte[] bytes, final String desc) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, 0);
+    final Textifier text = new Textifier();
+    node.methods.stream()
+    .filter(m -> m.name.equals("a") && m.desc.equals(desc))
+    .forEach(m -> m.accept(new TraceMethodVisitor(text)));
+    return text.getText().toString();
+  }
+
   private static Predicate<MutationDetails> isInFinallyBlock() {
     return a -> a.isInFinallyBlock();
   }
@@ -35,7 +35,7 @@ public class DefaultReporterTest {
     this.testee.describe(mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(MinionProtocol.readIdentifier(is), mi);
   }
 
   @Test
@@ -45,10 +45,33 @@ public class DefaultReporterTest {
     final MutationStatusTestPair ms = new MutationStatusTestPair(2,
         DetectionStatus.KILLED, "foo");
     this.testee.report(mi, ms);
+    this.testee.done(ExitCode.OK);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(MinionProtocol.readIdentifier(is), mi);
+    assertEquals(MinionProtocol.readStatus(is), ms);
+  }
+
+  @Test
+  public void shouldSendReportWithNextDescribe() throws IOException {
+    final MutationIdentifier first = aMutationId().withIndex(0).build();
+    final MutationIdentifier second = aMutationId().withIndex(1).build();
+    this.testee.describe(first);
+    final int afterDescribe = this.os.size();
+    this.testee.report(first, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, "foo"));
+    assertEquals(afterDescribe, this.os.size());
+
+    this.testee.describe(second);
+
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.DESCRIBE, is.readByte());
+    assertEquals(first, MinionProtocol.readIdentifier(is));
+    assertEquals(Id.REPORT, is.readByte());
+    assertEquals(first, MinionProtocol.readIdentifier(is));
+    MinionProtocol.readStatus(is);
+    assertEquals(Id.DESCRIBE, is.readByte());
+    assertEquals(second, MinionProtocol.readIdentifier(is));
   }
 
   private SafeDataInputStream resultToStream() {
@@ -0,0 +1,123 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MinionProtocolTest {
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+  private final SafeDataOutputStream  os    = new SafeDataOutputStream(
+      this.bytes);
+
+  @Test
+  public void shouldRoundTripMutationIdentifiers() {
+    final MutationIdentifier id = new MutationIdentifier(
+        aLocation("com.example.Foo").withMethod("bar").build(),
+        Arrays.asList(3, 7), "mutator");
+    MinionProtocol.writeIdentifier(this.os, id);
+    MinionProtocol.writeIdentifier(this.os, id);
+
+    final SafeDataInputStream is = input();
+    assertThat(MinionProtocol.readIdentifier(is)).isEqualTo(id);
+    assertThat(MinionProtocol.readIdentifier(is)).isEqualTo(id);
+  }
+
+  @Test
+  public void shouldRoundTripStatuses() {
+    final MutationStatusTestPair killed = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("a", "b"), Arrays.asList("c"));
+    final MutationStatusTestPair noLists = new MutationStatusTestPair(0,
+        DetectionStatus.TIMED_OUT, null, null);
+    MinionProtocol.writeStatus(this.os, killed);
+    MinionProtocol.writeStatus(this.os, noLists);
+
+    final SafeDataInputStream is = input();
+    assertThat(MinionProtocol.readStatus(is)).isEqualTo(killed);
+    assertThat(MinionProtocol.readStatus(is)).isEqualTo(noLists);
+  }
+
+  @Test
+  public void shouldRoundTripMinionArguments() {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withIndex(2).build(), "Foo.java", "desc", 12, 3, true,
+        PoisonStatus.MAY_POISON_JVM);
+    final TestInfo test = new TestInfo("com.example.FooTest",
+        "com.example.FooTest.test", 42,
+        Optional.of(ClassName.fromString("com.example.Foo")), 7);
+    details.addTestsInOrder(Arrays.asList(test,
+        new TestInfo("Other", "Other.test", 1, Optional.empty(), 1)));
+    final MinionArguments args = new MinionArguments(
+        Collections.singletonList(details),
+        Arrays.asList(ClassName.fromString("com.example.FooTest")), "gregor",
+        EngineArguments.arguments(),
+        new PercentAndConstantTimeoutStrategy(1.5f, 100), true, false,
+        TestPluginArguments.defaults());
+
+    MinionProtocol.writeArguments(this.os, args);
+    final MinionArguments actual = MinionProtocol.readArguments(input());
+
+    final MutationDetails actualDetails = actual.mutations.iterator().next();
+    assertThat(actualDetails).isEqualTo(details);
+    assertThat(actualDetails.getFilename()).isEqualTo("Foo.java");
+    assertThat(actualDetails.getLineNumber()).isEqualTo(12);
+    assertThat(actualDetails.getBlock()).isEqualTo(3);
+    assertThat(actualDetails.isInFinallyBlock()).isTrue();
+    assertThat(actualDetails.getPoisonStatus())
+        .isEqualTo(PoisonStatus.MAY_POISON_JVM);
+    assertThat(actualDetails.getTestsInOrder()).isEqualTo(
+        details.getTestsInOrder());
+    final TestInfo actualTest = actualDetails.getTestsInOrder().get(0);
+    assertThat(actualTest.getTime()).isEqualTo(42);
+    assertThat(actualTest.getNumberOfBlocksCovered()).isEqualTo(7);
+    assertThat(actualTest.getTestee())
+        .contains(ClassName.fromString("com.example.Foo"));
+    assertThat(actual.testClasses).isEqualTo(args.testClasses);
+    assertThat(actual.engine).isEqualTo("gregor");
+    assertThat(actual.isVerbose()).isTrue();
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectArgumentsFromADifferentProtocolVersion() {
+    this.os.writeInt(MinionProtocol.VERSION + 1);
+    MinionProtocol.readArguments(input());
+  }
+
+  @Test
+  public void shouldRoundTripArgumentsWithNoMutations() {
+    final MinionArguments args = new MinionArguments(new ArrayList<>(),
+        new ArrayList<>(), "gregor", EngineArguments.arguments(),
+        new PercentAndConstantTimeoutStrategy(1, 100), false, false,
+        TestPluginArguments.defaults());
+    MinionProtocol.writeArguments(this.os, args);
+    assertThat(MinionProtocol.readArguments(input()).mutations).isEmpty();
+  }
+
+  private SafeDataInputStream input() {
+    return new SafeDataInputStream(new ByteArrayInputStream(
+        this.bytes.toByteArray()));
+  }
+
+}
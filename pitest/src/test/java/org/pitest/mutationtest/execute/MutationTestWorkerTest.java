@@ -1,6 +1,8 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -11,17 +13,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MetaMutant;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -56,6 +63,79 @@ public class MutationTestWorkerTest {
     MockitoAnnotations.initMocks(this);
     this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
         this.loader, false);
+    when(this.mutater.getMutations(any(Collection.class))).thenAnswer(
+        createEachMutant());
+    when(this.mutater.getMetaMutant(any(Collection.class))).thenReturn(
+        Optional.<MetaMutant> empty());
+  }
+
+  @Test
+  public void shouldInsertMetaMutantOnceForAllMutantsItContains()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final byte[] metaBytes = new byte[1];
+    final Map<MutationIdentifier, Integer> ids = new HashMap<>();
+    ids.put(mutantOne.getId(), 1);
+    ids.put(mutantTwo.getId(), 2);
+    when(this.mutater.getMetaMutant(any(Collection.class))).thenReturn(
+        Optional.of(new MetaMutant(ClassName.fromString("foo"), metaBytes,
+            ids)));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.hotswapper, times(1)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.mutater, never()).getMutation(any(MutationIdentifier.class));
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED,
+            new ArrayList<>(), new ArrayList<>()));
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED,
+            new ArrayList<>(), new ArrayList<>()));
+  }
+
+  @Test
+  public void shouldHotswapMutantsNotInMetaMutantIndividually()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    when(this.mutater.getMetaMutant(any(Collection.class))).thenReturn(
+        Optional.of(new MetaMutant(ClassName.fromString("foo"), new byte[1],
+            Collections.singletonMap(mutantOne.getId(), 1))));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter,
+        this.testSource);
+
+    verify(this.mutater).getMutations(
+        Collections.singletonList(mutantTwo.getId()));
+    verify(this.hotswapper, times(2)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldCreateMutantsForTheSameClassTogether() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails mutantThree = makeMutant("bar", 1);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne,
+        mutantTwo, mutantThree);
+    this.testee.run(range, this.reporter, this.testSource);
+    verify(this.mutater).getMutations(
+        Arrays.asList(mutantOne.getId(), mutantTwo.getId()));
+    verify(this.mutater).getMutations(
+        Collections.singletonList(mutantThree.getId()));
   }
 
   @Test
@@ -162,6 +242,18 @@ public class MutationTestWorkerTest {
     };
   }
 
+  private Answer<List<Mutant>> createEachMutant() {
+    return invocation -> {
+      final Collection<MutationIdentifier> ids = (Collection<MutationIdentifier>) invocation
+          .getArguments()[0];
+      final List<Mutant> mutants = new ArrayList<>();
+      for (final MutationIdentifier each : ids) {
+        mutants.add(this.mutater.getMutation(each));
+      }
+      return mutants;
+    };
+  }
+
   public MutationDetails makeMutant(final String clazz, final int index) {
     final MutationIdentifier id = aMutationId()
         .withLocation(aLocation().withClass(ClassName.fromString(clazz)))
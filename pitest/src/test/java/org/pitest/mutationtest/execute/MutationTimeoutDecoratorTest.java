@@ -14,12 +14,17 @@
  */
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -64,6 +69,57 @@ public class MutationTimeoutDecoratorTest {
     verify(this.sideEffect, never()).apply();
   }
 
+  @Test
+  public void shouldExecuteChildOnADaemonThread() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000l);
+    final List<Thread> threads = new ArrayList<>();
+    doAnswer(invocation -> {
+      threads.add(Thread.currentThread());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+
+    assertThat(threads).hasSize(1);
+    assertThat(threads.get(0)).isNotSameAs(Thread.currentThread());
+    assertThat(threads.get(0).isDaemon()).isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseThreadsBetweenExecutions() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000l);
+    final List<Thread> threads = new ArrayList<>();
+    doAnswer(invocation -> {
+      threads.add(Thread.currentThread());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    assertThat(threads).hasSize(2);
+    assertThat(threads.get(0)).isNotSameAs(threads.get(1));
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenChildDoesNotCompleteInAllowedTime() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(10l);
+    final CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await();
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    try {
+      this.testee.execute(this.rc);
+      verify(this.sideEffect).apply();
+    } finally {
+      release.countDown();
+    }
+  }
+
   @Test
   @Ignore("flakey")
   public void shouldApplySideEffectWhenChildRunsForLongerThanAllowedTime() {
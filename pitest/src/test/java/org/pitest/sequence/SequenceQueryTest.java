@@ -1,8 +1,10 @@
 package org.pitest.sequence;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -106,6 +108,38 @@ public class SequenceQueryTest {
     assertTrue(testee.matches(asList(1, 99, 2)));
   }
 
+  @Test
+  public void shouldMatchRepeatsOfQueriesThatMatchNothing() {
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(eq(1))
+        .zeroOrMore(QueryStart.any(Integer.class))
+        .then(eq(2))
+        .compile();
+
+    assertTrue(testee.matches(asList(1, 2)));
+    assertTrue(testee.matches(asList(1, 3, 3, 2)));
+    assertFalse(testee.matches(asList(3, 2)));
+  }
+
+  @Test
+  public void shouldStopTestingItemsOnceNoMatchIsPossible() {
+    final List<Integer> tested = new ArrayList<>();
+    final SequenceMatcher<Integer> testee = QueryStart
+        .match(recordingEq(1, tested))
+        .then(recordingEq(2, tested))
+        .compile();
+
+    assertFalse(testee.matches(asList(1, 3, 2, 2, 2)));
+    assertEquals(Arrays.asList(1, 3), tested);
+  }
+
+  private Match<Integer> recordingEq(final int i, final List<Integer> tested) {
+    return (c, t) -> {
+      tested.add(t);
+      return t == i;
+    };
+  }
+
   private Match<Integer> eq(final int i) {
     return Match.isEqual(i);
   }
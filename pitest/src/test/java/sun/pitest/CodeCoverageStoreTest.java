@@ -14,14 +14,19 @@
  */
 package sun.pitest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -90,12 +95,72 @@ public class CodeCoverageStoreTest {
     final int classId = CodeCoverageStore.registerClass("foo");
 
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.markClassHit(classId, ar);
     ar[1] = true;
     CodeCoverageStore.reset();
 
     final Collection<Long> actual = CodeCoverageStore.getHits();
     assertEquals(Collections.emptyList(), actual);
+    assertThat(ar).containsOnly(false);
+  }
+
+  @Test
+  public void shouldVisitClassOnceWhenMarkedHitRepeatedly() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassHit(classId, ar);
+    CodeCoverageStore.markClassHit(classId, ar);
+
+    final List<Integer> visited = new ArrayList<>();
+    CodeCoverageStore.visitHits((id, probes) -> visited.add(id));
+    assertEquals(Collections.singletonList(classId), visited);
+  }
+
+  @Test
+  public void shouldTrackClassesHitAgainAfterReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassHit(classId, ar);
+    CodeCoverageStore.reset();
+    CodeCoverageStore.markClassHit(classId, ar);
+    ar[2] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldNotReportHitsFromMethodRunningAcrossReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassHit(classId, ar);
+    CodeCoverageStore.reset();
+    // method entered before the reset carries on without marking the class
+    ar[1] = true;
+    CodeCoverageStore.reset();
+
+    CodeCoverageStore.markClassHit(classId, ar);
+    ar[2] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldVisitOnlyClassesHitSinceReset() {
+    final int hit = CodeCoverageStore.registerClass("foo");
+    final boolean[] hitProbes = CodeCoverageStore.getOrRegisterClassProbes(hit,
+        2);
+    final int notHit = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.getOrRegisterClassProbes(notHit, 2);
+    CodeCoverageStore.markClassHit(hit, hitProbes);
+    hitProbes[2] = true;
+
+    final Map<Integer, boolean[]> visited = new HashMap<>();
+    CodeCoverageStore.visitHits((id, probes) -> visited.put(id, probes.clone()));
+
+    assertEquals(Collections.singleton(hit), visited.keySet());
+    assertThat(visited.get(hit)).containsExactly(true, false, true);
   }
 
   @Test